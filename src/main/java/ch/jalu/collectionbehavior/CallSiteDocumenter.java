@@ -0,0 +1,34 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.CallSiteAnalyzer;
+import ch.jalu.collectionbehavior.documentation.CallSiteDocumentation;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documents how list methods slow down when the same code receives lists of many different types.
+ */
+public class CallSiteDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        CallSiteDocumenter documenter = new CallSiteDocumenter();
+
+        documenter.document();
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "call_sites.md");
+    }
+
+    private void document() {
+        CallSiteDocumentation documentation = new CallSiteDocumentation("Mixing list types at one call site");
+        documentation.setCallSiteCosts(CallSiteAnalyzer.analyzeCallSites());
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,62 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.ThroughputAnalyzer;
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.ConcurrencyDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documents the throughput of thread-safe collections when they are shared by a growing number of threads,
+ * for workloads with different ratios of reads and writes. The synchronized wrappers and their concurrent
+ * counterparts are also compared on platform and on virtual threads.
+ */
+public class ConcurrentDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        ConcurrentDocumenter documenter = new ConcurrentDocumenter();
+
+        documenter.document(ThroughputAnalyzer.forMap(MapCreator.ConcurrentHashMap()), "JDK ConcurrentHashMap", true);
+        documenter.document(ThroughputAnalyzer.forMap(MapCreator.Collections_synchronizedMap(MapCreator.HashMap())),
+            "JDK Collections#synchronizedMap (HashMap)", true);
+        documenter.document(ThroughputAnalyzer.forMap(MapCreator.ConcurrentSkipListMap()),
+            "JDK ConcurrentSkipListMap", false);
+        documenter.document(ThroughputAnalyzer.forSet(SetCreator.ConcurrentHashMap_newKeySet()),
+            "JDK ConcurrentHashMap#newKeySet", true);
+        documenter.document(ThroughputAnalyzer.forSet(SetCreator.Collections_synchronizedSet(SetCreator.HashSet())),
+            "JDK Collections#synchronizedSet (HashSet)", true);
+        documenter.document(ThroughputAnalyzer.forSet(SetCreator.ConcurrentSkipListSet()),
+            "JDK ConcurrentSkipListSet", false);
+        documenter.document(ThroughputAnalyzer.forSet(SetCreator.CopyOnWriteArraySet()),
+            "JDK CopyOnWriteArraySet", false);
+        documenter.document(ThroughputAnalyzer.forList(ListCreator.CopyOnWriteArrayList()),
+            "JDK CopyOnWriteArrayList", true);
+        documenter.document(
+            ThroughputAnalyzer.forList(ListCreator.Collections_synchronizedList(ListCreator.ArrayList())),
+            "JDK Collections#synchronizedList (ArrayList)", true);
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "concurrent.md");
+    }
+
+    private void document(ThroughputAnalyzer analyzer, String description, boolean compareThreadKinds) {
+        ConcurrencyDocumentation documentation = new ConcurrencyDocumentation(description);
+        documentation.setReadOperation(analyzer.getReadOperation());
+        documentation.setWriteOperation(analyzer.getWriteOperation());
+        documentation.setThroughputMeasurements(analyzer.analyzeThroughput());
+        documentation.setAvailableProcessors(Runtime.getRuntime().availableProcessors());
+        if (compareThreadKinds) {
+            documentation.setThreadKindMeasurements(analyzer.analyzeThreadKinds());
+        }
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,54 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.ConversionAnalyzer;
+import ch.jalu.collectionbehavior.analysis.ConversionAnalyzer.Source;
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.ConversionDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Documents the cost of converting collections of the documented types to lists and sets, e.g. with
+ * {@code new ArrayList<>(c)} or {@code List.copyOf(c)}.
+ */
+public class ConversionDocumenter {
+
+    private static final int[] SIZES = { 100_000, 1_000_000 };
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        ConversionDocumenter documenter = new ConversionDocumenter();
+        ConversionAnalyzer analyzer = new ConversionAnalyzer(List.of(
+            new Source("JDK ArrayList", ListCreator.ArrayList()::createList),
+            new Source("JDK LinkedList", ListCreator.LinkedList()::createList),
+            new Source("JDK List#of", ListCreator.List_of()::createList),
+            new Source("JDK Arrays#asList", ListCreator.Arrays_asList()::createList),
+            new Source("JDK Collections#unmodifiableList", ListCreator.Collections_unmodifiableList()::createList),
+            new Source("JDK Stream#toList", ListCreator.Stream_toList()::createList),
+            new Source("Guava ImmutableList#copyOf", ListCreator.Guava_ImmutableList_copyOf()::createList),
+            new Source("JDK HashSet", SetCreator.HashSet()::createSet),
+            new Source("JDK LinkedHashSet", SetCreator.LinkedHashSet()::createSet),
+            new Source("JDK TreeSet", SetCreator.TreeSet()::createSet),
+            new Source("JDK Set#of", SetCreator.Set_of()::createSet),
+            new Source("JDK Collections#unmodifiableSet", SetCreator.Collections_unmodifiableSet()::createSet),
+            new Source("Guava ImmutableSet#copyOf", SetCreator.Guava_ImmutableSet_copyOf()::createSet)));
+
+        for (int size : SIZES) {
+            String description = String.format(Locale.ROOT, "Conversions of %,d elements", size);
+            ConversionDocumentation documentation = new ConversionDocumentation(description, size);
+            documentation.setConversionCosts(analyzer.analyzeConversions(size));
+            documenter.documentations.add(documentation);
+        }
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "conversion.md");
+    }
+}
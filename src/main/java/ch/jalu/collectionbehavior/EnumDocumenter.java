@@ -0,0 +1,62 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.EnumKeyAnalyzer;
+import ch.jalu.collectionbehavior.creator.EnumMapCreator;
+import ch.jalu.collectionbehavior.creator.EnumSetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.EnumKeyDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documents sets and maps of enum constants: which class is used depending on the number of constants, and how
+ * their footprint and speed compare with general-purpose sets and maps.
+ */
+public class EnumDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+    private final EnumKeyAnalyzer analyzer = new EnumKeyAnalyzer();
+
+    static void main() {
+        EnumDocumenter documenter = new EnumDocumenter();
+
+        Map<String, EnumSetCreator> setCreators = new LinkedHashMap<>();
+        setCreators.put("JDK EnumSet", EnumSetCreator.EnumSet());
+        setCreators.put("JDK HashSet", EnumSetCreator.HashSet());
+        setCreators.put("JDK Set#copyOf", EnumSetCreator.Set_copyOf());
+        setCreators.put("Guava ImmutableSet#copyOf", EnumSetCreator.Guava_ImmutableSet_copyOf());
+        setCreators.put("Guava Sets#immutableEnumSet", EnumSetCreator.Guava_Sets_immutableEnumSet());
+        documenter.documentSets(setCreators);
+
+        Map<String, EnumMapCreator> mapCreators = new LinkedHashMap<>();
+        mapCreators.put("JDK EnumMap", EnumMapCreator.EnumMap());
+        mapCreators.put("JDK HashMap", EnumMapCreator.HashMap());
+        mapCreators.put("JDK Map#copyOf", EnumMapCreator.Map_copyOf());
+        mapCreators.put("Guava ImmutableMap#copyOf", EnumMapCreator.Guava_ImmutableMap_copyOf());
+        mapCreators.put("Guava Maps#immutableEnumMap", EnumMapCreator.Guava_Maps_immutableEnumMap());
+        documenter.documentMaps(mapCreators);
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "enums.md");
+    }
+
+    private void documentSets(Map<String, EnumSetCreator> creators) {
+        EnumKeyDocumentation documentation = new EnumKeyDocumentation("Enum-keyed sets");
+        documentation.setLookupMethod("contains(e)");
+        documentation.setCosts(analyzer.analyzeSets(creators));
+        documentations.add(documentation);
+    }
+
+    private void documentMaps(Map<String, EnumMapCreator> creators) {
+        EnumKeyDocumentation documentation = new EnumKeyDocumentation("Enum-keyed maps");
+        documentation.setLookupMethod("get(k)");
+        documentation.setCosts(analyzer.analyzeMaps(creators));
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,97 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.GrowthAnalyzer;
+import ch.jalu.collectionbehavior.analysis.GrowthAnalyzer.Construction;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.GrowthDocumentation;
+import ch.jalu.collectionbehavior.documentation.GrowthMeasurement;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Documents how the mutable collection types grow and what presizing them saves.
+ * <p>
+ * Inserts up to 10 million elements; the JVM needs a heap of about 2 GB.
+ */
+public class GrowthDocumenter {
+
+    private static final int[] PRESIZING_SIZES = { 1_000, 100_000, 10_000_000 };
+    private static final int GROWTH_CURVE_SIZE = 10_000_000;
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        GrowthDocumenter documenter = new GrowthDocumenter();
+
+        documenter.document("JDK ArrayList", List::add, List.of(
+            new Construction<List<Integer>>("new ArrayList<>()", n -> new ArrayList<>()),
+            new Construction<>("new ArrayList<>(n)", ArrayList::new),
+            new Construction<>("Lists.newArrayListWithExpectedSize(n)", Lists::newArrayListWithExpectedSize)));
+        documenter.document("JDK HashMap", GrowthDocumenter::putInMap, List.of(
+            new Construction<Map<Integer, Integer>>("new HashMap<>()", n -> new HashMap<>()),
+            new Construction<>("new HashMap<>(n)", HashMap::new),
+            new Construction<>("HashMap.newHashMap(n)", HashMap::newHashMap),
+            new Construction<>("Maps.newHashMapWithExpectedSize(n)", Maps::newHashMapWithExpectedSize)));
+        documenter.document("JDK LinkedHashMap", GrowthDocumenter::putInMap, List.of(
+            new Construction<Map<Integer, Integer>>("new LinkedHashMap<>()", n -> new LinkedHashMap<>()),
+            new Construction<>("new LinkedHashMap<>(n)", LinkedHashMap::new),
+            new Construction<>("LinkedHashMap.newLinkedHashMap(n)", LinkedHashMap::newLinkedHashMap),
+            new Construction<>("Maps.newLinkedHashMapWithExpectedSize(n)", Maps::newLinkedHashMapWithExpectedSize)));
+        documenter.document("JDK HashSet", Collection::add, List.of(
+            new Construction<Collection<Integer>>("new HashSet<>()", n -> new HashSet<>()),
+            new Construction<>("new HashSet<>(n)", HashSet::new),
+            new Construction<>("HashSet.newHashSet(n)", HashSet::newHashSet),
+            new Construction<>("Sets.newHashSetWithExpectedSize(n)", Sets::newHashSetWithExpectedSize)));
+        documenter.document("JDK LinkedHashSet", Collection::add, List.of(
+            new Construction<Collection<Integer>>("new LinkedHashSet<>()", n -> new LinkedHashSet<>()),
+            new Construction<>("new LinkedHashSet<>(n)", LinkedHashSet::new),
+            new Construction<>("LinkedHashSet.newLinkedHashSet(n)", LinkedHashSet::newLinkedHashSet),
+            new Construction<>("Sets.newLinkedHashSetWithExpectedSize(n)", Sets::newLinkedHashSetWithExpectedSize)));
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "growth.md");
+    }
+
+    /**
+     * Documents the growth of a collection type.
+     *
+     * @param description the description of the type
+     * @param insertion function inserting an element into the collection
+     * @param constructions the constructions to compare, the first one being the default constructor
+     * @param <C> the collection type
+     */
+    private <C> void document(String description, BiConsumer<C, Integer> insertion,
+                              List<Construction<C>> constructions) {
+        GrowthDocumentation documentation = new GrowthDocumentation(description);
+        GrowthAnalyzer<C> analyzer = new GrowthAnalyzer<>(insertion);
+        documentation.setDefaultGrowth(analyzer.measure(constructions.getFirst(), GROWTH_CURVE_SIZE));
+
+        List<GrowthMeasurement> presizingComparison = new ArrayList<>();
+        for (int size : PRESIZING_SIZES) {
+            for (Construction<C> construction : constructions) {
+                presizingComparison.add(analyzer.measure(construction, size));
+            }
+        }
+        documentation.setPresizingComparison(presizingComparison);
+
+        documentations.add(documentation);
+    }
+
+    private static void putInMap(Map<Integer, Integer> map, Integer element) {
+        map.put(element, element);
+    }
+}
@@ -0,0 +1,74 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.HashCollisionAnalyzer;
+import ch.jalu.collectionbehavior.analysis.ProbeLengthAnalyzer;
+import ch.jalu.collectionbehavior.analysis.ProbeLengthAnalyzer.HashTable;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.HashCollisionMeasurement;
+import ch.jalu.collectionbehavior.documentation.HashingDocumentation;
+import ch.jalu.collectionbehavior.documentation.ProbeLengthStats;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documents how hash-based sets and maps behave with keys whose hash codes collide.
+ */
+public class HashingDocumenter {
+
+    /** Number of JVMs in which probe lengths are measured, to show whether they vary between JVM runs. */
+    private static final int PROBE_LENGTH_JVM_RUNS = 5;
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+    private Map<HashTable, List<ProbeLengthStats>> probeLengths;
+
+    static void main() {
+        HashingDocumenter documenter = new HashingDocumenter();
+        documenter.probeLengths = ProbeLengthAnalyzer.analyzeProbeLengths(PROBE_LENGTH_JVM_RUNS);
+
+        documenter.document(HashCollisionAnalyzer.forSet(SetCreator.HashSet()), "JDK HashSet", null);
+        documenter.document(HashCollisionAnalyzer.forSet(SetCreator.Set_of()), "JDK Set#of", HashTable.JDK_SET_N);
+        documenter.document(HashCollisionAnalyzer.forSet(SetCreator.Set_copyOf()), "JDK Set#copyOf",
+            HashTable.JDK_SET_N);
+        documenter.document(HashCollisionAnalyzer.forSet(SetCreator.Guava_ImmutableSet_copyOf()),
+            "Guava ImmutableSet#copyOf", HashTable.GUAVA_IMMUTABLE_SET);
+        documenter.document(HashCollisionAnalyzer.forMap(MapCreator.HashMap()), "JDK HashMap", null);
+        documenter.document(HashCollisionAnalyzer.forMap(MapCreator.Map_ofEntries()), "JDK Map#ofEntries",
+            HashTable.JDK_MAP_N);
+        documenter.document(HashCollisionAnalyzer.forMap(MapCreator.Map_copyOf()), "JDK Map#copyOf",
+            HashTable.JDK_MAP_N);
+        documenter.document(HashCollisionAnalyzer.forMap(MapCreator.Guava_ImmutableMap_copyOf()),
+            "Guava ImmutableMap#copyOf", HashTable.GUAVA_IMMUTABLE_MAP);
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "hashing.md");
+    }
+
+    /**
+     * Documents the given hash-based type.
+     *
+     * @param analyzer the collision analyzer for the type
+     * @param description the description of the type
+     * @param hashTable the hash table whose probe lengths apply to the type, null if not applicable
+     */
+    private void document(HashCollisionAnalyzer<?> analyzer, String description, HashTable hashTable) {
+        HashingDocumentation documentation = new HashingDocumentation(description);
+        List<HashCollisionMeasurement> measurements = analyzer.measureCollisions();
+        documentation.setCollisionMeasurements(measurements);
+        documentation.setCollidingLookupComplexity(
+            HashCollisionAnalyzer.estimateLookupComplexity(measurements, true));
+        documentation.setCollidingCreationComplexity(
+            HashCollisionAnalyzer.estimateCreationComplexity(measurements, true));
+        if (hashTable != null) {
+            documentation.setProbeLengths(probeLengths.get(hashTable));
+        }
+
+        documentations.add(documentation);
+    }
+}
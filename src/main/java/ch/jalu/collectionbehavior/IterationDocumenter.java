@@ -0,0 +1,140 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.IteratorAnalyzer;
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.IterationDocumentation;
+import ch.jalu.collectionbehavior.documentation.IteratorConsistency;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+import ch.jalu.collectionbehavior.util.MeasurementUtils.Measurement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Documents the iterators of lists, sets and maps: their cost per element and how they behave if the collection
+ * is modified while iterating.
+ */
+public class IterationDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        IterationDocumenter documenter = new IterationDocumenter();
+
+        documenter.document(IteratorAnalyzer.forList(ListCreator.ArrayList()), "JDK ArrayList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.LinkedList()), "JDK LinkedList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.CopyOnWriteArrayList()),
+            "JDK CopyOnWriteArrayList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.List_of()), "JDK List#of");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.List_copyOf()), "JDK List#copyOf");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Arrays_asList()), "JDK Arrays#asList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Guava_ImmutableList_of()),
+            "Guava ImmutableList#of");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Guava_ImmutableList_copyOf()),
+            "Guava ImmutableList#copyOf");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Collections_emptyList()),
+            "JDK Collections#emptyList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Collections_singletonList()),
+            "JDK Collections#singletonList");
+        documenter.document(IteratorAnalyzer.forListView(ArrayList::new, Collections::unmodifiableList),
+            "JDK Collections#unmodifiableList (view of an ArrayList)");
+        documenter.document(IteratorAnalyzer.forList(
+            ListCreator.Collections_synchronizedList(ListCreator.ArrayList())),
+            "JDK Collections#synchronizedList (view of an ArrayList)");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Collectors_toList()), "JDK Collectors#toList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Collectors_toUnmodifiableList()),
+            "JDK Collectors#toUnmodifiableList");
+        documenter.document(IteratorAnalyzer.forList(ListCreator.Stream_toList()), "JDK Stream#toList");
+
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.HashSet()), "JDK HashSet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.LinkedHashSet()), "JDK LinkedHashSet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.TreeSet()), "JDK TreeSet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.ConcurrentSkipListSet()), "JDK ConcurrentSkipListSet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.CopyOnWriteArraySet()), "JDK CopyOnWriteArraySet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.ConcurrentHashMap_newKeySet()),
+            "JDK ConcurrentHashMap#newKeySet");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.Set_of()), "JDK Set#of");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.Set_copyOf()), "JDK Set#copyOf");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.Guava_ImmutableSet_copyOf()),
+            "Guava ImmutableSet#copyOf");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.Guava_ImmutableSortedSet_copyOf()),
+            "Guava ImmutableSortedSet#copyOf");
+        documenter.document(IteratorAnalyzer.forSetView(HashSet::new, Collections::unmodifiableSet),
+            "JDK Collections#unmodifiableSet (view of a HashSet)");
+        documenter.document(IteratorAnalyzer.forSetView(LinkedHashSet::new, Collections::unmodifiableSequencedSet),
+            "JDK Collections#unmodifiableSequencedSet (view of a LinkedHashSet)");
+        documenter.document(IteratorAnalyzer.forSetView(TreeSet::new, Collections::unmodifiableNavigableSet),
+            "JDK Collections#unmodifiableNavigableSet (view of a TreeSet)");
+        documenter.document(IteratorAnalyzer.forSet(SetCreator.Collections_synchronizedSet(SetCreator.HashSet())),
+            "JDK Collections#synchronizedSet (view of a HashSet)");
+
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.HashMap()), "JDK HashMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.LinkedHashMap()), "JDK LinkedHashMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.TreeMap()), "JDK TreeMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.ConcurrentHashMap()), "JDK ConcurrentHashMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.ConcurrentSkipListMap()),
+            "JDK ConcurrentSkipListMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.IdentityHashMap()), "JDK IdentityHashMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.WeakHashMap()), "JDK WeakHashMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Map_ofEntries()), "JDK Map#ofEntries");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Map_copyOf()), "JDK Map#copyOf");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Guava_ImmutableMap_copyOf()),
+            "Guava ImmutableMap#copyOf");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Guava_ImmutableMap_ofEntries()),
+            "Guava ImmutableMap#ofEntries");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Guava_ImmutableSortedMap_copyOf()),
+            "Guava ImmutableSortedMap#copyOf");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Collections_emptyMap()), "JDK Collections#emptyMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Collections_singletonMap()),
+            "JDK Collections#singletonMap");
+        documenter.document(IteratorAnalyzer.forMapView(HashMap::new, Collections::unmodifiableMap),
+            "JDK Collections#unmodifiableMap (view of a HashMap)");
+        documenter.document(IteratorAnalyzer.forMapView(LinkedHashMap::new, Collections::unmodifiableSequencedMap),
+            "JDK Collections#unmodifiableSequencedMap (view of a LinkedHashMap)");
+        documenter.document(IteratorAnalyzer.forMapView(TreeMap::new, Collections::unmodifiableNavigableMap),
+            "JDK Collections#unmodifiableNavigableMap (view of a TreeMap)");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Collections_synchronizedMap(MapCreator.HashMap())),
+            "JDK Collections#synchronizedMap (view of a HashMap)");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Collectors_toMap()), "JDK Collectors#toMap");
+        documenter.document(IteratorAnalyzer.forMap(MapCreator.Collectors_toUnmodifiableMap()),
+            "JDK Collectors#toUnmodifiableMap");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "iteration.md");
+    }
+
+    private void document(IteratorAnalyzer analyzer, String description) {
+        IterationDocumentation documentation = new IterationDocumentation(description);
+        documentation.setIteratorClass(analyzer.determineIteratorClass());
+        IteratorConsistency consistency = analyzer.determineConsistency();
+        documentation.setConsistency(consistency);
+
+        Measurement iteration = analyzer.measureIteration();
+        if (iteration != null) {
+            documentation.setNanosPerElement(perElement(iteration));
+            documentation.setIteratorBytes(iteration.allocatedBytes());
+        }
+        Measurement iterationWithWriter = analyzer.measureIterationWithConcurrentWriter(consistency);
+        if (iterationWithWriter != null) {
+            documentation.setNanosPerElementWithWriter(perElement(iterationWithWriter));
+        }
+
+        documentations.add(documentation);
+    }
+
+    private static double perElement(Measurement measurement) {
+        return (double) measurement.nanos() / IteratorAnalyzer.getMeasurementSize();
+    }
+}
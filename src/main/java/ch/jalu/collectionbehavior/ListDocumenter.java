@@ -1,15 +1,16 @@
 package ch.jalu.collectionbehavior;
 
+import ch.jalu.collectionbehavior.analysis.BulkOperationAnalyzer;
 import ch.jalu.collectionbehavior.analysis.ListAnalyzer;
 import ch.jalu.collectionbehavior.analysis.ListIteratorAnalyzer;
 import ch.jalu.collectionbehavior.analysis.ListIteratorMethodAnalyzer;
 import ch.jalu.collectionbehavior.analysis.ListMethodAnalyzer;
+import ch.jalu.collectionbehavior.analysis.RemovalIdiomAnalyzer;
+import ch.jalu.collectionbehavior.analysis.StreamSourcingAnalyzer;
 import ch.jalu.collectionbehavior.creator.ListCreator;
-import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
 import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
 import ch.jalu.collectionbehavior.documentation.ListDocumentation;
 import ch.jalu.collectionbehavior.documentation.ListIteratorDocumentation;
-import ch.jalu.collectionbehavior.documentation.Range;
 import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
 
 import java.util.ArrayList;
@@ -24,6 +25,7 @@ public class ListDocumenter {
 
         documenter.document(ListCreator.ArrayList(), "JDK ArrayList");
         documenter.document(ListCreator.LinkedList(), "JDK LinkedList");
+        documenter.document(ListCreator.CopyOnWriteArrayList(), "JDK CopyOnWriteArrayList");
         documenter.document(ListCreator.List_of(), "JDK List#of");
         documenter.document(ListCreator.List_copyOf(), "JDK List#copyOf");
         documenter.document(ListCreator.Arrays_asList(), "JDK Arrays#asList");
@@ -46,12 +48,11 @@ public class ListDocumenter {
     private void document(ListCreator listCreator, String description) {
         ListDocumentation doc = createDocumentation(listCreator, description);
 
-        ListCreator subListCreator = new SubListCreator(listCreator, doc.getSupportedSize());
+        ListCreator subListCreator = ListCreator.List_subList(listCreator, doc.getSupportedSize());
         createDocumentation(subListCreator, description + " (sublist)");
         createDocumentationForListIterator(listCreator, description + " (listIterator)");
 
-        ReversedListCreator reversedListCreator = new ReversedListCreator(listCreator);
-        createDocumentation(reversedListCreator, description + " (reversed)");
+        createDocumentation(ListCreator.List_reversed(listCreator), description + " (reversed)");
     }
 
     private ListDocumentation createDocumentation(ListCreator listCreator, String description) {
@@ -69,6 +70,10 @@ public class ListDocumenter {
         documentation.setSupportsNullArguments(methodAnalyzer.getSupportsNullArguments());
         documentation.setModificationBehaviors(methodAnalyzer.getModificationBehaviors());
         documentation.setBackingStructureBehaviors(analyzer.determineBackingStructureBehaviors());
+        documentation.setCreationCost(analyzer.determineCreationCost());
+        documentation.setBulkOperationCosts(new BulkOperationAnalyzer(listCreator).analyzeBulkOperations());
+        documentation.setRemovalIdiomCosts(new RemovalIdiomAnalyzer(listCreator).analyzeRemovalIdioms());
+        documentation.setStreamSourcingCosts(new StreamSourcingAnalyzer(listCreator).analyzeStreamSourcing());
 
         documentations.add(documentation);
         return documentation;
@@ -85,66 +90,4 @@ public class ListDocumenter {
         documentation.setSupportsNullArguments(methodAnalyzer.getSupportsNullElements());
         documentations.add(documentation);
     }
-
-    private static final class SubListCreator extends ListCreator {
-
-        private final ListCreator parent;
-        private final boolean usePadding;
-
-        private SubListCreator(ListCreator parent, Range parentRange) {
-            this.parent = parent;
-            this.usePadding = parentRange.min() == 0 && parentRange.max() == null;
-        }
-
-        @Override
-        public List<String> createAbcdListOrLargestSubset() {
-            List<String> abcdOrSubset = parent.createAbcdListOrLargestSubset();
-            boolean padElements = abcdOrSubset.size() == 4;
-            return createList(abcdOrSubset.toArray(String[]::new), padElements);
-        }
-
-        @Override
-        public List<String> createList(String... elements) throws SizeNotSupportedException {
-            return createList(elements, usePadding);
-        }
-
-        private List<String> createList(String[] elements, boolean usePadding) {
-            if (!usePadding) {
-                return parent.createList(elements).subList(0, elements.length);
-            }
-
-            String[] paddedElements = padElements(elements);
-            List<String> list = parent.createList(paddedElements);
-            return list.subList(1, paddedElements.length - 1);
-        }
-
-        private static String[] padElements(String[] elements) {
-            String[] paddedElements = new String[2 + elements.length];
-
-            paddedElements[0] = "0";
-            System.arraycopy(elements, 0, paddedElements, 1, elements.length);
-            paddedElements[paddedElements.length - 1] = "0";
-
-            return paddedElements;
-        }
-    }
-
-    private static final class ReversedListCreator extends ListCreator {
-
-        private final ListCreator parent;
-
-        private ReversedListCreator(ListCreator parent) {
-            this.parent = parent;
-        }
-
-        @Override
-        public List<String> createList(String... elements) throws SizeNotSupportedException {
-            return parent.createList(elements).reversed();
-        }
-
-        @Override
-        public List<String> createAbcdListOrLargestSubset() {
-            return parent.createAbcdListOrLargestSubset().reversed();
-        }
-    }
 }
@@ -0,0 +1,64 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.BoxingAnalyzer;
+import ch.jalu.collectionbehavior.analysis.EntryIterationAnalyzer;
+import ch.jalu.collectionbehavior.analysis.LinearProbingAnalyzer;
+import ch.jalu.collectionbehavior.analysis.StaleEntryAnalyzer;
+import ch.jalu.collectionbehavior.analysis.ViewCachingAnalyzer;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.MapDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MapDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        MapDocumenter documenter = new MapDocumenter();
+
+        documenter.document(MapCreator.HashMap(), "JDK HashMap");
+        documenter.document(MapCreator.LinkedHashMap(), "JDK LinkedHashMap");
+        documenter.document(MapCreator.TreeMap(), "JDK TreeMap");
+        documenter.document(MapCreator.Guava_ImmutableSortedMap_copyOf(), "Guava ImmutableSortedMap#copyOf");
+        documenter.document(MapCreator.ConcurrentHashMap(), "JDK ConcurrentHashMap");
+        documenter.document(MapCreator.ConcurrentSkipListMap(), "JDK ConcurrentSkipListMap");
+        documenter.document(MapCreator.IdentityHashMap(), "JDK IdentityHashMap")
+            .setProbingLookupCosts(new LinearProbingAnalyzer().analyzeLookups());
+        documenter.document(MapCreator.WeakHashMap(), "JDK WeakHashMap")
+            .setStaleEntryCosts(new StaleEntryAnalyzer(MapCreator.WeakHashMap()).analyzeStaleEntries());
+        documenter.document(MapCreator.Map_ofEntries(), "JDK Map#ofEntries");
+        documenter.document(MapCreator.Map_copyOf(), "JDK Map#copyOf");
+        documenter.document(MapCreator.Guava_ImmutableMap_ofEntries(), "Guava ImmutableMap#ofEntries");
+        documenter.document(MapCreator.Guava_ImmutableMap_copyOf(), "Guava ImmutableMap#copyOf");
+        documenter.document(MapCreator.Collections_unmodifiableMap(), "JDK Collections#unmodifiableMap");
+        documenter.document(MapCreator.Collections_unmodifiableSequencedMap(),
+            "JDK Collections#unmodifiableSequencedMap");
+        documenter.document(MapCreator.Collections_unmodifiableNavigableMap(),
+            "JDK Collections#unmodifiableNavigableMap");
+        documenter.document(MapCreator.Collections_emptyMap(), "JDK Collections#emptyMap");
+        documenter.document(MapCreator.Collections_singletonMap(), "JDK Collections#singletonMap");
+        documenter.document(MapCreator.Collectors_toMap(), "JDK Collectors#toMap");
+        documenter.document(MapCreator.Collectors_toUnmodifiableMap(), "JDK Collectors#toUnmodifiableMap");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "maps.md");
+    }
+
+    private MapDocumentation document(MapCreator mapCreator, String description) {
+        MapDocumentation documentation = new MapDocumentation(description);
+        EntryIterationAnalyzer entryIterationAnalyzer = new EntryIterationAnalyzer(mapCreator);
+        documentation.setEntryClass(entryIterationAnalyzer.determineEntryClass());
+        documentation.setEntryIterationCosts(entryIterationAnalyzer.analyzeEntryIteration());
+        documentation.setViewCachingBehaviors(new ViewCachingAnalyzer(mapCreator).analyzeViewCaching());
+        documentation.setBoxingCosts(new BoxingAnalyzer(mapCreator).analyzeBoxing());
+
+        documentations.add(documentation);
+        return documentation;
+    }
+}
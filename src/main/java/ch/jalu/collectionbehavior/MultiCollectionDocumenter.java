@@ -0,0 +1,71 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.MultiCollectionAnalyzer;
+import ch.jalu.collectionbehavior.creator.BiMapCreator;
+import ch.jalu.collectionbehavior.creator.MultimapCreator;
+import ch.jalu.collectionbehavior.creator.MultisetCreator;
+import ch.jalu.collectionbehavior.creator.TableCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documents Guava's multimaps, multisets, bimaps and tables: how their methods and views behave, and how their
+ * footprint and speed compare with the structures of JDK collections they replace.
+ */
+public class MultiCollectionDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        MultiCollectionDocumenter documenter = new MultiCollectionDocumenter();
+
+        Map<String, MultimapCreator> multimapCreators = new LinkedHashMap<>();
+        multimapCreators.put("Guava ArrayListMultimap", MultimapCreator.ArrayListMultimap());
+        multimapCreators.put("Guava HashMultimap", MultimapCreator.HashMultimap());
+        multimapCreators.put("Guava LinkedHashMultimap", MultimapCreator.LinkedHashMultimap());
+        multimapCreators.put("Guava ImmutableListMultimap", MultimapCreator.Guava_ImmutableListMultimap());
+        documenter.document(MultiCollectionAnalyzer.forMultimaps(multimapCreators), "Multimaps",
+            "key-value pair", "get(k)", "entries()");
+
+        Map<String, MultisetCreator> multisetCreators = new LinkedHashMap<>();
+        multisetCreators.put("Guava HashMultiset", MultisetCreator.HashMultiset());
+        multisetCreators.put("Guava ImmutableMultiset", MultisetCreator.Guava_ImmutableMultiset());
+        documenter.document(MultiCollectionAnalyzer.forMultisets(multisetCreators), "Multisets",
+            "distinct element", "count(e)", "entrySet()");
+
+        Map<String, BiMapCreator> biMapCreators = new LinkedHashMap<>();
+        biMapCreators.put("Guava HashBiMap", BiMapCreator.HashBiMap());
+        biMapCreators.put("Guava ImmutableBiMap", BiMapCreator.Guava_ImmutableBiMap());
+        documenter.document(MultiCollectionAnalyzer.forBiMaps(biMapCreators), "Bimaps",
+            "key-value pair", "inverse().get(v)", "entrySet()");
+
+        Map<String, TableCreator> tableCreators = new LinkedHashMap<>();
+        tableCreators.put("Guava HashBasedTable", TableCreator.HashBasedTable());
+        tableCreators.put("Guava ImmutableTable", TableCreator.Guava_ImmutableTable());
+        documenter.document(MultiCollectionAnalyzer.forTables(tableCreators), "Tables",
+            "cell", "get(r, c)", "cellSet()");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "multi_collections.md");
+    }
+
+    private void document(MultiCollectionAnalyzer<?> analyzer, String description, String entryDescription,
+                          String lookupMethod, String iterationMethod) {
+        MultiCollectionDocumentation documentation = new MultiCollectionDocumentation(description);
+        documentation.setEntryDescription(entryDescription);
+        documentation.setLookupMethod(lookupMethod);
+        documentation.setIterationMethod(iterationMethod);
+        documentation.setInitialContentsByType(analyzer.determineInitialContents());
+        documentation.setMethodBehaviorsByType(analyzer.analyzeMethodBehaviors());
+        documentation.setCosts(analyzer.analyzeCosts());
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,85 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.ComparatorAnalyzer;
+import ch.jalu.collectionbehavior.analysis.RangeViewAnalyzer;
+import ch.jalu.collectionbehavior.analysis.SortedLookupAnalyzer;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.ComparatorDocumentation;
+import ch.jalu.collectionbehavior.documentation.OrderingDocumentation;
+import ch.jalu.collectionbehavior.documentation.SortedLookupDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+
+/**
+ * Documents the cost of operations that are specific to sorted sets and maps, of lookups in sorted and range types,
+ * and of the comparators they use.
+ */
+public class OrderingDocumenter {
+
+    /** Length of the prefix the keys have in common when comparators are measured, e.g. like long paths. */
+    private static final int KEY_PREFIX_LENGTH = 64;
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        OrderingDocumenter documenter = new OrderingDocumenter();
+
+        documenter.documentSet(SetCreator.TreeSet(), "JDK TreeSet");
+        documenter.documentSet(SetCreator.Collections_unmodifiableNavigableSet(),
+            "JDK Collections#unmodifiableNavigableSet");
+        documenter.documentSet(SetCreator.Guava_ImmutableSortedSet_copyOf(), "Guava ImmutableSortedSet#copyOf");
+        documenter.documentMap(MapCreator.TreeMap(), "JDK TreeMap");
+        documenter.documentMap(MapCreator.Collections_unmodifiableNavigableMap(),
+            "JDK Collections#unmodifiableNavigableMap");
+        documenter.documentMap(MapCreator.Guava_ImmutableSortedMap_copyOf(), "Guava ImmutableSortedMap#copyOf");
+
+        documenter.documentLookups("Lookups in sorted sets and maps", "contains(e) / containsKey(k)",
+            SortedLookupAnalyzer.forSortedSetsAndMaps());
+        documenter.documentLookups("Lookups in range sets and maps", "contains(p) / get(p) / floorEntry(p)",
+            SortedLookupAnalyzer.forRangeSetsAndMaps());
+        documenter.documentComparators();
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "ordering.md");
+    }
+
+    private void documentLookups(String description, String lookupMethod, SortedLookupAnalyzer<?> analyzer) {
+        SortedLookupDocumentation documentation = new SortedLookupDocumentation(description);
+        documentation.setLookupMethod(lookupMethod);
+        documentation.setCosts(analyzer.analyzeCosts());
+        documentations.add(documentation);
+    }
+
+    private void documentComparators() {
+        ComparatorDocumentation documentation = new ComparatorDocumentation(
+            "Comparators on keys with a long common prefix", KEY_PREFIX_LENGTH);
+        ComparatorAnalyzer analyzer = new ComparatorAnalyzer(KEY_PREFIX_LENGTH);
+        documentation.setComparatorCosts(analyzer.analyzeComparators());
+        documentation.setSortedStrategyCosts(analyzer.analyzeSortedStrategies());
+        documentations.add(documentation);
+    }
+
+    private void documentSet(SetCreator setCreator, String description) {
+        OrderingDocumentation documentation = new OrderingDocumentation(description);
+        RangeViewAnalyzer<NavigableSet<String>> rangeViewAnalyzer =
+            RangeViewAnalyzer.forSet(elements -> (NavigableSet<String>) setCreator.createSet(elements));
+        documentation.setRangeViewCosts(rangeViewAnalyzer.analyzeRangeViews());
+        documentations.add(documentation);
+    }
+
+    private void documentMap(MapCreator mapCreator, String description) {
+        OrderingDocumentation documentation = new OrderingDocumentation(description);
+        RangeViewAnalyzer<NavigableMap<String, Integer>> rangeViewAnalyzer =
+            RangeViewAnalyzer.forMap(keys -> (NavigableMap<String, Integer>) mapCreator.createMap(keys));
+        documentation.setRangeViewCosts(rangeViewAnalyzer.analyzeRangeViews());
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,47 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.ProducerConsumerAnalyzer;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.ProducerConsumerDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.function.Supplier;
+
+/**
+ * Documents the throughput and latency of blocking queues that pass items from producers to consumers, with one or
+ * more producers and consumers on platform or virtual threads.
+ */
+public class ProducerConsumerDocumenter {
+
+    /** Capacity of the bounded queues, so that producers cannot run arbitrarily far ahead of consumers. */
+    private static final int CAPACITY = 1024;
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        ProducerConsumerDocumenter documenter = new ProducerConsumerDocumenter();
+
+        documenter.document(() -> new ArrayBlockingQueue<>(CAPACITY), "JDK ArrayBlockingQueue (capacity 1024)");
+        documenter.document(() -> new LinkedBlockingQueue<>(CAPACITY), "JDK LinkedBlockingQueue (capacity 1024)");
+        documenter.document(LinkedTransferQueue::new, "JDK LinkedTransferQueue (unbounded)");
+        documenter.document(SynchronousQueue::new, "JDK SynchronousQueue (no capacity)");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "producer_consumer.md");
+    }
+
+    private void document(Supplier<BlockingQueue<Object>> queueFactory, String description) {
+        ProducerConsumerDocumentation documentation = new ProducerConsumerDocumentation(description);
+        documentation.setMeasurements(new ProducerConsumerAnalyzer(queueFactory).analyze());
+        documentations.add(documentation);
+    }
+}
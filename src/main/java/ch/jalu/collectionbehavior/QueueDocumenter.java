@@ -0,0 +1,49 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.QueueAnalyzer;
+import ch.jalu.collectionbehavior.creator.QueueCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.QueueDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documents queues and deques: the results of their methods when empty or full, their capacity, and the cost
+ * of their methods, flagging the ones that traverse all elements.
+ */
+public class QueueDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        QueueDocumenter documenter = new QueueDocumenter();
+
+        documenter.document(QueueCreator.ArrayDeque(), "JDK ArrayDeque");
+        documenter.document(QueueCreator.LinkedList(), "JDK LinkedList");
+        documenter.document(QueueCreator.PriorityQueue(), "JDK PriorityQueue");
+        documenter.document(QueueCreator.ConcurrentLinkedQueue(), "JDK ConcurrentLinkedQueue");
+        documenter.document(QueueCreator.ConcurrentLinkedDeque(), "JDK ConcurrentLinkedDeque");
+        documenter.document(QueueCreator.LinkedBlockingQueue(), "JDK LinkedBlockingQueue");
+        documenter.document(QueueCreator.LinkedBlockingDeque(), "JDK LinkedBlockingDeque");
+        documenter.document(QueueCreator.ArrayBlockingQueue(), "JDK ArrayBlockingQueue");
+        documenter.document(QueueCreator.LinkedTransferQueue(), "JDK LinkedTransferQueue");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "queues.md");
+    }
+
+    private void document(QueueCreator queueCreator, String description) {
+        QueueDocumentation documentation = new QueueDocumentation(description);
+        QueueAnalyzer analyzer = new QueueAnalyzer(queueCreator);
+        documentation.setQueueClass(analyzer.determineQueueClass());
+        documentation.setNullElementSupport(analyzer.determineNullElementSupport());
+        documentation.setCapacity(analyzer.determineCapacity());
+        documentation.setMethodBehaviors(analyzer.determineMethodBehaviors());
+        documentation.setOperationCosts(analyzer.analyzeOperationCosts());
+        documentations.add(documentation);
+    }
+}
@@ -0,0 +1,101 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.SequencedOperationAnalyzer;
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.SequencedDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SequencedCollection;
+import java.util.SequencedMap;
+import java.util.SequencedSet;
+import java.util.function.Function;
+
+/**
+ * Documents the cost of the methods of {@link SequencedCollection} and {@link SequencedMap} for the sequenced
+ * types and their reversed views.
+ * <p>
+ * Collections#emptyList and Collections#singletonList are left out as they cannot have the measured sizes.
+ * Deques are documented by {@link QueueDocumenter}.
+ */
+public class SequencedDocumenter {
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        SequencedDocumenter documenter = new SequencedDocumenter();
+
+        documenter.documentCollection(ListCreator.ArrayList()::createList, "JDK ArrayList");
+        documenter.documentCollection(ListCreator.LinkedList()::createList, "JDK LinkedList");
+        documenter.documentCollection(ListCreator.CopyOnWriteArrayList()::createList, "JDK CopyOnWriteArrayList");
+        documenter.documentCollection(ListCreator.Arrays_asList()::createList, "JDK Arrays#asList");
+        documenter.documentCollection(ListCreator.List_of()::createList, "JDK List#of");
+        documenter.documentCollection(ListCreator.List_copyOf()::createList, "JDK List#copyOf");
+        documenter.documentCollection(ListCreator.Guava_ImmutableList_of()::createList, "Guava ImmutableList#of");
+        documenter.documentCollection(ListCreator.Guava_ImmutableList_copyOf()::createList,
+            "Guava ImmutableList#copyOf");
+        documenter.documentCollection(ListCreator.Collections_unmodifiableList()::createList,
+            "JDK Collections#unmodifiableList");
+        documenter.documentCollection(ListCreator.Collections_synchronizedList(ListCreator.ArrayList())::createList,
+            "JDK Collections#synchronizedList (ArrayList)");
+        documenter.documentCollection(ListCreator.Collectors_toList()::createList, "JDK Collectors#toList");
+        documenter.documentCollection(ListCreator.Collectors_toUnmodifiableList()::createList,
+            "JDK Collectors#toUnmodifiableList");
+        documenter.documentCollection(ListCreator.Stream_toList()::createList, "JDK Stream#toList");
+        documenter.documentCollection(sequencedSet(SetCreator.LinkedHashSet()), "JDK LinkedHashSet");
+        documenter.documentCollection(sequencedSet(SetCreator.TreeSet()), "JDK TreeSet");
+        documenter.documentCollection(sequencedSet(SetCreator.ConcurrentSkipListSet()), "JDK ConcurrentSkipListSet");
+        documenter.documentCollection(sequencedSet(SetCreator.Guava_ImmutableSortedSet_copyOf()),
+            "Guava ImmutableSortedSet#copyOf");
+        documenter.documentCollection(sequencedSet(SetCreator.Collections_unmodifiableSequencedSet()),
+            "JDK Collections#unmodifiableSequencedSet");
+        documenter.documentCollection(sequencedSet(SetCreator.Collections_unmodifiableNavigableSet()),
+            "JDK Collections#unmodifiableNavigableSet");
+
+        documenter.documentMap(sequencedMap(MapCreator.LinkedHashMap()), "JDK LinkedHashMap");
+        documenter.documentMap(sequencedMap(MapCreator.TreeMap()), "JDK TreeMap");
+        documenter.documentMap(sequencedMap(MapCreator.ConcurrentSkipListMap()), "JDK ConcurrentSkipListMap");
+        documenter.documentMap(sequencedMap(MapCreator.Guava_ImmutableSortedMap_copyOf()),
+            "Guava ImmutableSortedMap#copyOf");
+        documenter.documentMap(sequencedMap(MapCreator.Collections_unmodifiableSequencedMap()),
+            "JDK Collections#unmodifiableSequencedMap");
+        documenter.documentMap(sequencedMap(MapCreator.Collections_unmodifiableNavigableMap()),
+            "JDK Collections#unmodifiableNavigableMap");
+
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "sequenced.md");
+    }
+
+    private void documentCollection(Function<String[], ? extends SequencedCollection<String>> creator,
+                                    String description) {
+        document(SequencedOperationAnalyzer.forCollection(creator::apply), description);
+        document(SequencedOperationAnalyzer.forCollection(elements -> creator.apply(elements).reversed()),
+            description + " (reversed)");
+    }
+
+    private void documentMap(Function<String[], SequencedMap<String, Integer>> creator, String description) {
+        document(SequencedOperationAnalyzer.forMap(creator), description);
+        document(SequencedOperationAnalyzer.forMap(keys -> creator.apply(keys).reversed()),
+            description + " (reversed)");
+    }
+
+    private void document(SequencedOperationAnalyzer<?> analyzer, String description) {
+        SequencedDocumentation documentation = new SequencedDocumentation(description);
+        documentation.setOperationCosts(analyzer.analyzeOperations());
+        documentations.add(documentation);
+    }
+
+    private static Function<String[], SequencedCollection<String>> sequencedSet(SetCreator setCreator) {
+        return elements -> (SequencedSet<String>) setCreator.createSet(elements);
+    }
+
+    private static Function<String[], SequencedMap<String, Integer>> sequencedMap(MapCreator mapCreator) {
+        return keys -> (SequencedMap<String, Integer>) mapCreator.createMap(keys);
+    }
+}
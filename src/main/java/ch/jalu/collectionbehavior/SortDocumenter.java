@@ -0,0 +1,66 @@
+package ch.jalu.collectionbehavior;
+
+import ch.jalu.collectionbehavior.analysis.SortAnalyzer;
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.Range;
+import ch.jalu.collectionbehavior.documentation.SortDocumentation;
+import ch.jalu.collectionbehavior.documentation.export.DocumentationExporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Documents the cost of {@link List#sort} for all list types. Collections#emptyList and Collections#singletonList
+ * are left out as they cannot have more than one element.
+ * <p>
+ * Sorts up to 10 million elements; the JVM needs a heap of about 3 GB.
+ */
+public class SortDocumenter {
+
+    /** Size range of the documented types, which all support any number of elements. */
+    private static final Range ANY_SIZE = new Range(0, null);
+
+    private final List<CollectionDocumentation> documentations = new ArrayList<>();
+
+    static void main() {
+        SortDocumenter documenter = new SortDocumenter();
+
+        documenter.document(ListCreator.ArrayList(), "JDK ArrayList");
+        documenter.documentViews(ListCreator.ArrayList(), "JDK ArrayList");
+        documenter.document(ListCreator.LinkedList(), "JDK LinkedList");
+        documenter.documentViews(ListCreator.LinkedList(), "JDK LinkedList");
+        documenter.document(ListCreator.CopyOnWriteArrayList(), "JDK CopyOnWriteArrayList");
+        documenter.documentViews(ListCreator.CopyOnWriteArrayList(), "JDK CopyOnWriteArrayList");
+        documenter.document(ListCreator.Arrays_asList(), "JDK Arrays#asList");
+        documenter.documentViews(ListCreator.Arrays_asList(), "JDK Arrays#asList");
+        documenter.document(ListCreator.List_of(), "JDK List#of");
+        documenter.document(ListCreator.List_copyOf(), "JDK List#copyOf");
+        documenter.document(ListCreator.Guava_ImmutableList_of(), "Guava ImmutableList#of");
+        documenter.document(ListCreator.Guava_ImmutableList_copyOf(), "Guava ImmutableList#copyOf");
+        documenter.document(ListCreator.Collections_unmodifiableList(), "JDK Collections#unmodifiableList");
+        documenter.document(ListCreator.Collections_synchronizedList(ListCreator.ArrayList()),
+            "JDK Collections#synchronizedList (ArrayList)");
+        documenter.document(ListCreator.Collectors_toList(), "JDK Collectors#toList");
+        documenter.document(ListCreator.Collectors_toUnmodifiableList(), "JDK Collectors#toUnmodifiableList");
+        documenter.document(ListCreator.Stream_toList(), "JDK Stream#toList");
+        documenter.documentations.forEach(System.out::println);
+
+        DocumentationExporter exporter = new DocumentationExporter();
+        exporter.writeMarkdown(documenter.documentations, "sort.md");
+    }
+
+    private void document(ListCreator listCreator, String description) {
+        SortDocumentation documentation = new SortDocumentation(description);
+        documentation.setSortCosts(new SortAnalyzer(listCreator).analyzeSort());
+        documentations.add(documentation);
+    }
+
+    /**
+     * Documents the sublist and the reversed view of the lists of the given creator.
+     */
+    private void documentViews(ListCreator listCreator, String description) {
+        document(ListCreator.List_subList(listCreator, ANY_SIZE), description + " (sublist)");
+        document(ListCreator.List_reversed(listCreator), description + " (reversed)");
+    }
+}
@@ -0,0 +1,134 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.BoxingCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Separates the allocations caused by boxing {@code int} values from the allocations of the map's structure.
+ * Each operation is measured with values that {@link Integer#valueOf} returns from its cache and with values that
+ * need a new {@code Integer} object; the difference is the cost of boxing.
+ */
+public class BoxingAnalyzer {
+
+    private static final int SIZE = 10_000;
+    private static final int RUNS = 20;
+    /** Base value whose increments are in the Integer cache. */
+    private static final int CACHED_BASE_VALUE = 0;
+    /** Base value whose increments are outside the Integer cache. */
+    private static final int UNCACHED_BASE_VALUE = 1_000;
+
+    private final MapCreator mapCreator;
+    private final String[] keys = ElementUtils.createElements(SIZE);
+    private final String[] newKeys = Arrays.stream(keys).map(key -> "new" + key).toArray(String[]::new);
+
+    public BoxingAnalyzer(MapCreator mapCreator) {
+        this.mapCreator = mapCreator;
+    }
+
+    /**
+     * Measures all operations with cached and uncached values.
+     *
+     * @return the cost of each operation; empty if the map cannot be modified
+     */
+    public List<BoxingCost> analyzeBoxing() {
+        try {
+            createMap(CACHED_BASE_VALUE);
+        } catch (UnsupportedOperationException | SizeNotSupportedException e) {
+            return List.of();
+        }
+
+        return Arrays.stream(Operation.values())
+            .map(operation -> new BoxingCost(operation.code,
+                measureBytesPerCall(operation, CACHED_BASE_VALUE),
+                measureBytesPerCall(operation, UNCACHED_BASE_VALUE)))
+            .toList();
+    }
+
+    private double measureBytesPerCall(Operation operation, int baseValue) {
+        long bytes = MeasurementUtils.measure(() -> createMap(baseValue), map -> {
+            operation.perform(map, operation.usesNewKeys ? newKeys : keys, baseValue);
+            return map;
+        }, RUNS).allocatedBytes();
+        return (double) bytes / SIZE;
+    }
+
+    /**
+     * Creates a map with all {@link #keys}, each mapped to the given value.
+     */
+    private Map<String, Integer> createMap(int baseValue) {
+        Map<String, Integer> map = mapCreator.createMap(keys);
+        map.replaceAll((key, value) -> baseValue);
+        return map;
+    }
+
+    private enum Operation {
+
+        PUT_NEW_KEYS("put(newKey, value)", true) {
+            @Override
+            void perform(Map<String, Integer> map, String[] keys, int baseValue) {
+                for (String key : keys) {
+                    map.put(key, baseValue + 1);
+                }
+            }
+        },
+
+        PUT("put(key, value)", false) {
+            @Override
+            void perform(Map<String, Integer> map, String[] keys, int baseValue) {
+                for (String key : keys) {
+                    map.put(key, baseValue + 1);
+                }
+            }
+        },
+
+        MERGE("merge(key, 1, Integer::sum)", false) {
+            @Override
+            void perform(Map<String, Integer> map, String[] keys, int baseValue) {
+                for (String key : keys) {
+                    map.merge(key, 1, Integer::sum);
+                }
+            }
+        },
+
+        COMPUTE("compute(key, (k, v) -> v + 1)", false) {
+            @Override
+            void perform(Map<String, Integer> map, String[] keys, int baseValue) {
+                for (String key : keys) {
+                    map.compute(key, (k, v) -> v + 1);
+                }
+            }
+        },
+
+        REPLACE_ALL("replaceAll((k, v) -> v + 1)", false) {
+            @Override
+            void perform(Map<String, Integer> map, String[] keys, int baseValue) {
+                map.replaceAll((k, v) -> v + 1);
+            }
+        };
+
+        private final String code;
+        /** Whether the operation is performed with keys that are not in the map yet. */
+        private final boolean usesNewKeys;
+
+        Operation(String code, boolean usesNewKeys) {
+            this.code = code;
+            this.usesNewKeys = usesNewKeys;
+        }
+
+        /**
+         * Performs the operation once per key (or, for bulk operations, once for the whole map).
+         *
+         * @param map the map to modify, whose values are all equal to the base value
+         * @param keys the keys to perform the operation with
+         * @param baseValue the value of all entries in the map
+         */
+        abstract void perform(Map<String, Integer> map, String[] keys, int baseValue);
+    }
+}
@@ -0,0 +1,144 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.BulkOperationCost;
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Measures the bulk methods {@code removeAll}, {@code retainAll} and {@code containsAll} with arguments of
+ * different collection types at growing sizes. The cost of these methods usually depends on the argument's
+ * {@code contains} method: a {@code List} argument can make the call O(n·m).
+ */
+public class BulkOperationAnalyzer {
+
+    /** Sizes of the list; the argument always has half as many elements. */
+    private static final int[] SIZES = { 1_000, 4_000, 16_000, 64_000, 100_000 };
+    private static final int RUNS = 3;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+    /** Larger sizes are skipped once a call takes longer than this, as happens for O(n·m) calls. */
+    private static final long TIME_BUDGET_NANOS = 20_000_000L;
+
+    private final ListCreator listCreator;
+
+    public BulkOperationAnalyzer(ListCreator listCreator) {
+        this.listCreator = listCreator;
+    }
+
+    /**
+     * Measures all bulk methods with all argument types.
+     *
+     * @return the cost of each method and argument type combination; empty if the list type cannot have
+     *         as many elements as are needed
+     */
+    public List<BulkOperationCost> analyzeBulkOperations() {
+        try {
+            listCreator.createList(ElementUtils.createElements(SIZES[0]));
+        } catch (SizeNotSupportedException ignore) {
+            return List.of();
+        }
+
+        List<BulkOperationCost> costs = new ArrayList<>();
+        for (BulkMethod method : BulkMethod.values()) {
+            for (ArgumentType argumentType : ArgumentType.values()) {
+                costs.add(measure(method, argumentType));
+            }
+        }
+        return costs;
+    }
+
+    private BulkOperationCost measure(BulkMethod method, ArgumentType argumentType) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        try {
+            String[] elements = ElementUtils.createElements(SIZES[0]);
+            Collection<String> argument = argumentType.create(everySecondElement(elements));
+            MeasurementUtils.measure(() -> listCreator.createList(elements.clone()),
+                list -> method.call(list, argument), WARM_UP_RUNS);
+        } catch (UnsupportedOperationException e) {
+            return new BulkOperationCost(method.methodName, argumentType.description,
+                null, nanosBySize, e.getClass().getSimpleName());
+        }
+
+        for (int size : SIZES) {
+            String[] elements = ElementUtils.createElements(size);
+            Collection<String> argument = argumentType.create(everySecondElement(elements));
+
+            long nanos;
+            try {
+                nanos = MeasurementUtils.measure(() -> listCreator.createList(elements.clone()),
+                    list -> method.call(list, argument), RUNS).nanos();
+            } catch (UnsupportedOperationException e) {
+                return new BulkOperationCost(method.methodName, argumentType.description,
+                    null, nanosBySize, e.getClass().getSimpleName());
+            }
+
+            nanosBySize.put(size, nanos);
+            if (nanos > TIME_BUDGET_NANOS) {
+                break;
+            }
+        }
+
+        // The first size may already exceed the time budget, in which case the complexity cannot be estimated
+        Complexity complexity = nanosBySize.size() >= 2 ? ComplexityEstimator.estimate(nanosBySize) : null;
+        return new BulkOperationCost(method.methodName, argumentType.description, complexity, nanosBySize, null);
+    }
+
+    private static List<String> everySecondElement(String[] elements) {
+        List<String> result = new ArrayList<>(elements.length / 2);
+        for (int i = 0; i < elements.length; i += 2) {
+            result.add(elements[i]);
+        }
+        return result;
+    }
+
+    private enum BulkMethod {
+
+        REMOVE_ALL("removeAll", List::removeAll),
+        RETAIN_ALL("retainAll", List::retainAll),
+        CONTAINS_ALL("containsAll", List::containsAll);
+
+        private final String methodName;
+        private final BiFunction<List<String>, Collection<String>, Boolean> call;
+
+        BulkMethod(String methodName, BiFunction<List<String>, Collection<String>, Boolean> call) {
+            this.methodName = methodName;
+            this.call = call;
+        }
+
+        boolean call(List<String> list, Collection<String> argument) {
+            return call.apply(list, argument);
+        }
+    }
+
+    private enum ArgumentType {
+
+        LIST("ArrayList", ArrayList::new),
+        HASH_SET("HashSet", HashSet::new),
+        TREE_SET("TreeSet", TreeSet::new);
+
+        private final String description;
+        private final Function<Collection<String>, Collection<String>> factory;
+
+        ArgumentType(String description, Function<Collection<String>, Collection<String>> factory) {
+            this.description = description;
+            this.factory = factory;
+        }
+
+        Collection<String> create(Collection<String> elements) {
+            return factory.apply(elements);
+        }
+    }
+}
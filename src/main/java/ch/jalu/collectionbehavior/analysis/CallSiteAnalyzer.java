@@ -0,0 +1,170 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.documentation.CallSiteCost;
+import ch.jalu.collectionbehavior.util.ForkedJvmRunner;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures list methods called through one call site that receives lists of one or more types. The JIT compiles
+ * calls to one or two receiver classes as direct (and inlined) calls, but has to fall back to a virtual or
+ * interface call once a call site has seen more classes, i.e. once it is megamorphic.
+ * <p>
+ * Type profiles are collected JVM-wide and never reset, so every configuration is measured in a new JVM. Lists
+ * wrapped in {@link Collections#unmodifiableList} show that wrapping does not help: the wrapper's own call to the
+ * wrapped list becomes megamorphic instead.
+ */
+public class CallSiteAnalyzer {
+
+    /** All documented list types. The first types are the ones used if only some types are mixed. */
+    private static final List<ListCreator> LIST_TYPES = List.of(
+        ListCreator.ArrayList(), ListCreator.LinkedList(), ListCreator.List_of(), ListCreator.List_copyOf(),
+        ListCreator.Arrays_asList(), ListCreator.Guava_ImmutableList_of(), ListCreator.Guava_ImmutableList_copyOf(),
+        ListCreator.Collections_emptyList(), ListCreator.Collections_singletonList(),
+        ListCreator.Collections_unmodifiableList(), ListCreator.Collectors_toList(),
+        ListCreator.Collectors_toUnmodifiableList(), ListCreator.Stream_toList());
+    private static final int[] TYPE_COUNTS = { 1, 2, 3, LIST_TYPES.size() };
+
+    /** Number of lists the call site is fed with; the list types alternate. */
+    private static final int LIST_COUNT = 1_000;
+    /** Number of times all lists are passed to the call site per measurement. */
+    private static final int REPEATS = 1_000;
+    private static final int RUNS = 11;
+    private static final int WARM_UP_RUNS = 20;
+
+    private CallSiteAnalyzer() {
+    }
+
+    /**
+     * Measures all operations with 1, 2, 3 and all list types, with and without wrapping, each configuration in
+     * a new JVM.
+     *
+     * @return the cost of each operation per configuration
+     */
+    public static List<CallSiteCost> analyzeCallSites() {
+        List<CallSiteCost> costs = new ArrayList<>();
+        for (boolean wrapped : new boolean[]{ false, true }) {
+            for (int typeCount : TYPE_COUNTS) {
+                List<String> output = ForkedJvmRunner.run(CallSiteAnalyzer.class, List.of(),
+                    String.valueOf(typeCount), String.valueOf(wrapped));
+                for (String line : output) {
+                    String[] parts = line.split(";");
+                    costs.add(new CallSiteCost(Operation.valueOf(parts[0]).code, typeCount,
+                        Integer.parseInt(parts[1]), wrapped, Double.parseDouble(parts[2])));
+                }
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Entry point of the forked JVM: measures all operations for the given number of list types and prints one
+     * line per operation.
+     *
+     * @param args the number of list types, and whether the lists should be wrapped
+     */
+    static void main(String[] args) {
+        int typeCount = Integer.parseInt(args[0]);
+        boolean wrapped = Boolean.parseBoolean(args[1]);
+        Lists lists = createLists(typeCount, wrapped);
+        long receiverClasses = Arrays.stream(lists.lists())
+            .map(Object::getClass)
+            .distinct()
+            .count();
+
+        for (Operation operation : Operation.values()) {
+            MeasurementUtils.measure(() -> lists, operation::callAll, WARM_UP_RUNS);
+            long nanos = MeasurementUtils.measure(() -> lists, operation::callAll, RUNS).nanos();
+            double nanosPerCall = (double) nanos / ((long) LIST_COUNT * REPEATS);
+            System.out.println(String.format(Locale.ROOT, "%s;%d;%f", operation, receiverClasses, nanosPerCall));
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Lists createLists(int typeCount, boolean wrapped) {
+        List<String>[] lists = new List[LIST_COUNT];
+        int[] sizes = new int[LIST_COUNT];
+        for (int i = 0; i < LIST_COUNT; ++i) {
+            List<String> list = LIST_TYPES.get(i % typeCount).createAbcdListOrLargestSubset();
+            lists[i] = wrapped ? Collections.unmodifiableList(list) : list;
+            sizes[i] = list.size();
+        }
+        return new Lists(lists, sizes);
+    }
+
+    /**
+     * Lists passed to the call site, with their sizes so that empty lists can be skipped without calling them.
+     */
+    private record Lists(List<String>[] lists, int[] sizes) {
+    }
+
+    /**
+     * Operations to measure. Each operation has its own call site, which is shared by all lists.
+     */
+    private enum Operation {
+
+        GET("list.get(i)") {
+            @Override
+            long callAll(Lists lists) {
+                long result = 0;
+                for (int repeat = 0; repeat < REPEATS; ++repeat) {
+                    for (int i = 0; i < LIST_COUNT; ++i) {
+                        int size = lists.sizes()[i];
+                        if (size > 0) {
+                            result += lists.lists()[i].get(size - 1).length();
+                        }
+                    }
+                }
+                return result;
+            }
+        },
+
+        SIZE("list.size()") {
+            @Override
+            long callAll(Lists lists) {
+                long result = 0;
+                for (int repeat = 0; repeat < REPEATS; ++repeat) {
+                    for (List<String> list : lists.lists()) {
+                        result += list.size();
+                    }
+                }
+                return result;
+            }
+        },
+
+        ITERATION("for (String s : list)") {
+            @Override
+            long callAll(Lists lists) {
+                long result = 0;
+                for (int repeat = 0; repeat < REPEATS; ++repeat) {
+                    for (List<String> list : lists.lists()) {
+                        for (String element : list) {
+                            result += element.length();
+                        }
+                    }
+                }
+                return result;
+            }
+        };
+
+        private final String code;
+
+        Operation(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Calls the operation on all lists {@link #REPEATS} times.
+         *
+         * @param lists the lists to call
+         * @return value computed from the results, so that the calls cannot be eliminated
+         */
+        abstract long callAll(Lists lists);
+    }
+}
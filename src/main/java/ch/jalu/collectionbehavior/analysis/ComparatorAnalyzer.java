@@ -0,0 +1,205 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.ComparatorCost;
+import ch.jalu.collectionbehavior.documentation.SortedStrategyCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Measures comparators on keys with a long common prefix, for which {@link String#compareTo} has to compare many
+ * characters. Compares natural ordering with comparator objects and determines when a {@link TreeMap} is cheaper
+ * than a {@link HashMap} whose keys are sorted whenever they are read in order.
+ */
+public class ComparatorAnalyzer {
+
+    private static final int COMPARISON_SIZE = 100_000;
+    private static final int[] STRATEGY_SIZES = { 1_000, 10_000, 100_000 };
+    private static final int RUNS = 5;
+    private static final int WARM_UP_RUNS = 10;
+    private static final long SHUFFLE_SEED = 1234L;
+
+    private final int prefixLength;
+
+    /**
+     * Constructor.
+     *
+     * @param prefixLength the length of the prefix all keys have in common
+     */
+    public ComparatorAnalyzer(int prefixLength) {
+        this.prefixLength = prefixLength;
+    }
+
+    /**
+     * Measures the time per comparison and the number of comparisons a TreeMap makes for all comparators.
+     *
+     * @return the cost of each comparator
+     */
+    public List<ComparatorCost> analyzeComparators() {
+        String[] keys = createShuffledKeys(COMPARISON_SIZE);
+        // All comparators go through the same loop, so warm it up with each of them before measuring any
+        for (KeyComparator comparator : KeyComparator.values()) {
+            MeasurementUtils.measure(() -> keys, k -> compareNeighbors(comparator, k), WARM_UP_RUNS);
+        }
+        return Arrays.stream(KeyComparator.values())
+            .map(comparator -> new ComparatorCost(comparator.code,
+                measureNanosPerComparison(comparator, keys),
+                countComparisonsPerInsert(comparator, keys),
+                countComparisonsPerLookup(comparator, keys)))
+            .toList();
+    }
+
+    /**
+     * Compares a TreeMap with a HashMap that is sorted on read, for all comparators and sizes.
+     *
+     * @return the cost of both strategies for each comparator and size
+     */
+    public List<SortedStrategyCost> analyzeSortedStrategies() {
+        List<SortedStrategyCost> costs = new ArrayList<>();
+        for (KeyComparator comparator : KeyComparator.values()) {
+            measureStrategies(comparator, createShuffledKeys(STRATEGY_SIZES[0]), WARM_UP_RUNS);
+            for (int size : STRATEGY_SIZES) {
+                costs.add(measureStrategies(comparator, createShuffledKeys(size), RUNS));
+            }
+        }
+        return costs;
+    }
+
+    private static double measureNanosPerComparison(KeyComparator comparator, String[] keys) {
+        long nanos = MeasurementUtils.measure(() -> keys, k -> compareNeighbors(comparator, k), RUNS).nanos();
+        return (double) nanos / (keys.length - 1);
+    }
+
+    private static Integer compareNeighbors(KeyComparator comparator, String[] keys) {
+        int result = 0;
+        for (int i = 1; i < keys.length; ++i) {
+            result += comparator.compare(keys[i - 1], keys[i]);
+        }
+        return result;
+    }
+
+    private static double countComparisonsPerInsert(KeyComparator comparator, String[] keys) {
+        CountingComparator countingComparator = new CountingComparator(comparator);
+        Map<String, Integer> map = new TreeMap<>(countingComparator);
+        for (String key : keys) {
+            map.put(key, 0);
+        }
+        return (double) countingComparator.count / keys.length;
+    }
+
+    private static double countComparisonsPerLookup(KeyComparator comparator, String[] keys) {
+        CountingComparator countingComparator = new CountingComparator(comparator);
+        Map<String, Integer> map = new TreeMap<>(countingComparator);
+        for (String key : keys) {
+            map.put(key, 0);
+        }
+        countingComparator.count = 0;
+        for (String key : keys) {
+            map.get(key);
+        }
+        return (double) countingComparator.count / keys.length;
+    }
+
+    private static SortedStrategyCost measureStrategies(KeyComparator comparator, String[] keys, int runs) {
+        long treeMapBuildNanos = MeasurementUtils.measure(() -> keys,
+            k -> fill(new TreeMap<>(comparator.comparator), k), runs).nanos();
+        long hashMapBuildNanos = MeasurementUtils.measure(() -> keys,
+            k -> fill(new HashMap<>(), k), runs).nanos();
+
+        Map<String, Integer> treeMap = fill(new TreeMap<>(comparator.comparator), keys);
+        long treeMapReadNanos = MeasurementUtils.measure(() -> treeMap,
+            map -> iterate(map.keySet()), runs).nanos();
+        Map<String, Integer> hashMap = fill(new HashMap<>(), keys);
+        long hashMapReadNanos = MeasurementUtils.measure(() -> hashMap, map -> {
+            List<String> sortedKeys = new ArrayList<>(map.keySet());
+            sortedKeys.sort(comparator.comparator);
+            return iterate(sortedKeys);
+        }, runs).nanos();
+
+        return new SortedStrategyCost(comparator.code, keys.length,
+            treeMapBuildNanos, hashMapBuildNanos, treeMapReadNanos, hashMapReadNanos);
+    }
+
+    private static Map<String, Integer> fill(Map<String, Integer> map, String[] keys) {
+        for (String key : keys) {
+            map.put(key, 0);
+        }
+        return map;
+    }
+
+    private static Integer iterate(Iterable<String> keys) {
+        int hash = 0;
+        for (String key : keys) {
+            hash += key.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Creates distinct keys with the common prefix in random order. The keys are created in the order of the array
+     * so that they are laid out in memory in that order: otherwise, the first measurements suffer from cache misses
+     * until the garbage collector happens to move the keys together.
+     */
+    private String[] createShuffledKeys(int size) {
+        List<Integer> numbers = new ArrayList<>(Arrays.asList(ElementUtils.createIntegerElements(size)));
+        Collections.shuffle(numbers, new Random(SHUFFLE_SEED));
+
+        String prefix = "p".repeat(prefixLength);
+        return numbers.stream()
+            .map(number -> prefix + number)
+            .toArray(String[]::new);
+    }
+
+    private enum KeyComparator {
+
+        NATURAL("null (natural order)", null),
+
+        LAMBDA("(a, b) -> a.compareTo(b)", (a, b) -> a.compareTo(b)),
+
+        COMPARING_IDENTITY("Comparator.comparing(s -> s)", Comparator.comparing((String s) -> s)),
+
+        COMPARING_LENGTH_FIRST("Comparator.comparing(String::length).thenComparing(naturalOrder())",
+            Comparator.comparing(String::length).thenComparing(Comparator.naturalOrder()));
+
+        private final String code;
+        /** The comparator, null for natural order. */
+        private final Comparator<String> comparator;
+
+        KeyComparator(String code, Comparator<String> comparator) {
+            this.code = code;
+            this.comparator = comparator;
+        }
+
+        int compare(String a, String b) {
+            return comparator == null ? a.compareTo(b) : comparator.compare(a, b);
+        }
+    }
+
+    /**
+     * Comparator that counts how many times it is called.
+     */
+    private static final class CountingComparator implements Comparator<String> {
+
+        private final KeyComparator comparator;
+        private long count;
+
+        CountingComparator(KeyComparator comparator) {
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(String a, String b) {
+            ++count;
+            return comparator.compare(a, b);
+        }
+    }
+}
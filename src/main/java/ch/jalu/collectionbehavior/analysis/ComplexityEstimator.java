@@ -0,0 +1,42 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import com.google.common.base.Preconditions;
+
+import java.util.SortedMap;
+
+/**
+ * Estimates the complexity of an operation based on its cost at different sizes.
+ */
+public final class ComplexityEstimator {
+
+    private ComplexityEstimator() {
+    }
+
+    /**
+     * Estimates the complexity based on the cost at the smallest and the largest size, i.e. the slope of the cost
+     * on a log-log scale: a slope of 0 means constant cost, a slope of 1 means linear growth, a slope of 2 means
+     * quadratic growth.
+     *
+     * @param costBySize the cost (time, allocated bytes...) by size
+     * @return the estimated complexity
+     */
+    public static Complexity estimate(SortedMap<Integer, Long> costBySize) {
+        Preconditions.checkArgument(costBySize.size() >= 2, "Need at least two sizes");
+        double slope = computeSlope(costBySize);
+        if (slope < 0.5) {
+            return Complexity.CONSTANT;
+        }
+        return slope < 1.5 ? Complexity.LINEAR : Complexity.QUADRATIC;
+    }
+
+    private static double computeSlope(SortedMap<Integer, Long> costBySize) {
+        int smallestSize = costBySize.firstKey();
+        int largestSize = costBySize.lastKey();
+        // Costs under 1 are treated as 1 to avoid dividing by zero, e.g. when no bytes are allocated
+        double smallestCost = Math.max(1, costBySize.get(smallestSize));
+        double largestCost = Math.max(1, costBySize.get(largestSize));
+
+        return Math.log(largestCost / smallestCost) / Math.log((double) largestSize / smallestSize);
+    }
+}
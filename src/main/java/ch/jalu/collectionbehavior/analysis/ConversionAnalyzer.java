@@ -0,0 +1,97 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.ConversionCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils.Measurement;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Measures the conversion of collections of different types to lists and sets. Conversions may call the source's
+ * {@code toArray}, iterate over it, or return the source itself if it is already of the right type.
+ */
+public class ConversionAnalyzer {
+
+    private static final int RUNS = 5;
+    private static final int WARM_UP_SIZE = 1_000;
+    private static final int WARM_UP_RUNS = 20;
+
+    private final List<Source> sources;
+
+    /**
+     * Constructor.
+     *
+     * @param sources the collection types to convert
+     */
+    public ConversionAnalyzer(List<Source> sources) {
+        this.sources = sources;
+    }
+
+    /**
+     * Measures the conversion of all sources with all conversion methods at the given size.
+     *
+     * @param size the number of elements of the sources
+     * @return the cost of each source and conversion combination
+     */
+    public List<ConversionCost> analyzeConversions(int size) {
+        String[] warmUpElements = ElementUtils.createElements(WARM_UP_SIZE);
+        String[] elements = ElementUtils.createElements(size);
+
+        List<ConversionCost> costs = new ArrayList<>();
+        for (Source source : sources) {
+            Collection<String> warmUpCollection = source.creator().apply(warmUpElements);
+            Collection<String> collection = source.creator().apply(elements);
+            for (Target target : Target.values()) {
+                MeasurementUtils.measure(() -> warmUpCollection, target.conversion, WARM_UP_RUNS);
+                Measurement measurement = MeasurementUtils.measure(() -> collection, target.conversion, RUNS);
+                costs.add(new ConversionCost(source.description(), target.code,
+                    measurement.nanos(), measurement.allocatedBytes()));
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Collection type to convert.
+     *
+     * @param description the description of the collection type
+     * @param creator function creating a collection with the given elements
+     */
+    public record Source(String description, Function<String[], Collection<String>> creator) {
+    }
+
+    private enum Target {
+
+        ARRAY_LIST_ADD_ALL("new ArrayList<>().addAll(c)", c -> {
+            List<String> list = new ArrayList<>();
+            list.addAll(c);
+            return list;
+        }),
+
+        HASH_SET_ADD_ALL("new HashSet<>().addAll(c)", c -> {
+            HashSet<String> set = new HashSet<>();
+            set.addAll(c);
+            return set;
+        }),
+
+        ARRAY_LIST_CONSTRUCTOR("new ArrayList<>(c)", ArrayList::new),
+
+        LIST_COPY_OF("List.copyOf(c)", List::copyOf),
+
+        IMMUTABLE_LIST_COPY_OF("ImmutableList.copyOf(c)", ImmutableList::copyOf);
+
+        private final String code;
+        private final Function<Collection<String>, Collection<String>> conversion;
+
+        Target(String code, Function<Collection<String>, Collection<String>> conversion) {
+            this.code = code;
+            this.conversion = conversion;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.EntryIterationCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Measures how many bytes are allocated per entry when iterating over a map. Some maps hand out their internal
+ * nodes, while others create a new entry object for each element.
+ * <p>
+ * Each entry is consumed so that it escapes: in a hot loop where entries do not escape, the JIT may be able to
+ * remove their allocation.
+ */
+public class EntryIterationAnalyzer {
+
+    private static final int SIZE = 10_000;
+    private static final int RUNS = 50;
+
+    private final MapCreator mapCreator;
+
+    public EntryIterationAnalyzer(MapCreator mapCreator) {
+        this.mapCreator = mapCreator;
+    }
+
+    /**
+     * Returns the class of the entries the map's entry set hands out.
+     *
+     * @return class name of the entries, null if the map type cannot have entries
+     */
+    public String determineEntryClass() {
+        Map<String, Integer> map = createMap(SIZE);
+        if (map == null) {
+            map = createMap(1);
+        }
+        if (map == null || map.isEmpty()) {
+            return null;
+        }
+        return map.entrySet().iterator().next().getClass().getName();
+    }
+
+    /**
+     * Measures the allocated bytes per entry for all iteration styles. Map types that cannot have 10,000 entries
+     * (e.g. singleton maps) are not measured: the fixed cost of the iterator or stream would make up most of the
+     * allocations, which would not be comparable with the cost per entry of other maps.
+     *
+     * @return cost of each iteration style; empty if the map type cannot have 10,000 entries
+     */
+    public List<EntryIterationCost> analyzeEntryIteration() {
+        Map<String, Integer> map = createMap(SIZE);
+        if (map == null) {
+            return List.of();
+        }
+
+        return Arrays.stream(IterationStyle.values())
+            .map(style -> {
+                long bytes = MeasurementUtils.measure(() -> map, m -> {
+                    style.iterate(m);
+                    return null;
+                }, RUNS).allocatedBytes();
+                return new EntryIterationCost(style.code, (double) bytes / map.size());
+            })
+            .toList();
+    }
+
+    private Map<String, Integer> createMap(int size) {
+        try {
+            return mapCreator.createMap(ElementUtils.createElements(size));
+        } catch (SizeNotSupportedException ignore) {
+            return null;
+        }
+    }
+
+    private enum IterationStyle {
+
+        ITERATOR("for (Map.Entry<K, V> entry : map.entrySet())", map -> {
+            for (Map.Entry<String, Integer> entry : map.entrySet()) {
+                MeasurementUtils.consume(entry);
+            }
+        }),
+
+        FOR_EACH("map.forEach((key, value) -> ...)", map ->
+            map.forEach((key, value) -> MeasurementUtils.consume(key))),
+
+        STREAM("map.entrySet().stream().forEach(entry -> ...)", map ->
+            map.entrySet().stream().forEach(MeasurementUtils::consume));
+
+        private final String code;
+        private final Consumer<Map<String, Integer>> iteration;
+
+        IterationStyle(String code, Consumer<Map<String, Integer>> iteration) {
+            this.code = code;
+            this.iteration = iteration;
+        }
+
+        void iterate(Map<String, Integer> map) {
+            iteration.accept(map);
+        }
+    }
+}
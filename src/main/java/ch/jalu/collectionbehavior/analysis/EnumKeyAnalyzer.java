@@ -0,0 +1,262 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.EnumMapCreator;
+import ch.jalu.collectionbehavior.creator.EnumSetCreator;
+import ch.jalu.collectionbehavior.documentation.EnumKeyedCost;
+import ch.jalu.collectionbehavior.util.EnumKeys;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Compares sets and maps of enum constants: their class, their footprint, the time of a lookup and the time to
+ * iterate over them, for enums with 16 to 128 constants. Each collection contains every other
+ * constant of its enum, and lookups are made with all constants so that half of them are misses.
+ * <p>
+ * The footprint is the memory retained by the collection, without the enum constants and the values, which are
+ * shared by all instances.
+ * <p>
+ * All types are measured through the same code, so all of them are warmed up before any of them is measured.
+ */
+public class EnumKeyAnalyzer {
+
+    /** Number of times all constants are looked up or all elements are iterated over per measurement. */
+    private static final int REPEATS = 1_000;
+    private static final int RUNS = 5;
+    private static final int WARM_UP_RUNS = 20;
+    /** Total number of elements over all instances of a footprint measurement, so that small sizes are measurable. */
+    private static final int ELEMENTS_PER_FOOTPRINT_MEASUREMENT = 2_000_000;
+
+    /**
+     * Measures the given set types.
+     *
+     * @param creators the set creators to measure, by description
+     * @return the cost of each set type for each enum size
+     */
+    public List<EnumKeyedCost> analyzeSets(Map<String, EnumSetCreator> creators) {
+        List<KeyedType> types = creators.entrySet().stream()
+            .map(entry -> (KeyedType) new SetType(entry.getKey(), entry.getValue()))
+            .toList();
+        return analyze(types);
+    }
+
+    /**
+     * Measures the given map types.
+     *
+     * @param creators the map creators to measure, by description
+     * @return the cost of each map type for each enum size
+     */
+    public List<EnumKeyedCost> analyzeMaps(Map<String, EnumMapCreator> creators) {
+        List<KeyedType> types = creators.entrySet().stream()
+            .map(entry -> (KeyedType) new MapType(entry.getKey(), entry.getValue()))
+            .toList();
+        return analyze(types);
+    }
+
+    private static List<EnumKeyedCost> analyze(List<KeyedType> types) {
+        for (KeyedType type : types) {
+            measureSpeed(type, EnumKeys.Keys16.class, WARM_UP_RUNS);
+            measureSpeed(type, EnumKeys.Keys128.class, WARM_UP_RUNS);
+        }
+
+        List<EnumKeyedCost> costs = new ArrayList<>();
+        for (KeyedType type : types) {
+            costs.add(measure(type, EnumKeys.Keys16.class));
+            costs.add(measure(type, EnumKeys.Keys64.class));
+            costs.add(measure(type, EnumKeys.Keys65.class));
+            costs.add(measure(type, EnumKeys.Keys128.class));
+        }
+        return costs;
+    }
+
+    private static <E extends Enum<E>> EnumKeyedCost measure(KeyedType type, Class<E> enumType) {
+        E[] constants = enumType.getEnumConstants();
+        List<E> elements = createElements(constants);
+        Object source = type.createSource(enumType, elements);
+        Object collection = type.create(enumType, source);
+
+        long retainedBytes = MeasurementUtils.measureRetainedBytes(() -> type.create(enumType, source),
+            ELEMENTS_PER_FOOTPRINT_MEASUREMENT / elements.size());
+        long[] nanos = measureSpeed(type, enumType, RUNS);
+        return new EnumKeyedCost(type.description, constants.length, elements.size(),
+            collection.getClass().getName(), retainedBytes,
+            (double) nanos[0] / (REPEATS * constants.length),
+            (double) nanos[1] / (REPEATS * elements.size()));
+    }
+
+    /**
+     * Measures the lookup of all constants and the iteration over all elements, {@link #REPEATS} times each.
+     *
+     * @return the time of the lookups and the time of the iterations
+     */
+    private static <E extends Enum<E>> long[] measureSpeed(KeyedType type, Class<E> enumType, int runs) {
+        E[] constants = enumType.getEnumConstants();
+        Object collection = type.create(enumType, type.createSource(enumType, createElements(constants)));
+
+        long lookupNanos = MeasurementUtils.measure(() -> collection, coll -> {
+            int hits = 0;
+            for (int i = 0; i < REPEATS; ++i) {
+                hits += type.lookUpAll(coll, constants);
+            }
+            return hits;
+        }, runs).nanos();
+        long iterationNanos = MeasurementUtils.measure(() -> collection, coll -> {
+            int hash = 0;
+            for (int i = 0; i < REPEATS; ++i) {
+                hash += type.iterate(coll);
+            }
+            return hash;
+        }, runs).nanos();
+        return new long[]{ lookupNanos, iterationNanos };
+    }
+
+    /**
+     * Returns every other constant of the given constants.
+     */
+    private static <E extends Enum<E>> List<E> createElements(E[] constants) {
+        return IntStream.range(0, constants.length)
+            .filter(i -> i % 2 == 0)
+            .mapToObj(i -> constants[i])
+            .toList();
+    }
+
+    /**
+     * Set or map type to measure.
+     */
+    private abstract static class KeyedType {
+
+        private final String description;
+
+        KeyedType(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Creates what the collection is copied from, so that its allocation is not counted.
+         *
+         * @param enumType the enum type
+         * @param elements the elements (or keys) of the collection
+         * @return the source to pass to {@link #create}
+         */
+        abstract <E extends Enum<E>> Object createSource(Class<E> enumType, List<E> elements);
+
+        /**
+         * Creates the collection.
+         *
+         * @param enumType the enum type
+         * @param source the source created by {@link #createSource}
+         * @return the collection
+         */
+        abstract <E extends Enum<E>> Object create(Class<E> enumType, Object source);
+
+        /**
+         * Looks up all given constants in the collection.
+         *
+         * @return the number of constants that were found
+         */
+        abstract int lookUpAll(Object collection, Enum<?>[] constants);
+
+        /**
+         * Iterates over all elements (or entries) of the collection.
+         *
+         * @return a value computed from the elements, to be consumed
+         */
+        abstract int iterate(Object collection);
+    }
+
+    private static final class SetType extends KeyedType {
+
+        private final EnumSetCreator creator;
+
+        SetType(String description, EnumSetCreator creator) {
+            super(description);
+            this.creator = creator;
+        }
+
+        @Override
+        <E extends Enum<E>> Object createSource(Class<E> enumType, List<E> elements) {
+            return elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <E extends Enum<E>> Object create(Class<E> enumType, Object source) {
+            return creator.createSet(enumType, (List<E>) source);
+        }
+
+        @Override
+        int lookUpAll(Object collection, Enum<?>[] constants) {
+            Set<?> set = (Set<?>) collection;
+            int hits = 0;
+            for (Enum<?> constant : constants) {
+                if (set.contains(constant)) {
+                    ++hits;
+                }
+            }
+            return hits;
+        }
+
+        @Override
+        int iterate(Object collection) {
+            int sum = 0;
+            for (Object element : (Set<?>) collection) {
+                sum += ((Enum<?>) element).ordinal();
+            }
+            return sum;
+        }
+    }
+
+    private static final class MapType extends KeyedType {
+
+        private final EnumMapCreator creator;
+
+        MapType(String description, EnumMapCreator creator) {
+            super(description);
+            this.creator = creator;
+        }
+
+        /**
+         * Returns an EnumMap that maps each key to its ordinal.
+         */
+        @Override
+        <E extends Enum<E>> Object createSource(Class<E> enumType, List<E> elements) {
+            Map<E, Integer> entries = new EnumMap<>(enumType);
+            for (E element : elements) {
+                entries.put(element, element.ordinal());
+            }
+            return entries;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        <E extends Enum<E>> Object create(Class<E> enumType, Object source) {
+            return creator.createMap(enumType, (Map<E, Integer>) source);
+        }
+
+        @Override
+        int lookUpAll(Object collection, Enum<?>[] constants) {
+            Map<?, ?> map = (Map<?, ?>) collection;
+            int hits = 0;
+            for (Enum<?> constant : constants) {
+                if (map.get(constant) != null) {
+                    ++hits;
+                }
+            }
+            return hits;
+        }
+
+        @Override
+        int iterate(Object collection) {
+            int sum = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) collection).entrySet()) {
+                sum += ((Enum<?>) entry.getKey()).ordinal() + (Integer) entry.getValue();
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.GrowthMeasurement;
+import ch.jalu.collectionbehavior.documentation.ResizeEvent;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Analyzes how a mutable collection grows while elements are inserted one by one.
+ * <p>
+ * Resizes are not read from the collection's internals, but inferred from the allocations: inserting an element
+ * into a collection allocates a constant number of bytes (e.g. 0 for an ArrayList, one node for a HashMap);
+ * insertions that allocate more than that have allocated a new backing table. The capacity of the table is derived
+ * from its size in bytes. As objects are aligned to 8 bytes, the size of an array is rounded up: with 4-byte
+ * references, an odd capacity appears as the next even number (e.g. 16 for an ArrayList with capacity 15).
+ *
+ * @param <C> the collection type
+ */
+public class GrowthAnalyzer<C> {
+
+    private static final int RUNS = 3;
+    /** Elements inserted before each measurement, so that one-time allocations are not mistaken for resizes. */
+    private static final int WARM_UP_SIZE = 1_000;
+    private static final long ARRAY_HEADER_BYTES;
+    private static final long REFERENCE_BYTES;
+
+    static {
+        long before = MeasurementUtils.getCurrentThreadAllocatedBytes();
+        MeasurementUtils.consume(new Object[0]);
+        long emptyArrayBytes = MeasurementUtils.getCurrentThreadAllocatedBytes() - before;
+
+        before = MeasurementUtils.getCurrentThreadAllocatedBytes();
+        MeasurementUtils.consume(new Object[64]);
+        long arrayBytes = MeasurementUtils.getCurrentThreadAllocatedBytes() - before;
+
+        ARRAY_HEADER_BYTES = emptyArrayBytes;
+        REFERENCE_BYTES = (arrayBytes - emptyArrayBytes) / 64;
+    }
+
+    private final BiConsumer<C, Integer> insertion;
+    private Integer[] elements = new Integer[0];
+
+    /**
+     * Constructor.
+     *
+     * @param insertion function inserting an element into the collection, e.g. {@code List::add}
+     */
+    public GrowthAnalyzer(BiConsumer<C, Integer> insertion) {
+        this.insertion = insertion;
+    }
+
+    /**
+     * Constructs a collection and inserts the given number of elements into it, recording each allocation of a
+     * backing table.
+     *
+     * @param construction the construction to measure
+     * @param size the number of elements to insert
+     * @return the measurement
+     */
+    public GrowthMeasurement measure(Construction<C> construction, int size) {
+        Integer[] elements = getElements(size);
+        trackInsertions(construction, elements, WARM_UP_SIZE);
+        InsertionTracking tracking = trackInsertions(construction, elements, size);
+
+        List<ResizeEvent> resizeEvents = createResizeEvents(tracking.candidates(), tracking.minInsertionBytes());
+        long discardedBytes = resizeEvents.stream()
+            .limit(Math.max(0, resizeEvents.size() - 1))
+            .mapToLong(ResizeEvent::tableBytes)
+            .sum();
+        long nanos = MeasurementUtils.measure(() -> construction.constructor().apply(size), coll -> {
+            for (int i = 0; i < size; ++i) {
+                insertion.accept(coll, elements[i]);
+            }
+            return coll;
+        }, RUNS).nanos();
+
+        return new GrowthMeasurement(construction.description(), size, resizeEvents,
+            tracking.totalBytes() - discardedBytes, discardedBytes, nanos);
+    }
+
+    private InsertionTracking trackInsertions(Construction<C> construction, Integer[] elements, int size) {
+        long totalBytes = MeasurementUtils.getCurrentThreadAllocatedBytes();
+        C collection = construction.constructor().apply(size);
+        List<long[]> candidates = new ArrayList<>();
+        long minInsertionBytes = Long.MAX_VALUE;
+        for (int i = 0; i < size; ++i) {
+            long before = MeasurementUtils.getCurrentThreadAllocatedBytes();
+            insertion.accept(collection, elements[i]);
+            long insertionBytes = MeasurementUtils.getCurrentThreadAllocatedBytes() - before;
+
+            if (insertionBytes > minInsertionBytes) {
+                candidates.add(new long[]{ i + 1, insertionBytes });
+            } else if (insertionBytes < minInsertionBytes) {
+                // Keep the previous entries: the first insertions may have been larger than the actual minimum
+                minInsertionBytes = insertionBytes;
+                candidates.add(new long[]{ i + 1, insertionBytes });
+            }
+        }
+        totalBytes = MeasurementUtils.getCurrentThreadAllocatedBytes() - totalBytes;
+        MeasurementUtils.consume(collection);
+        return new InsertionTracking(totalBytes, candidates, minInsertionBytes);
+    }
+
+    private static List<ResizeEvent> createResizeEvents(List<long[]> candidates, long minInsertionBytes) {
+        List<ResizeEvent> resizeEvents = new ArrayList<>();
+        for (long[] candidate : candidates) {
+            long tableBytes = candidate[1] - minInsertionBytes;
+            if (tableBytes > 0) {
+                // Largest capacity that fits into the table bytes, which include the padding for the alignment
+                int capacity = (int) ((tableBytes - ARRAY_HEADER_BYTES) / REFERENCE_BYTES);
+                resizeEvents.add(new ResizeEvent((int) candidate[0], capacity, tableBytes));
+            }
+        }
+        return resizeEvents;
+    }
+
+    private Integer[] getElements(int size) {
+        if (elements.length < size) {
+            elements = ElementUtils.createIntegerElements(size);
+        }
+        return elements;
+    }
+
+    /**
+     * Allocations recorded while inserting elements.
+     *
+     * @param totalBytes all bytes allocated by construction and insertion
+     * @param candidates insertions that allocated more than the minimum at the time, as [size, bytes]
+     * @param minInsertionBytes the minimum number of bytes allocated by an insertion
+     */
+    private record InsertionTracking(long totalBytes, List<long[]> candidates, long minInsertionBytes) {
+    }
+
+    /**
+     * Way of constructing a collection.
+     *
+     * @param description description of the construction (e.g. {@code new ArrayList<>(n)})
+     * @param constructor function creating the collection, given the number of elements that will be inserted
+     * @param <C> the collection type
+     */
+    public record Construction<C>(String description, IntFunction<C> constructor) {
+    }
+}
@@ -0,0 +1,154 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.documentation.HashCollisionMeasurement;
+import ch.jalu.collectionbehavior.documentation.LatencyStats;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Measures creation, insertion and lookup of hash-based collections with keys of distinct hash codes and with
+ * keys that all have the same hash code, as can be produced by an attacker if keys are user-supplied.
+ *
+ * @param <C> the collection type
+ */
+public class HashCollisionAnalyzer<C> {
+
+    private static final int[] SIZES = { 256, 1_024, 4_096 };
+    private static final int RUNS = 5;
+    private static final int WARM_UP_ITERATIONS = 10;
+
+    private final Function<String[], C> creator;
+    private final BiConsumer<C, String> insertion;
+    private final BiFunction<C, String, ?> lookup;
+
+    private HashCollisionAnalyzer(Function<String[], C> creator, BiConsumer<C, String> insertion,
+                                  BiFunction<C, String, ?> lookup) {
+        this.creator = creator;
+        this.insertion = insertion;
+        this.lookup = lookup;
+    }
+
+    public static HashCollisionAnalyzer<Set<String>> forSet(SetCreator setCreator) {
+        return new HashCollisionAnalyzer<>(setCreator::createSet, Set::add, Set::contains);
+    }
+
+    public static HashCollisionAnalyzer<Map<String, Integer>> forMap(MapCreator mapCreator) {
+        return new HashCollisionAnalyzer<>(mapCreator::createMap, (map, key) -> map.put(key, 0), Map::get);
+    }
+
+    /**
+     * Measures the collection with distinct and with colliding keys at all sizes.
+     *
+     * @return all measurements
+     */
+    public List<HashCollisionMeasurement> measureCollisions() {
+        // Warm-up so that the smallest size is not measured in interpreted mode
+        for (int i = 0; i < WARM_UP_ITERATIONS; ++i) {
+            measure(SIZES[0], false);
+            measure(SIZES[0], true);
+        }
+
+        List<HashCollisionMeasurement> measurements = new ArrayList<>();
+        for (boolean collidingKeys : new boolean[]{ false, true }) {
+            for (int size : SIZES) {
+                measurements.add(measure(size, collidingKeys));
+            }
+        }
+        return measurements;
+    }
+
+    /**
+     * Estimates how the lookup latency grows with the number of keys.
+     *
+     * @param measurements the measurements to evaluate
+     * @param collidingKeys whether to consider the measurements with colliding keys or the ones with distinct keys
+     * @return the lookup complexity
+     */
+    public static Complexity estimateLookupComplexity(List<HashCollisionMeasurement> measurements,
+                                                      boolean collidingKeys) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        measurements.stream()
+            .filter(measurement -> measurement.collidingKeys() == collidingKeys)
+            .forEach(measurement -> nanosBySize.put(measurement.size(), measurement.lookupLatency().medianNanos()));
+        return ComplexityEstimator.estimate(nanosBySize);
+    }
+
+    /**
+     * Estimates how the creation time grows with the number of keys.
+     *
+     * @param measurements the measurements to evaluate
+     * @param collidingKeys whether to consider the measurements with colliding keys or the ones with distinct keys
+     * @return the creation complexity
+     */
+    public static Complexity estimateCreationComplexity(List<HashCollisionMeasurement> measurements,
+                                                        boolean collidingKeys) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        measurements.stream()
+            .filter(measurement -> measurement.collidingKeys() == collidingKeys)
+            .forEach(measurement -> nanosBySize.put(measurement.size(), measurement.creationNanos()));
+        return ComplexityEstimator.estimate(nanosBySize);
+    }
+
+    private HashCollisionMeasurement measure(int size, boolean collidingKeys) {
+        String[] keys = collidingKeys
+            ? ElementUtils.createCollidingElements(size)
+            : ElementUtils.createElements(size);
+
+        long creationNanos = MeasurementUtils.measure(() -> keys, creator, RUNS).nanos();
+        return new HashCollisionMeasurement(size, collidingKeys, creationNanos,
+            measureInsertLatency(keys), measureLookupLatency(keys));
+    }
+
+    private LatencyStats measureInsertLatency(String[] keys) {
+        try {
+            insertion.accept(creator.apply(new String[0]), keys[0]);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+
+        long[] nanos = new long[RUNS * keys.length];
+        for (int run = 0; run < RUNS; ++run) {
+            C collection = creator.apply(new String[0]);
+            for (int i = 0; i < keys.length; ++i) {
+                long start = System.nanoTime();
+                insertion.accept(collection, keys[i]);
+                nanos[run * keys.length + i] = System.nanoTime() - start;
+            }
+            MeasurementUtils.consume(collection);
+        }
+        return summarize(nanos);
+    }
+
+    private LatencyStats measureLookupLatency(String[] keys) {
+        C collection = creator.apply(keys);
+        long[] nanos = new long[RUNS * keys.length];
+        for (int run = 0; run < RUNS; ++run) {
+            for (int i = 0; i < keys.length; ++i) {
+                long start = System.nanoTime();
+                Object result = lookup.apply(collection, keys[i]);
+                nanos[run * keys.length + i] = System.nanoTime() - start;
+                MeasurementUtils.consume(result);
+            }
+        }
+        return summarize(nanos);
+    }
+
+    private static LatencyStats summarize(long[] nanos) {
+        Arrays.sort(nanos);
+        return new LatencyStats(MeasurementUtils.getPercentile(nanos, 50), MeasurementUtils.getPercentile(nanos, 99));
+    }
+}
@@ -0,0 +1,297 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.IteratorConsistency;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils.Measurement;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Analyzes the iterator of a list, set or map (iterating over its entry set): the time it takes per element, and
+ * how it behaves when the collection is modified during the iteration.
+ * <p>
+ * Views such as {@link java.util.Collections#unmodifiableList} cannot be modified themselves, but their backing
+ * collection can: for them, the backing collection is modified while the view is iterated over.
+ */
+public class IteratorAnalyzer {
+
+    private static final int SIZE = 100_000;
+    private static final int CONSISTENCY_CHECK_SIZE = 16;
+    private static final int RUNS = 20;
+    private static final int WARM_UP_RUNS = 50;
+
+    /** Element added and removed by the concurrent writer; not part of the elements from {@link ElementUtils}. */
+    private static final String WRITER_ELEMENT = "writer";
+
+    private final TargetFactory targetFactory;
+
+    private IteratorAnalyzer(TargetFactory targetFactory) {
+        this.targetFactory = targetFactory;
+    }
+
+    public static IteratorAnalyzer forList(ListCreator listCreator) {
+        return new IteratorAnalyzer(elements -> {
+            List<String> list = listCreator.createList(elements);
+            return new Target(list, list::add, list::remove);
+        });
+    }
+
+    public static IteratorAnalyzer forSet(SetCreator setCreator) {
+        return new IteratorAnalyzer(elements -> {
+            Set<String> set = setCreator.createSet(elements);
+            return new Target(set, set::add, set::remove);
+        });
+    }
+
+    public static IteratorAnalyzer forMap(MapCreator mapCreator) {
+        return new IteratorAnalyzer(elements -> {
+            Map<String, Integer> map = mapCreator.createMap(elements);
+            return new Target(map.entrySet(), key -> map.put(key, 0), map::remove);
+        });
+    }
+
+    /**
+     * Creates an analyzer for a view of a list whose modifications go to the backing list.
+     *
+     * @param backingListCreator creates the empty backing list
+     * @param viewCreator creates the view of the backing list
+     * @param <L> the type of the backing list
+     * @return analyzer for the view
+     */
+    public static <L extends List<String>> IteratorAnalyzer forListView(Supplier<L> backingListCreator,
+                                                                       Function<L, List<String>> viewCreator) {
+        return new IteratorAnalyzer(elements -> {
+            L list = backingListCreator.get();
+            list.addAll(Arrays.asList(elements));
+            return new Target(viewCreator.apply(list), list::add, list::remove);
+        });
+    }
+
+    /**
+     * Creates an analyzer for a view of a set whose modifications go to the backing set.
+     *
+     * @param backingSetCreator creates the empty backing set
+     * @param viewCreator creates the view of the backing set
+     * @param <S> the type of the backing set
+     * @return analyzer for the view
+     */
+    public static <S extends Set<String>> IteratorAnalyzer forSetView(Supplier<S> backingSetCreator,
+                                                                     Function<S, Set<String>> viewCreator) {
+        return new IteratorAnalyzer(elements -> {
+            S set = backingSetCreator.get();
+            set.addAll(Arrays.asList(elements));
+            return new Target(viewCreator.apply(set), set::add, set::remove);
+        });
+    }
+
+    /**
+     * Creates an analyzer for a view of a map whose modifications go to the backing map.
+     *
+     * @param backingMapCreator creates the empty backing map
+     * @param viewCreator creates the view of the backing map
+     * @param <M> the type of the backing map
+     * @return analyzer for the view
+     */
+    public static <M extends Map<String, Integer>> IteratorAnalyzer forMapView(
+        Supplier<M> backingMapCreator, Function<M, Map<String, Integer>> viewCreator) {
+        return new IteratorAnalyzer(elements -> {
+            M map = backingMapCreator.get();
+            for (String element : elements) {
+                map.put(element, 0);
+            }
+            return new Target(viewCreator.apply(map).entrySet(), key -> map.put(key, 0), map::remove);
+        });
+    }
+
+    /**
+     * Returns the class of the iterator, based on the largest collection that can be created.
+     *
+     * @return the iterator class name
+     */
+    public String determineIteratorClass() {
+        return createLargestTarget(CONSISTENCY_CHECK_SIZE).iterable().iterator().getClass().getName();
+    }
+
+    /**
+     * Determines how the iterator behaves when all elements are removed and new ones are added after the iterator
+     * has returned its first element. For views, the backing collection is modified.
+     *
+     * @return the iterator's consistency; {@link IteratorConsistency#UNMODIFIABLE} only if neither the collection
+     *         nor anything backing it can be structurally modified
+     */
+    public IteratorConsistency determineConsistency() {
+        String[] elements = ElementUtils.createElements(CONSISTENCY_CHECK_SIZE);
+        Target target;
+        try {
+            target = targetFactory.create(elements);
+        } catch (SizeNotSupportedException e) {
+            // Types that cannot hold multiple elements are unmodifiable
+            return IteratorConsistency.UNMODIFIABLE;
+        }
+
+        Iterator<?> iterator = target.iterable().iterator();
+        iterator.next();
+        try {
+            for (String element : elements) {
+                target.remover().accept(element);
+            }
+            // Add two elements so that index-based iterators do not simply consider the iteration to be done
+            target.adder().accept("new1");
+            target.adder().accept("new2");
+        } catch (UnsupportedOperationException e) {
+            return IteratorConsistency.UNMODIFIABLE;
+        }
+
+        int remainingElements = 0;
+        try {
+            while (iterator.hasNext()) {
+                iterator.next();
+                ++remainingElements;
+            }
+        } catch (ConcurrentModificationException e) {
+            return IteratorConsistency.FAIL_FAST;
+        }
+        // A weakly consistent iterator may still return an element it had already looked ahead to, but not all
+        return remainingElements == elements.length - 1
+            ? IteratorConsistency.SNAPSHOT
+            : IteratorConsistency.WEAKLY_CONSISTENT;
+    }
+
+    /**
+     * Measures a full iteration over a collection with many elements.
+     *
+     * @return measurement of a full iteration, null if the type cannot hold many elements
+     */
+    public Measurement measureIteration() {
+        Target target = createTargetWithManyElements();
+        if (target == null) {
+            return null;
+        }
+        warmUp(target);
+        return MeasurementUtils.measure(target::iterable, IteratorAnalyzer::iterate, RUNS);
+    }
+
+    /**
+     * Measures a full iteration over a collection with many elements while another thread keeps adding and
+     * removing an element. Only done for iterators that support concurrent modifications.
+     *
+     * @param consistency the consistency of the iterator
+     * @return measurement of a full iteration with a concurrent writer, null if not applicable
+     */
+    public Measurement measureIterationWithConcurrentWriter(IteratorConsistency consistency) {
+        if (consistency != IteratorConsistency.WEAKLY_CONSISTENT && consistency != IteratorConsistency.SNAPSHOT) {
+            return null;
+        }
+        Target target = createTargetWithManyElements();
+        if (target == null) {
+            return null;
+        }
+        warmUp(target);
+
+        ConcurrentWriter writer = new ConcurrentWriter(target);
+        Thread writerThread = Thread.ofPlatform().daemon().start(writer);
+        try {
+            return MeasurementUtils.measure(target::iterable, IteratorAnalyzer::iterate, RUNS);
+        } finally {
+            writer.stop();
+            try {
+                writerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    /**
+     * @return the number of elements of the collections used in the measurements
+     */
+    public static int getMeasurementSize() {
+        return SIZE;
+    }
+
+    private static Integer iterate(Iterable<?> iterable) {
+        int hash = 0;
+        for (Object element : iterable) {
+            hash += element.hashCode();
+        }
+        return hash;
+    }
+
+    private static void warmUp(Target target) {
+        for (int i = 0; i < WARM_UP_RUNS; ++i) {
+            MeasurementUtils.consume(iterate(target.iterable()));
+        }
+    }
+
+    private Target createTargetWithManyElements() {
+        try {
+            return targetFactory.create(ElementUtils.createElements(SIZE));
+        } catch (SizeNotSupportedException e) {
+            return null;
+        }
+    }
+
+    private Target createLargestTarget(int size) {
+        for (int currentSize : new int[]{ size, 1, 0 }) {
+            try {
+                return targetFactory.create(ElementUtils.createElements(currentSize));
+            } catch (SizeNotSupportedException ignore) {
+                // Try next size
+            }
+        }
+        throw new IllegalStateException("Could not create collection of any size");
+    }
+
+    @FunctionalInterface
+    private interface TargetFactory {
+
+        Target create(String... elements) throws SizeNotSupportedException;
+
+    }
+
+    /**
+     * Collection to analyze.
+     *
+     * @param iterable what to iterate over (collection, or entry set of a map)
+     * @param adder adds an element to the collection, or to the collection backing it
+     * @param remover removes an element from the collection, or from the collection backing it
+     */
+    private record Target(Iterable<?> iterable, Consumer<String> adder, Consumer<String> remover) {
+    }
+
+    private static final class ConcurrentWriter implements Runnable {
+
+        private final Target target;
+        private volatile boolean running = true;
+
+        ConcurrentWriter(Target target) {
+            this.target = target;
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                target.adder().accept(WRITER_ELEMENT);
+                target.remover().accept(WRITER_ELEMENT);
+            }
+        }
+
+        void stop() {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.analysis.GrowthAnalyzer.Construction;
+import ch.jalu.collectionbehavior.documentation.ProbingLookupCost;
+import ch.jalu.collectionbehavior.documentation.ResizeEvent;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures lookups in an {@link IdentityHashMap}, which keeps keys and values in one array and resolves collisions
+ * by linear probing: the more slots are taken, the longer the runs of keys a lookup has to step over, especially
+ * for absent keys. The map is measured just before and just after a resize, i.e. at its highest and lowest load
+ * factor, with a {@link HashMap} of the same keys as baseline.
+ * <p>
+ * The resizes are found with the {@link GrowthAnalyzer}. The table of an IdentityHashMap has two array entries per
+ * slot (key and value), so the number of slots is half of the capacity it reports.
+ */
+public class LinearProbingAnalyzer {
+
+    /** Sizes from which the next resize is taken. */
+    private static final int[] MIN_SIZES = { 1_000, 50_000 };
+    private static final int MAX_SIZE = 200_000;
+    private static final int RUNS = 5;
+    private static final int WARM_UP_RUNS = 20;
+
+    /**
+     * Measures lookups before and after the first resizes following each of {@link #MIN_SIZES}.
+     *
+     * @return the lookup costs, two per resize
+     */
+    public List<ProbingLookupCost> analyzeLookups() {
+        List<ResizeEvent> resizeEvents = new GrowthAnalyzer<Map<Integer, Integer>>((map, key) -> map.put(key, key))
+            .measure(new Construction<>("new IdentityHashMap<>()", size -> new IdentityHashMap<>()), MAX_SIZE)
+            .resizeEvents();
+        Integer[] keys = ElementUtils.createIntegerElements(2 * MAX_SIZE);
+        measure(keys, 1_000, Double.NaN, WARM_UP_RUNS);
+
+        List<ProbingLookupCost> costs = new ArrayList<>();
+        for (int minSize : MIN_SIZES) {
+            for (int i = 1; i < resizeEvents.size(); ++i) {
+                ResizeEvent resize = resizeEvents.get(i);
+                if (resize.size() > minSize) {
+                    int slotsBefore = resizeEvents.get(i - 1).capacity() / 2;
+                    int slotsAfter = resize.capacity() / 2;
+                    costs.add(measure(keys, resize.size() - 1, (double) (resize.size() - 1) / slotsBefore, RUNS));
+                    costs.add(measure(keys, resize.size(), (double) resize.size() / slotsAfter, RUNS));
+                    break;
+                }
+            }
+        }
+        return costs;
+    }
+
+    /**
+     * Measures lookups in maps with the first {@code size} keys; the following {@code size} keys are used as absent
+     * keys.
+     */
+    private static ProbingLookupCost measure(Integer[] keys, int size, double loadFactor, int runs) {
+        Integer[] presentKeys = Arrays.copyOfRange(keys, 0, size);
+        Integer[] absentKeys = Arrays.copyOfRange(keys, size, 2 * size);
+        Map<Integer, Integer> identityHashMap = fill(new IdentityHashMap<>(), presentKeys);
+        Map<Integer, Integer> hashMap = fill(new HashMap<>(), presentKeys);
+
+        return new ProbingLookupCost(size, loadFactor,
+            measureNanosPerLookup(identityHashMap, presentKeys, runs),
+            measureNanosPerLookup(identityHashMap, absentKeys, runs),
+            measureNanosPerLookup(hashMap, presentKeys, runs),
+            measureNanosPerLookup(hashMap, absentKeys, runs));
+    }
+
+    private static Map<Integer, Integer> fill(Map<Integer, Integer> map, Integer[] keys) {
+        for (Integer key : keys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    private static double measureNanosPerLookup(Map<Integer, Integer> map, Integer[] keys, int runs) {
+        long nanos = MeasurementUtils.measure(() -> map, m -> {
+            int hits = 0;
+            for (Integer key : keys) {
+                if (m.get(key) != null) {
+                    ++hits;
+                }
+            }
+            return hits;
+        }, runs).nanos();
+        return (double) nanos / keys.length;
+    }
+}
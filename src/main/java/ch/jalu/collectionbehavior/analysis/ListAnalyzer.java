@@ -4,10 +4,14 @@ import ch.jalu.collectionbehavior.creator.ListCreator;
 import ch.jalu.collectionbehavior.creator.ListWithBackingStructure;
 import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
 import ch.jalu.collectionbehavior.documentation.BackingStructureBehavior;
+import ch.jalu.collectionbehavior.documentation.CreationCost;
 import ch.jalu.collectionbehavior.documentation.RandomAccessType;
 import ch.jalu.collectionbehavior.documentation.Range;
 import ch.jalu.collectionbehavior.documentation.SpliteratorCharacteristic;
 import ch.jalu.collectionbehavior.documentation.Support;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils.Measurement;
 import ch.jalu.collectionbehavior.util.RangeUtils;
 import com.google.common.base.Preconditions;
 
@@ -20,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.RandomAccess;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.UnaryOperator;
 
@@ -27,6 +32,10 @@ public class ListAnalyzer {
 
     public static final int MAX_SIZE_TO_INSTANTIATE = 20;
 
+    /** Number of elements with which the creation cost of a list is measured. */
+    private static final int[] CREATION_COST_SIZES = { 1_000, 10_000, 100_000 };
+    private static final int CREATION_COST_RUNS = 15;
+
     private final ListCreator listCreator;
 
     public ListAnalyzer(ListCreator listCreator) {
@@ -136,6 +145,34 @@ public class ListAnalyzer {
         return behaviors;
     }
 
+    /**
+     * Measures the cost of creating a list from its backing structure at growing sizes, which shows whether the
+     * backing structure is wrapped (constant cost) or copied (linear cost).
+     *
+     * @return the creation cost, or null if the list is not created from another structure
+     */
+    public CreationCost determineCreationCost() {
+        if (!(listCreator instanceof ListCreator.BackingStructurBasedListCreator)) {
+            return null;
+        }
+
+        SortedMap<Integer, Long> allocatedBytesBySize = new TreeMap<>();
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        for (int size : CREATION_COST_SIZES) {
+            String[] elements = ElementUtils.createElements(size);
+            Measurement measurement = switch (listCreator) {
+                case ListCreator.ListBasedListCreator lbc -> MeasurementUtils.measure(
+                    () -> new ArrayList<>(Arrays.asList(elements)), lbc::fromList, CREATION_COST_RUNS);
+                default -> MeasurementUtils.measure(() -> elements, listCreator::createList, CREATION_COST_RUNS);
+            };
+            allocatedBytesBySize.put(size, measurement.allocatedBytes());
+            nanosBySize.put(size, measurement.nanos());
+        }
+
+        // Allocations are deterministic, unlike timings, so they are used to determine the complexity
+        return new CreationCost(ComplexityEstimator.estimate(allocatedBytesBySize), allocatedBytesBySize, nanosBySize);
+    }
+
     public Set<SpliteratorCharacteristic> determineSpliteratorProperties() {
         List<String> list = listCreator.createAbcdListOrLargestSubset();
 
@@ -0,0 +1,472 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.BiMapCreator;
+import ch.jalu.collectionbehavior.creator.MultimapCreator;
+import ch.jalu.collectionbehavior.creator.MultisetCreator;
+import ch.jalu.collectionbehavior.creator.TableCreator;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionCost;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionMethodBehavior;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import com.google.common.collect.BiMap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multiset;
+import com.google.common.collect.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Analyzes a family of Guava collections: multimaps, multisets, bimaps or tables. Calls methods and views on small
+ * instances to show how modifications behave, and measures the footprint, lookup and iteration time of large
+ * instances. The same is measured for the structure of JDK collections that each family replaces, such as a
+ * {@code Map<K, List<V>>} for multimaps.
+ * <p>
+ * The footprint is the memory retained by the collection, without its keys and values, which are shared by all
+ * instances.
+ *
+ * @param <T> the collection type of the family
+ */
+public class MultiCollectionAnalyzer<T> {
+
+    /** Number of keys of multimaps, distinct elements of multisets and entries of bimaps. */
+    private static final int SIZE = 10_000;
+    private static final int VALUES_PER_KEY = 4;
+    /** Number of rows and of columns of tables. */
+    private static final int TABLE_DIMENSION = 100;
+    /** Number of instances over which the retained memory is averaged. */
+    private static final int INSTANCES = 10;
+    private static final int RUNS = 5;
+    private static final int WARM_UP_RUNS = 20;
+
+    private static final String[] KEYS = ElementUtils.createElements(SIZE);
+    private static final Integer[] VALUES = ElementUtils.createIntegerElements(SIZE);
+    private static final Integer[] VALUES_OF_KEY = Arrays.copyOf(VALUES, VALUES_PER_KEY);
+    private static final String[] ROW_KEYS = createKeys("r", TABLE_DIMENSION);
+    private static final String[] COLUMN_KEYS = createKeys("c", TABLE_DIMENSION);
+
+    private final List<Structure<T>> structures;
+    private final Structure<?> jdkStructure;
+    private final List<Call<T>> calls;
+
+    private MultiCollectionAnalyzer(List<Structure<T>> structures, Structure<?> jdkStructure, List<Call<T>> calls) {
+        this.structures = structures;
+        this.jdkStructure = jdkStructure;
+        this.calls = calls;
+    }
+
+    /**
+     * Creates an analyzer for multimaps, compared with a {@code HashMap<K, List<V>>}.
+     *
+     * @param creators the creators of the multimaps, by description
+     * @return analyzer for the multimaps
+     */
+    public static MultiCollectionAnalyzer<Multimap<String, Integer>> forMultimaps(
+                                                                       Map<String, MultimapCreator> creators) {
+        List<Structure<Multimap<String, Integer>>> structures = creators.entrySet().stream()
+            .map(creator -> new Structure<>(creator.getKey(), null, SIZE,
+                () -> creator.getValue().createMultimap(new String[]{ "a", "b" }, new Integer[]{ 1, 2 }),
+                () -> creator.getValue().createMultimap(KEYS, VALUES_OF_KEY),
+                multimap -> {
+                    int size = 0;
+                    for (String key : KEYS) {
+                        size += multimap.get(key).size();
+                    }
+                    return size;
+                },
+                multimap -> {
+                    int hash = 0;
+                    for (Map.Entry<String, Integer> entry : multimap.entries()) {
+                        hash += entry.getValue();
+                    }
+                    return hash;
+                },
+                Multimap::size))
+            .toList();
+
+        Structure<Map<String, List<Integer>>> jdkStructure = new Structure<>("JDK HashMap<K, List<V>>", null, SIZE,
+            null,
+            () -> {
+                Map<String, List<Integer>> map = new HashMap<>();
+                for (String key : KEYS) {
+                    for (Integer value : VALUES_OF_KEY) {
+                        map.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+                    }
+                }
+                return map;
+            },
+            map -> {
+                int size = 0;
+                for (String key : KEYS) {
+                    size += map.getOrDefault(key, List.of()).size();
+                }
+                return size;
+            },
+            map -> {
+                int hash = 0;
+                for (List<Integer> values : map.values()) {
+                    for (Integer value : values) {
+                        hash += value;
+                    }
+                }
+                return hash;
+            },
+            map -> map.values().stream().mapToInt(List::size).sum());
+
+        List<Call<Multimap<String, Integer>>> calls = List.of(
+            call("put(\"a\", 1)", multimap -> multimap.put("a", 1)),
+            call("put(null, 3)", multimap -> multimap.put(null, 3)),
+            call("get(\"c\").add(3)", multimap -> multimap.get("c").add(3)),
+            voidCall("get(\"a\").clear()", multimap -> multimap.get("a").clear()),
+            call("asMap().remove(\"b\")", multimap -> multimap.asMap().remove("b")),
+            call("keys().remove(\"a\")", multimap -> multimap.keys().remove("a")));
+        return new MultiCollectionAnalyzer<>(structures, jdkStructure, calls);
+    }
+
+    /**
+     * Creates an analyzer for multisets, compared with a {@code HashMap<E, Integer>} of counts.
+     *
+     * @param creators the creators of the multisets, by description
+     * @return analyzer for the multisets
+     */
+    public static MultiCollectionAnalyzer<Multiset<String>> forMultisets(Map<String, MultisetCreator> creators) {
+        List<Structure<Multiset<String>>> structures = creators.entrySet().stream()
+            .map(creator -> new Structure<>(creator.getKey(), null, SIZE,
+                () -> creator.getValue().createMultiset(new String[]{ "a", "b" }, 2),
+                () -> creator.getValue().createMultiset(KEYS, VALUES_PER_KEY),
+                multiset -> {
+                    int count = 0;
+                    for (String key : KEYS) {
+                        count += multiset.count(key);
+                    }
+                    return count;
+                },
+                multiset -> {
+                    int count = 0;
+                    for (Multiset.Entry<String> entry : multiset.entrySet()) {
+                        count += entry.getCount();
+                    }
+                    return count;
+                },
+                multiset -> multiset.elementSet().size()))
+            .toList();
+
+        Structure<Map<String, Integer>> jdkStructure = new Structure<>("JDK HashMap<E, Integer>", null, SIZE,
+            null,
+            () -> {
+                Map<String, Integer> map = new HashMap<>();
+                for (String key : KEYS) {
+                    for (int i = 0; i < VALUES_PER_KEY; ++i) {
+                        map.merge(key, 1, Integer::sum);
+                    }
+                }
+                return map;
+            },
+            map -> {
+                int count = 0;
+                for (String key : KEYS) {
+                    count += map.getOrDefault(key, 0);
+                }
+                return count;
+            },
+            map -> {
+                int count = 0;
+                for (Map.Entry<String, Integer> entry : map.entrySet()) {
+                    count += entry.getValue();
+                }
+                return count;
+            },
+            Map::size);
+
+        List<Call<Multiset<String>>> calls = List.of(
+            call("add(\"a\", 3)", multiset -> multiset.add("a", 3)),
+            call("add(null)", multiset -> multiset.add(null)),
+            call("remove(\"a\")", multiset -> multiset.remove("a")),
+            call("elementSet().remove(\"b\")", multiset -> multiset.elementSet().remove("b")),
+            call("setCount(\"c\", 2)", multiset -> multiset.setCount("c", 2)));
+        return new MultiCollectionAnalyzer<>(structures, jdkStructure, calls);
+    }
+
+    /**
+     * Creates an analyzer for bimaps, compared with two HashMaps (one per direction).
+     *
+     * @param creators the creators of the bimaps, by description
+     * @return analyzer for the bimaps
+     */
+    public static MultiCollectionAnalyzer<BiMap<String, Integer>> forBiMaps(Map<String, BiMapCreator> creators) {
+        List<Structure<BiMap<String, Integer>>> structures = creators.entrySet().stream()
+            .map(creator -> new Structure<>(creator.getKey(), null, SIZE,
+                () -> creator.getValue().createBiMap(new String[]{ "a", "b" }, new Integer[]{ 1, 2 }),
+                () -> creator.getValue().createBiMap(KEYS, VALUES),
+                biMap -> {
+                    BiMap<Integer, String> inverse = biMap.inverse();
+                    int hash = 0;
+                    for (Integer value : VALUES) {
+                        hash += inverse.get(value).length();
+                    }
+                    return hash;
+                },
+                biMap -> {
+                    int hash = 0;
+                    for (Map.Entry<String, Integer> entry : biMap.entrySet()) {
+                        hash += entry.getValue();
+                    }
+                    return hash;
+                },
+                Map::size))
+            .toList();
+
+        Structure<List<Map<?, ?>>> jdkStructure = new Structure<>("JDK HashMap<K, V> + HashMap<V, K>",
+            HashMap.class.getName(), SIZE, null,
+            () -> {
+                Map<String, Integer> map = new HashMap<>();
+                Map<Integer, String> inverse = new HashMap<>();
+                for (int i = 0; i < SIZE; ++i) {
+                    map.put(KEYS[i], VALUES[i]);
+                    inverse.put(VALUES[i], KEYS[i]);
+                }
+                return List.of(map, inverse);
+            },
+            maps -> {
+                Map<?, ?> inverse = maps.get(1);
+                int hash = 0;
+                for (Integer value : VALUES) {
+                    hash += ((String) inverse.get(value)).length();
+                }
+                return hash;
+            },
+            maps -> {
+                int hash = 0;
+                for (Map.Entry<?, ?> entry : maps.getFirst().entrySet()) {
+                    hash += (Integer) entry.getValue();
+                }
+                return hash;
+            },
+            maps -> maps.getFirst().size());
+
+        List<Call<BiMap<String, Integer>>> calls = List.of(
+            call("put(\"c\", 1)", biMap -> biMap.put("c", 1)),
+            call("forcePut(\"c\", 1)", biMap -> biMap.forcePut("c", 1)),
+            call("put(null, 3)", biMap -> biMap.put(null, 3)),
+            call("inverse().put(3, \"c\")", biMap -> biMap.inverse().put(3, "c")),
+            call("inverse().remove(1)", biMap -> biMap.inverse().remove(1)),
+            call("values().remove(2)", biMap -> biMap.values().remove(2)));
+        return new MultiCollectionAnalyzer<>(structures, jdkStructure, calls);
+    }
+
+    /**
+     * Creates an analyzer for tables, compared with a {@code HashMap<R, Map<C, V>>}.
+     *
+     * @param creators the creators of the tables, by description
+     * @return analyzer for the tables
+     */
+    public static MultiCollectionAnalyzer<Table<String, String, Integer>> forTables(
+                                                                            Map<String, TableCreator> creators) {
+        List<Structure<Table<String, String, Integer>>> structures = creators.entrySet().stream()
+            .map(creator -> new Structure<>(creator.getKey(), null, TABLE_DIMENSION * TABLE_DIMENSION,
+                () -> creator.getValue().createTable(new String[]{ "r1", "r2" }, new String[]{ "c1", "c2" },
+                    new Integer[]{ 1, 2, 3, 4 }),
+                () -> creator.getValue().createTable(ROW_KEYS, COLUMN_KEYS, VALUES),
+                table -> {
+                    int hash = 0;
+                    for (String rowKey : ROW_KEYS) {
+                        for (String columnKey : COLUMN_KEYS) {
+                            hash += table.get(rowKey, columnKey);
+                        }
+                    }
+                    return hash;
+                },
+                table -> {
+                    int hash = 0;
+                    for (Table.Cell<String, String, Integer> cell : table.cellSet()) {
+                        hash += cell.getValue();
+                    }
+                    return hash;
+                },
+                Table::size))
+            .toList();
+
+        Structure<Map<String, Map<String, Integer>>> jdkStructure = new Structure<>("JDK HashMap<R, Map<C, V>>",
+            null, TABLE_DIMENSION * TABLE_DIMENSION, null,
+            () -> {
+                Map<String, Map<String, Integer>> map = new HashMap<>();
+                for (int row = 0; row < TABLE_DIMENSION; ++row) {
+                    for (int column = 0; column < TABLE_DIMENSION; ++column) {
+                        map.computeIfAbsent(ROW_KEYS[row], k -> new HashMap<>())
+                            .put(COLUMN_KEYS[column], VALUES[row * TABLE_DIMENSION + column]);
+                    }
+                }
+                return map;
+            },
+            map -> {
+                int hash = 0;
+                for (String rowKey : ROW_KEYS) {
+                    for (String columnKey : COLUMN_KEYS) {
+                        hash += map.get(rowKey).get(columnKey);
+                    }
+                }
+                return hash;
+            },
+            map -> {
+                int hash = 0;
+                for (Map<String, Integer> row : map.values()) {
+                    for (Integer value : row.values()) {
+                        hash += value;
+                    }
+                }
+                return hash;
+            },
+            map -> map.values().stream().mapToInt(Map::size).sum());
+
+        List<Call<Table<String, String, Integer>>> calls = List.of(
+            call("put(\"r1\", \"c1\", 5)", table -> table.put("r1", "c1", 5)),
+            call("put(null, \"c1\", 5)", table -> table.put(null, "c1", 5)),
+            call("row(\"r3\").put(\"c1\", 5)", table -> table.row("r3").put("c1", 5)),
+            voidCall("column(\"c1\").clear()", table -> table.column("c1").clear()),
+            call("rowMap().remove(\"r1\")", table -> table.rowMap().remove("r1")));
+        return new MultiCollectionAnalyzer<>(structures, jdkStructure, calls);
+    }
+
+    /**
+     * Returns the contents of the small instance of each type, on which the methods are called.
+     *
+     * @return the contents of the small instance, by type
+     */
+    public Map<String, String> determineInitialContents() {
+        Map<String, String> contentsByType = new LinkedHashMap<>();
+        for (Structure<T> structure : structures) {
+            contentsByType.put(structure.type(), structure.smallCreator().get().toString());
+        }
+        return contentsByType;
+    }
+
+    /**
+     * Calls all methods on a small instance of each type.
+     *
+     * @return the result of each call, by type
+     */
+    public Map<String, List<MultiCollectionMethodBehavior>> analyzeMethodBehaviors() {
+        Map<String, List<MultiCollectionMethodBehavior>> behaviorsByType = new LinkedHashMap<>();
+        for (Structure<T> structure : structures) {
+            List<MultiCollectionMethodBehavior> behaviors = calls.stream()
+                .map(call -> call.apply(structure.smallCreator().get()))
+                .toList();
+            behaviorsByType.put(structure.type(), behaviors);
+        }
+        return behaviorsByType;
+    }
+
+    /**
+     * Measures the footprint, lookup and iteration time of all types and of the JDK structure they replace. All of
+     * them are warmed up before any is measured, as they are measured through the same code.
+     *
+     * @return the cost of each type, the JDK structure last
+     */
+    public List<MultiCollectionCost> analyzeCosts() {
+        List<Structure<?>> allStructures = new ArrayList<>(structures);
+        allStructures.add(jdkStructure);
+        for (Structure<?> structure : allStructures) {
+            measureSpeed(structure, WARM_UP_RUNS);
+        }
+        return allStructures.stream()
+            .map(MultiCollectionAnalyzer::measure)
+            .toList();
+    }
+
+    private static <S> MultiCollectionCost measure(Structure<S> structure) {
+        S collection = structure.largeCreator().get();
+        int entries = structure.countEntries().applyAsInt(collection);
+        String className = structure.className() == null ? collection.getClass().getName() : structure.className();
+        // Measure the footprint only once the collection above is unreachable, so that it is not collected in the
+        // middle of the measurement
+        collection = null;
+        long retainedBytes = MeasurementUtils.measureRetainedBytes(structure.largeCreator(), INSTANCES);
+        double[] nanos = measureSpeed(structure, RUNS);
+        return new MultiCollectionCost(structure.type(), className, entries, retainedBytes,
+            nanos[0], nanos[1] / entries);
+    }
+
+    /**
+     * Measures the time of a lookup and of iterating over all entries.
+     *
+     * @return the time per lookup and the time of the iteration
+     */
+    private static <S> double[] measureSpeed(Structure<S> structure, int runs) {
+        S collection = structure.largeCreator().get();
+        long lookupNanos = MeasurementUtils.measure(() -> collection,
+            coll -> structure.lookUpAll().applyAsInt(coll), runs).nanos();
+        long iterationNanos = MeasurementUtils.measure(() -> collection,
+            coll -> structure.iterate().applyAsInt(coll), runs).nanos();
+        return new double[]{ (double) lookupNanos / structure.lookups(), iterationNanos };
+    }
+
+    private static String[] createKeys(String prefix, int size) {
+        String[] keys = new String[size];
+        for (int i = 0; i < size; ++i) {
+            keys[i] = prefix + i;
+        }
+        return keys;
+    }
+
+    private static <C> Call<C> call(String code, Function<C, Object> method) {
+        return new Call<>(code, method, true);
+    }
+
+    private static <C> Call<C> voidCall(String code, Consumer<C> method) {
+        return new Call<>(code, collection -> {
+            method.accept(collection);
+            return null;
+        }, false);
+    }
+
+    /**
+     * Collection type to analyze.
+     *
+     * @param type the description of the type
+     * @param className the class name to document, null to take the class of the created instance
+     * @param lookups the number of lookups made by {@code lookUpAll}
+     * @param smallCreator creates a small instance on which methods are called, null for the JDK structure
+     * @param largeCreator creates the instance that is measured
+     * @param lookUpAll looks up all keys of the large instance
+     * @param iterate iterates over all entries
+     * @param countEntries returns the number of entries
+     * @param <S> the collection type
+     */
+    private record Structure<S>(String type, String className, int lookups, Supplier<S> smallCreator,
+                                Supplier<S> largeCreator, ToIntFunction<S> lookUpAll, ToIntFunction<S> iterate,
+                                ToIntFunction<S> countEntries) {
+    }
+
+    /**
+     * Method call whose result is documented.
+     *
+     * @param code the code of the call
+     * @param method calls the method and returns its result
+     * @param returnsValue false if the method is void
+     * @param <C> the collection type
+     */
+    private record Call<C>(String code, Function<C, Object> method, boolean returnsValue) {
+
+        MultiCollectionMethodBehavior apply(C collection) {
+            try {
+                Object result = method.apply(collection);
+                String returnValue = returnsValue ? format(result) : null;
+                return new MultiCollectionMethodBehavior(code, returnValue, collection.toString(), null);
+            } catch (RuntimeException e) {
+                return new MultiCollectionMethodBehavior(code, null, null, e.getClass().getSimpleName());
+            }
+        }
+
+        private static String format(Object result) {
+            return result instanceof String ? "\"" + result + "\"" : String.valueOf(result);
+        }
+    }
+}
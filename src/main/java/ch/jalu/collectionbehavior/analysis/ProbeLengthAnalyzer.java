@@ -0,0 +1,267 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.ProbeLengthStats;
+import ch.jalu.collectionbehavior.documentation.ProbeLengthStats.Spread;
+import ch.jalu.collectionbehavior.util.ForkedJvmRunner;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Measures the probe lengths of unmodifiable hash tables, i.e. how many keys are compared with the searched key
+ * on a lookup. Comparisons are counted with a key class whose {@code equals} method increments a counter.
+ * <p>
+ * The JDK's unmodifiable sets and maps use a salt that changes between JVM runs, but only for the iteration order:
+ * the position of a key in the table depends on its hash code alone. Identity hash codes come from a pseudo-random
+ * sequence that turns out the same in every run as long as the same objects are hashed in the same order. So the
+ * probe lengths are expected to be the same in every run; the measurements are still made in several forked JVMs
+ * so that any variation across restarts would show.
+ */
+public class ProbeLengthAnalyzer {
+
+    /** Sizes at which the tables have different load factors. */
+    private static final int[] SIZES = { 10, 100, 700, 1_000, 1_500, 10_000 };
+    /** Allows to read the table length of the JDK's unmodifiable collections to compute the load factor. */
+    private static final List<String> JVM_OPTIONS = List.of("--add-opens=java.base/java.util=ALL-UNNAMED");
+
+    private ProbeLengthAnalyzer() {
+    }
+
+    /**
+     * Measures the probe lengths of all hash table types in the given number of forked JVMs.
+     *
+     * @param jvmRuns the number of JVMs to measure in
+     * @return probe length stats by hash table type
+     */
+    public static Map<HashTable, List<ProbeLengthStats>> analyzeProbeLengths(int jvmRuns) {
+        Map<String, List<RunResult>> resultsByKey = new LinkedHashMap<>();
+        for (int run = 0; run < jvmRuns; ++run) {
+            for (String line : ForkedJvmRunner.run(ProbeLengthAnalyzer.class, JVM_OPTIONS)) {
+                RunResult result = RunResult.parse(line);
+                String key = result.table() + ";" + result.keyType() + ";" + result.size();
+                resultsByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+            }
+        }
+
+        Map<HashTable, List<ProbeLengthStats>> statsByTable = new EnumMap<>(HashTable.class);
+        for (List<RunResult> results : resultsByKey.values()) {
+            RunResult first = results.getFirst();
+            ProbeLengthStats stats = new ProbeLengthStats(first.keyType().description, first.size(),
+                first.loadFactor(),
+                spread(results, RunResult::meanHit), spread(results, RunResult::maxHit),
+                spread(results, RunResult::meanMiss), spread(results, RunResult::maxMiss));
+            statsByTable.computeIfAbsent(first.table(), t -> new ArrayList<>()).add(stats);
+        }
+        return statsByTable;
+    }
+
+    private static Spread spread(List<RunResult> results, ToDoubleFunction<RunResult> getter) {
+        double min = results.stream().mapToDouble(getter).min().getAsDouble();
+        double max = results.stream().mapToDouble(getter).max().getAsDouble();
+        return new Spread(min, max);
+    }
+
+    /**
+     * Entry point of the forked JVM: measures all tables and prints one line per measurement.
+     */
+    static void main() {
+        for (HashTable table : HashTable.values()) {
+            for (KeyType keyType : KeyType.values()) {
+                for (int size : SIZES) {
+                    System.out.println(measure(table, keyType, size).format());
+                }
+            }
+        }
+    }
+
+    private static RunResult measure(HashTable table, KeyType keyType, int size) {
+        ProbeCountingKey[] keys = keyType.createKeys("k", size);
+        Object hashTable = table.creator.apply(keys);
+
+        long[] hitProbes = new long[size];
+        for (int i = 0; i < size; ++i) {
+            ProbeCountingKey equalKey = new ProbeCountingKey(keys[i].name, keys[i].hash);
+            hitProbes[i] = countComparisons(table, hashTable, equalKey);
+        }
+
+        ProbeCountingKey[] absentKeys = keyType.createKeys("m", size);
+        long[] missProbes = new long[size];
+        for (int i = 0; i < size; ++i) {
+            missProbes[i] = countComparisons(table, hashTable, absentKeys[i]);
+        }
+
+        int slots = table.getNumberOfSlots(hashTable);
+        return new RunResult(table, keyType, size, slots > 0 ? (double) size / slots : Double.NaN,
+            mean(hitProbes), max(hitProbes), mean(missProbes), max(missProbes));
+    }
+
+    private static long countComparisons(HashTable table, Object hashTable, ProbeCountingKey key) {
+        long before = ProbeCountingKey.comparisons;
+        table.lookup.apply(hashTable, key);
+        return ProbeCountingKey.comparisons - before;
+    }
+
+    private static double mean(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return (double) sum / values.length;
+    }
+
+    private static double max(long[] values) {
+        long max = 0;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Hash tables whose probe lengths are measured.
+     */
+    public enum HashTable {
+
+        /** {@link Set#of}, also used by {@link Set#copyOf}. */
+        JDK_SET_N(keys -> Set.of(keys), (set, key) -> ((Set<?>) set).contains(key), "elements", 1),
+
+        /** {@link Map#ofEntries}, also used by {@link Map#of} and {@link Map#copyOf}. */
+        JDK_MAP_N(keys -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Map.Entry<ProbeCountingKey, Integer>[] entries = new Map.Entry[keys.length];
+            for (int i = 0; i < keys.length; ++i) {
+                entries[i] = Map.entry(keys[i], i);
+            }
+            return Map.ofEntries(entries);
+        }, (map, key) -> ((Map<?, ?>) map).get(key), "table", 2),
+
+        /** {@link ImmutableSet#copyOf}. */
+        GUAVA_IMMUTABLE_SET(ImmutableSet::copyOf, (set, key) -> ((Set<?>) set).contains(key), "table", 1),
+
+        /** {@link ImmutableMap#copyOf}; uses buckets of chained entries instead of probing. */
+        GUAVA_IMMUTABLE_MAP(keys -> {
+            ImmutableMap.Builder<ProbeCountingKey, Integer> builder = ImmutableMap.builderWithExpectedSize(keys.length);
+            for (int i = 0; i < keys.length; ++i) {
+                builder.put(keys[i], i);
+            }
+            return builder.buildOrThrow();
+        }, (map, key) -> ((Map<?, ?>) map).get(key), "table", 1);
+
+        private final Function<ProbeCountingKey[], Object> creator;
+        private final BiFunction<Object, ProbeCountingKey, Object> lookup;
+        private final String tableFieldName;
+        private final int arrayEntriesPerSlot;
+
+        HashTable(Function<ProbeCountingKey[], Object> creator, BiFunction<Object, ProbeCountingKey, Object> lookup,
+                  String tableFieldName, int arrayEntriesPerSlot) {
+            this.creator = creator;
+            this.lookup = lookup;
+            this.tableFieldName = tableFieldName;
+            this.arrayEntriesPerSlot = arrayEntriesPerSlot;
+        }
+
+        /**
+         * Returns the number of slots of the hash table, read from its internal array, or -1 if it is not
+         * accessible (e.g. because the implementation changed).
+         *
+         * @param hashTable the hash table to inspect
+         * @return the number of slots, or -1 if unknown
+         */
+        private int getNumberOfSlots(Object hashTable) {
+            for (Class<?> clazz = hashTable.getClass(); clazz != null; clazz = clazz.getSuperclass()) {
+                try {
+                    Field field = clazz.getDeclaredField(tableFieldName);
+                    field.setAccessible(true);
+                    return ((Object[]) field.get(hashTable)).length / arrayEntriesPerSlot;
+                } catch (NoSuchFieldException ignore) {
+                    // Check parent
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    return -1;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private enum KeyType {
+
+        /** Keys whose hash code is computed from their contents, like String or Integer. */
+        CONTENT_HASH("Content-based hash codes"),
+
+        /** Keys whose hash code is the identity hash code, like objects that do not override hashCode. */
+        IDENTITY_HASH("Identity hash codes");
+
+        private final String description;
+
+        KeyType(String description) {
+            this.description = description;
+        }
+
+        ProbeCountingKey[] createKeys(String prefix, int size) {
+            ProbeCountingKey[] keys = new ProbeCountingKey[size];
+            for (int i = 0; i < size; ++i) {
+                String name = prefix + i;
+                int hash = this == CONTENT_HASH ? name.hashCode() : System.identityHashCode(new Object());
+                keys[i] = new ProbeCountingKey(name, hash);
+            }
+            return keys;
+        }
+    }
+
+    /**
+     * Key that counts how many times it was compared with another key.
+     */
+    private static final class ProbeCountingKey {
+
+        private static long comparisons;
+
+        private final String name;
+        private final int hash;
+
+        ProbeCountingKey(String name, int hash) {
+            this.name = name;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            ++comparisons;
+            return obj instanceof ProbeCountingKey other && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Measurement of one hash table in one JVM run.
+     */
+    private record RunResult(HashTable table, KeyType keyType, int size, double loadFactor,
+                             double meanHit, double maxHit, double meanMiss, double maxMiss) {
+
+        String format() {
+            return String.format(Locale.ROOT, "%s;%s;%d;%f;%f;%f;%f;%f",
+                table, keyType, size, loadFactor, meanHit, maxHit, meanMiss, maxMiss);
+        }
+
+        static RunResult parse(String line) {
+            String[] parts = line.split(";");
+            return new RunResult(HashTable.valueOf(parts[0]), KeyType.valueOf(parts[1]), Integer.parseInt(parts[2]),
+                Double.parseDouble(parts[3]), Double.parseDouble(parts[4]), Double.parseDouble(parts[5]),
+                Double.parseDouble(parts[6]), Double.parseDouble(parts[7]));
+        }
+    }
+}
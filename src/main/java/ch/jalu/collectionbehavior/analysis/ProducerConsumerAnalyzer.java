@@ -0,0 +1,192 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.ConsumeMode;
+import ch.jalu.collectionbehavior.documentation.LatencyHistogram;
+import ch.jalu.collectionbehavior.documentation.ProducerConsumerMeasurement;
+import ch.jalu.collectionbehavior.documentation.QueueTopology;
+import ch.jalu.collectionbehavior.documentation.ThreadKind;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+/**
+ * Passes items from producer threads to consumer threads through a blocking queue, and measures the throughput and
+ * the time from producing an item to consuming it. Each item is the time it was produced at. Once all producers are
+ * done, one end marker per consumer is put into the queue.
+ */
+public class ProducerConsumerAnalyzer {
+
+    private static final int ITEMS = 100_000;
+    private static final int WARM_UP_ITEMS = 20_000;
+    private static final int MAX_BATCH_SIZE = 256;
+    /** Upper bounds of the latency histogram buckets in nanoseconds. */
+    private static final long[] HISTOGRAM_UPPER_BOUNDS =
+        { 1_000, 10_000, 100_000, 1_000_000, 10_000_000, Long.MAX_VALUE };
+    private static final Object END_MARKER = new Object();
+
+    private final Supplier<BlockingQueue<Object>> queueFactory;
+
+    /**
+     * Constructor.
+     *
+     * @param queueFactory creates a new empty queue
+     */
+    public ProducerConsumerAnalyzer(Supplier<BlockingQueue<Object>> queueFactory) {
+        this.queueFactory = queueFactory;
+    }
+
+    /**
+     * Measures all combinations of topology, kind of threads and consume mode.
+     *
+     * @return the throughput and latency for each combination
+     */
+    public List<ProducerConsumerMeasurement> analyze() {
+        List<ProducerConsumerMeasurement> measurements = new ArrayList<>();
+        for (QueueTopology topology : QueueTopology.values()) {
+            for (ThreadKind threadKind : ThreadKind.values()) {
+                for (ConsumeMode consumeMode : ConsumeMode.values()) {
+                    run(topology, threadKind, consumeMode, WARM_UP_ITEMS);
+                    measurements.add(run(topology, threadKind, consumeMode, ITEMS));
+                }
+            }
+        }
+        return measurements;
+    }
+
+    private ProducerConsumerMeasurement run(QueueTopology topology, ThreadKind threadKind, ConsumeMode consumeMode,
+                                           int items) {
+        BlockingQueue<Object> queue = queueFactory.get();
+        Thread.Builder threadBuilder = threadKind == ThreadKind.PLATFORM
+            ? Thread.ofPlatform().daemon()
+            : Thread.ofVirtual();
+        CountDownLatch start = new CountDownLatch(1);
+        int itemsPerProducer = items / topology.getProducers();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int i = 0; i < topology.getProducers(); ++i) {
+            producers.add(threadBuilder.start(() -> produce(queue, start, itemsPerProducer)));
+        }
+        List<Consumer> consumers = new ArrayList<>();
+        List<Thread> consumerThreads = new ArrayList<>();
+        for (int i = 0; i < topology.getConsumers(); ++i) {
+            Consumer consumer = new Consumer(queue, consumeMode, items);
+            consumers.add(consumer);
+            consumerThreads.add(threadBuilder.start(consumer));
+        }
+
+        try {
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+            for (int i = 0; i < topology.getConsumers(); ++i) {
+                queue.put(END_MARKER);
+            }
+            for (Thread consumerThread : consumerThreads) {
+                consumerThread.join();
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            long[] latencies = consumers.stream()
+                .flatMapToLong(consumer -> Arrays.stream(consumer.latencies, 0, consumer.count))
+                .sorted()
+                .toArray();
+            return new ProducerConsumerMeasurement(topology, threadKind, consumeMode,
+                latencies.length * 1_000_000_000L / elapsedNanos, createHistogram(latencies));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void produce(BlockingQueue<Object> queue, CountDownLatch start, int items) {
+        try {
+            start.await();
+            for (int i = 0; i < items; ++i) {
+                queue.put(System.nanoTime());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LatencyHistogram createHistogram(long[] sortedLatencies) {
+        SortedMap<Long, Long> countByUpperBound = new TreeMap<>();
+        int index = 0;
+        for (long upperBound : HISTOGRAM_UPPER_BOUNDS) {
+            int start = index;
+            while (index < sortedLatencies.length && sortedLatencies[index] <= upperBound) {
+                ++index;
+            }
+            countByUpperBound.put(upperBound, (long) (index - start));
+        }
+        return new LatencyHistogram(MeasurementUtils.getPercentile(sortedLatencies, 50),
+            MeasurementUtils.getPercentile(sortedLatencies, 99), MeasurementUtils.getPercentile(sortedLatencies, 99.9),
+            countByUpperBound);
+    }
+
+    /**
+     * Takes items from the queue and records their latency until it takes an end marker.
+     */
+    private static final class Consumer implements Runnable {
+
+        private final BlockingQueue<Object> queue;
+        private final ConsumeMode consumeMode;
+        private final long[] latencies;
+        private int count;
+
+        Consumer(BlockingQueue<Object> queue, ConsumeMode consumeMode, int maxItems) {
+            this.queue = queue;
+            this.consumeMode = consumeMode;
+            this.latencies = new long[maxItems];
+        }
+
+        @Override
+        public void run() {
+            List<Object> batch = new ArrayList<>(MAX_BATCH_SIZE);
+            try {
+                boolean running = true;
+                while (running) {
+                    batch.add(queue.take());
+                    if (consumeMode == ConsumeMode.DRAIN_TO) {
+                        queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                    }
+                    running = consume(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * Records the latency of the items in the batch.
+         *
+         * @return false if the batch contained an end marker, true otherwise
+         */
+        private boolean consume(List<Object> batch) throws InterruptedException {
+            long now = System.nanoTime();
+            int endMarkers = 0;
+            for (Object item : batch) {
+                if (item == END_MARKER) {
+                    ++endMarkers;
+                } else {
+                    latencies[count++] = now - (Long) item;
+                }
+            }
+            // End markers are only added after all items, so the batch may only have taken the markers of others
+            for (int i = 1; i < endMarkers; ++i) {
+                queue.put(END_MARKER);
+            }
+            return endMarkers == 0;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.QueueCreator;
+import ch.jalu.collectionbehavior.documentation.OperationCost;
+import ch.jalu.collectionbehavior.documentation.QueueMethodBehavior;
+import ch.jalu.collectionbehavior.documentation.Support;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+/**
+ * Analyzes a queue type: the results of its methods on an empty, a non-empty and a full queue, its capacity,
+ * and how the cost of its methods grows with the size. Some methods that look cheap have to traverse all elements,
+ * such as {@code size()} of non-blocking linked queues or {@code remove(o)} of a priority queue.
+ */
+public class QueueAnalyzer {
+
+    private static final int[] SIZES = { 1_000, 10_000, 100_000 };
+    /** Number of calls per measurement, as a single call is too fast to be measured. */
+    private static final int CALLS_PER_RUN = 100;
+    private static final int RUNS = 5;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+    /** Elements the queue is created with to document its methods, not in their natural order. */
+    private static final String[] ELEMENTS = { "c", "a", "b" };
+
+    private final QueueCreator queueCreator;
+    /** Elements that are not in the queue, to be added by the measured calls. */
+    private final String[] newElements = Arrays.stream(ElementUtils.createElements(CALLS_PER_RUN))
+        .map(element -> "new" + element)
+        .toArray(String[]::new);
+
+    public QueueAnalyzer(QueueCreator queueCreator) {
+        this.queueCreator = queueCreator;
+    }
+
+    public String determineQueueClass() {
+        return queueCreator.createQueue().getClass().getName();
+    }
+
+    public Support determineNullElementSupport() {
+        try {
+            queueCreator.createQueue((String) null);
+            return Support.YES;
+        } catch (NullPointerException e) {
+            return Support.NO;
+        }
+    }
+
+    /**
+     * Returns the capacity of an empty queue, if it has one.
+     *
+     * @return the capacity, null if the queue is not bounded
+     */
+    public Integer determineCapacity() {
+        if (queueCreator.createQueue() instanceof BlockingQueue<String> blockingQueue) {
+            return blockingQueue.remainingCapacity();
+        }
+        return null;
+    }
+
+    /**
+     * Calls the methods of {@link Queue} (and {@link Deque} if applicable) on an empty queue, on a queue with
+     * elements and, if the queue has a practical capacity limit, on a full queue.
+     *
+     * @return the result of each method call
+     */
+    public List<QueueMethodBehavior> determineMethodBehaviors() {
+        List<QueueMethodBehavior> behaviors = new ArrayList<>();
+        boolean isDeque = queueCreator.createQueue() instanceof Deque<?>;
+
+        String withElements = "[" + String.join(", ", ELEMENTS) + "]";
+        addBehavior(behaviors, withElements, "peek()", Queue::peek);
+        addBehavior(behaviors, withElements, "poll()", Queue::poll);
+        if (isDeque) {
+            addBehavior(behaviors, withElements, "peekLast()", queue -> ((Deque<String>) queue).peekLast());
+            addBehavior(behaviors, withElements, "pollLast()", queue -> ((Deque<String>) queue).pollLast());
+        }
+        addBehavior(behaviors, withElements, "offer(null)", queue -> queue.offer(null));
+        addBehavior(behaviors, withElements, "add(null)", queue -> queue.add(null));
+
+        addBehavior(behaviors, "empty", "peek()", Queue::peek);
+        addBehavior(behaviors, "empty", "poll()", Queue::poll);
+        addBehavior(behaviors, "empty", "element()", Queue::element);
+        addBehavior(behaviors, "empty", "remove()", Queue::remove);
+        if (isDeque) {
+            addBehavior(behaviors, "empty", "pollLast()", queue -> ((Deque<String>) queue).pollLast());
+            addBehavior(behaviors, "empty", "removeLast()", queue -> ((Deque<String>) queue).removeLast());
+        }
+
+        Integer capacity = determineCapacity();
+        if (capacity != null && capacity < Integer.MAX_VALUE) {
+            String full = "full (" + capacity + " elements)";
+            behaviors.add(callOnFullQueue(full, "offer(e)", queue -> queue.offer("e")));
+            behaviors.add(callOnFullQueue(full, "add(e)", queue -> queue.add("e")));
+        }
+        return behaviors;
+    }
+
+    /**
+     * Measures the methods of the queue at growing sizes.
+     *
+     * @return the cost of each method
+     */
+    public List<OperationCost> analyzeOperationCosts() {
+        List<Operation> operations = new ArrayList<>(List.of(
+            new Operation("offer(e)", (queue, newElement, existingElement) -> queue.offer(newElement)),
+            new Operation("poll()", (queue, newElement, existingElement) -> queue.poll()),
+            new Operation("peek()", (queue, newElement, existingElement) -> queue.peek()),
+            new Operation("size()", (queue, newElement, existingElement) -> queue.size()),
+            new Operation("contains(o)", (queue, newElement, existingElement) -> queue.contains(existingElement)),
+            new Operation("remove(o)", (queue, newElement, existingElement) -> queue.remove(existingElement))));
+        if (queueCreator.createQueue() instanceof Deque<?>) {
+            operations.add(new Operation("offerFirst(e)",
+                (queue, newElement, existingElement) -> ((Deque<String>) queue).offerFirst(newElement)));
+            operations.add(new Operation("pollLast()",
+                (queue, newElement, existingElement) -> ((Deque<String>) queue).pollLast()));
+        }
+
+        return operations.stream()
+            .map(this::measure)
+            .toList();
+    }
+
+    private void addBehavior(List<QueueMethodBehavior> behaviors, String queueState, String call,
+                             Function<Queue<String>, Object> method) {
+        Queue<String> queue = "empty".equals(queueState)
+            ? queueCreator.createQueue()
+            : queueCreator.createQueue(ELEMENTS);
+        behaviors.add(callMethod(queue, queueState, call, method));
+    }
+
+    private QueueMethodBehavior callOnFullQueue(String queueState, String call,
+                                                Function<Queue<String>, Object> method) {
+        Queue<String> queue = queueCreator.createQueue();
+        int element = 0;
+        while (queue.offer("f" + element)) {
+            ++element;
+        }
+        return callMethod(queue, queueState, call, method);
+    }
+
+    private static QueueMethodBehavior callMethod(Queue<String> queue, String queueState, String call,
+                                                  Function<Queue<String>, Object> method) {
+        try {
+            Object result = method.apply(queue);
+            String formattedResult = result instanceof String ? "\"" + result + "\"" : String.valueOf(result);
+            return new QueueMethodBehavior(queueState, call, formattedResult, false);
+        } catch (RuntimeException e) {
+            return new QueueMethodBehavior(queueState, call, e.getClass().getSimpleName(), true);
+        }
+    }
+
+    private OperationCost measure(Operation operation) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        measure(operation, SIZES[0], WARM_UP_RUNS);
+        for (int size : SIZES) {
+            nanosBySize.put(size, measure(operation, size, RUNS));
+        }
+        return new OperationCost(operation.method(), ComplexityEstimator.estimate(nanosBySize),
+            nanosBySize, CALLS_PER_RUN, false, null);
+    }
+
+    private long measure(Operation operation, int size, int runs) {
+        String[] elements = ElementUtils.createElements(size);
+        // Elements in the middle of the queue, a different one for each call in case the call removes it
+        String[] existingElements = Arrays.copyOfRange(elements, size / 2, size / 2 + CALLS_PER_RUN);
+        return MeasurementUtils.measure(() -> queueCreator.createQueue(elements), queue -> {
+            Object result = null;
+            for (int i = 0; i < CALLS_PER_RUN; ++i) {
+                result = operation.call().call(queue, newElements[i], existingElements[i]);
+            }
+            return result;
+        }, runs).nanos();
+    }
+
+    /**
+     * Method to measure.
+     *
+     * @param method the method that is called
+     * @param call calls the method
+     */
+    private record Operation(String method, QueueCall call) {
+    }
+
+    @FunctionalInterface
+    private interface QueueCall {
+
+        /**
+         * Calls a method on the queue.
+         *
+         * @param queue the queue to call the method on
+         * @param newElement an element that is not in the queue, for methods that add an element
+         * @param existingElement an element in the middle of the queue, for methods that look for an element
+         * @return the result of the method
+         */
+        Object call(Queue<String> queue, String newElement, String existingElement);
+    }
+}
@@ -0,0 +1,211 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.OperationCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Measures range views of navigable sets and maps ({@code subSet}, {@code headSet}, {@code subMap}...) at growing
+ * sizes: the creation of a view, lookups within it, its {@code size()} and the iteration over it. Sub views cover
+ * the middle half of the collection; head and tail views extend from the bounds of that half to the first or last
+ * element.
+ *
+ * @param <C> the navigable type
+ */
+public class RangeViewAnalyzer<C> {
+
+    private static final int[] SIZES = { 1_000, 10_000, 100_000 };
+    /** Number of calls per measurement, as a single call is too fast to be measured. */
+    private static final int CALLS_PER_RUN = 100;
+    private static final int RUNS = 5;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+
+    private final Function<String[], C> creator;
+    private final List<Operation<C>> operations;
+
+    private RangeViewAnalyzer(Function<String[], C> creator, List<Operation<C>> operations) {
+        this.creator = creator;
+        this.operations = operations;
+    }
+
+    /**
+     * Creates an analyzer for range views of a {@link NavigableSet}.
+     *
+     * @param creator function creating a navigable set with the given elements
+     * @return analyzer for the set type
+     */
+    public static RangeViewAnalyzer<NavigableSet<String>> forSet(Function<String[], NavigableSet<String>> creator) {
+        return new RangeViewAnalyzer<>(creator, List.of(
+            new Operation<>("subSet(from, to)", (set, range) -> probe -> subSet(set, range)),
+            new Operation<>("view.contains(e)", (set, range) -> subSet(set, range)::contains),
+            new Operation<>("view.ceiling(e)", (set, range) -> subSet(set, range)::ceiling),
+            new Operation<>("view.floor(e)", (set, range) -> subSet(set, range)::floor),
+            new Operation<>("headSet(to)", (set, range) -> probe -> set.headSet(range.to(), false)),
+            new Operation<>("tailSet(from)", (set, range) -> probe -> set.tailSet(range.from(), true)),
+            new Operation<>("subSet(from, to).size()", (set, range) -> probe -> subSet(set, range).size()),
+            new Operation<>("headSet(to).size()", (set, range) -> probe -> set.headSet(range.to(), false).size()),
+            new Operation<>("tailSet(from).size()", (set, range) -> probe -> set.tailSet(range.from(), true).size()),
+            new Operation<>("view.size() (called repeatedly on the same view)", (set, range) -> {
+                NavigableSet<String> view = subSet(set, range);
+                return probe -> view.size();
+            }),
+            new Operation<>("subSet(from, to).subSet(from, to).subSet(from, to).size()",
+                (set, range) -> probe -> subSet(subSet(subSet(set, range), range), range).size()),
+            Operation.iteration("for (String e : view)", (set, range) -> {
+                NavigableSet<String> view = subSet(set, range);
+                return probe -> iterate(view);
+            }),
+            Operation.iteration("for (String e : view.subSet(from, to).subSet(from, to))", (set, range) -> {
+                NavigableSet<String> view = subSet(subSet(subSet(set, range), range), range);
+                return probe -> iterate(view);
+            }),
+            Operation.iteration("for (String e : view.descendingSet())", (set, range) -> {
+                NavigableSet<String> view = subSet(set, range).descendingSet();
+                return probe -> iterate(view);
+            })));
+    }
+
+    /**
+     * Creates an analyzer for range views of a {@link NavigableMap}.
+     *
+     * @param creator function creating a navigable map with the given keys
+     * @return analyzer for the map type
+     */
+    public static RangeViewAnalyzer<NavigableMap<String, Integer>> forMap(
+        Function<String[], NavigableMap<String, Integer>> creator) {
+        return new RangeViewAnalyzer<>(creator, List.of(
+            new Operation<>("subMap(from, to)", (map, range) -> probe -> subMap(map, range)),
+            new Operation<>("view.containsKey(k)", (map, range) -> subMap(map, range)::containsKey),
+            new Operation<>("view.ceilingKey(k)", (map, range) -> subMap(map, range)::ceilingKey),
+            new Operation<>("view.floorKey(k)", (map, range) -> subMap(map, range)::floorKey),
+            new Operation<>("headMap(to)", (map, range) -> probe -> map.headMap(range.to(), false)),
+            new Operation<>("tailMap(from)", (map, range) -> probe -> map.tailMap(range.from(), true)),
+            new Operation<>("subMap(from, to).size()", (map, range) -> probe -> subMap(map, range).size()),
+            new Operation<>("headMap(to).size()", (map, range) -> probe -> map.headMap(range.to(), false).size()),
+            new Operation<>("tailMap(from).size()", (map, range) -> probe -> map.tailMap(range.from(), true).size()),
+            new Operation<>("view.size() (called repeatedly on the same view)", (map, range) -> {
+                NavigableMap<String, Integer> view = subMap(map, range);
+                return probe -> view.size();
+            }),
+            new Operation<>("subMap(from, to).subMap(from, to).subMap(from, to).size()",
+                (map, range) -> probe -> subMap(subMap(subMap(map, range), range), range).size()),
+            Operation.iteration("for (Map.Entry<K, V> e : view.entrySet())", (map, range) -> {
+                NavigableMap<String, Integer> view = subMap(map, range);
+                return probe -> iterate(view.entrySet());
+            }),
+            Operation.iteration("for (Map.Entry<K, V> e : view.subMap(from, to).subMap(from, to).entrySet())",
+                (map, range) -> {
+                    NavigableMap<String, Integer> view = subMap(subMap(subMap(map, range), range), range);
+                    return probe -> iterate(view.entrySet());
+                }),
+            Operation.iteration("for (Map.Entry<K, V> e : view.descendingMap().entrySet())", (map, range) -> {
+                NavigableMap<String, Integer> view = subMap(map, range).descendingMap();
+                return probe -> iterate(view.entrySet());
+            })));
+    }
+
+    /**
+     * Measures all operations.
+     *
+     * @return the cost of each operation
+     */
+    public List<OperationCost> analyzeRangeViews() {
+        return operations.stream()
+            .map(this::measure)
+            .toList();
+    }
+
+    private OperationCost measure(Operation<C> operation) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        try {
+            measure(operation, SIZES[0], WARM_UP_RUNS);
+            for (int size : SIZES) {
+                nanosBySize.put(size, measure(operation, size, RUNS));
+            }
+        } catch (UnsupportedOperationException e) {
+            return new OperationCost(operation.code(), null, nanosBySize, CALLS_PER_RUN,
+                operation.visitsAllElements(), e.getClass().getSimpleName());
+        }
+        return new OperationCost(operation.code(), ComplexityEstimator.estimate(nanosBySize),
+            nanosBySize, CALLS_PER_RUN, operation.visitsAllElements(), null);
+    }
+
+    private long measure(Operation<C> operation, int size, int runs) {
+        String[] elements = ElementUtils.createElements(size);
+        C collection = creator.apply(elements);
+
+        String[] sortedElements = elements.clone();
+        Arrays.sort(sortedElements);
+        Range range = new Range(sortedElements[size / 4], sortedElements[size / 4 + size / 2]);
+        // Probes are spread over the range of the view
+        String[] probes = new String[CALLS_PER_RUN];
+        for (int i = 0; i < CALLS_PER_RUN; ++i) {
+            probes[i] = sortedElements[size / 4 + (int) ((long) i * (size / 2) / CALLS_PER_RUN)];
+        }
+
+        return MeasurementUtils.measure(() -> operation.preparation().apply(collection, range), call -> {
+            Object result = null;
+            for (String probe : probes) {
+                result = call.apply(probe);
+            }
+            return result;
+        }, runs).nanos();
+    }
+
+    private static NavigableSet<String> subSet(NavigableSet<String> set, Range range) {
+        return set.subSet(range.from(), true, range.to(), false);
+    }
+
+    private static NavigableMap<String, Integer> subMap(NavigableMap<String, Integer> map, Range range) {
+        return map.subMap(range.from(), true, range.to(), false);
+    }
+
+    private static Integer iterate(Iterable<?> iterable) {
+        int hash = 0;
+        for (Object element : iterable) {
+            hash += element.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Bounds of the range views.
+     *
+     * @param from the lowest element of the view (inclusive)
+     * @param to the upper bound of the view (exclusive)
+     */
+    private record Range(String from, String to) {
+    }
+
+    /**
+     * Operation to measure.
+     *
+     * @param code the code of the operation
+     * @param preparation prepares the call with the given collection and range (e.g. by creating the view), which
+     *                    is not measured; the returned function is called with an element of the view
+     * @param visitsAllElements whether the operation iterates over the view
+     * @param <C> the navigable type
+     */
+    private record Operation<C>(String code, BiFunction<C, Range, Function<String, Object>> preparation,
+                                boolean visitsAllElements) {
+
+        Operation(String code, BiFunction<C, Range, Function<String, Object>> preparation) {
+            this(code, preparation, false);
+        }
+
+        static <C> Operation<C> iteration(String code,
+                                          BiFunction<C, Range, Function<String, Object>> preparation) {
+            return new Operation<>(code, preparation, true);
+        }
+    }
+}
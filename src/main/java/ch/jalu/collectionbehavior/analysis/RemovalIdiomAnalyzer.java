@@ -0,0 +1,131 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.documentation.RemovalIdiomCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Compares different idioms to remove a range of elements from a list. Depending on the list type, an idiom
+ * removes the elements in one batch or one by one, shifting the remaining elements each time.
+ * <p>
+ * All idioms remove the same elements: the middle half of the list.
+ */
+public class RemovalIdiomAnalyzer {
+
+    private static final int[] SIZES = { 1_000, 4_000, 16_000, 64_000 };
+    private static final int RUNS = 3;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+    /** Larger sizes are skipped once a removal takes longer than this, as happens for quadratic idioms. */
+    private static final long TIME_BUDGET_NANOS = 20_000_000L;
+
+    private final ListCreator listCreator;
+
+    public RemovalIdiomAnalyzer(ListCreator listCreator) {
+        this.listCreator = listCreator;
+    }
+
+    /**
+     * Measures all removal idioms.
+     *
+     * @return the cost of each removal idiom; empty if the list type cannot have as many elements as are needed
+     */
+    public List<RemovalIdiomCost> analyzeRemovalIdioms() {
+        try {
+            listCreator.createList(ElementUtils.createElements(SIZES[0]));
+        } catch (SizeNotSupportedException ignore) {
+            return List.of();
+        }
+
+        return Arrays.stream(RemovalIdiom.values())
+            .map(this::measure)
+            .toList();
+    }
+
+    private RemovalIdiomCost measure(RemovalIdiom idiom) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        try {
+            measure(idiom, SIZES[0], WARM_UP_RUNS);
+            for (int size : SIZES) {
+                long nanos = measure(idiom, size, RUNS);
+                nanosBySize.put(size, nanos);
+                if (nanos > TIME_BUDGET_NANOS) {
+                    break;
+                }
+            }
+        } catch (UnsupportedOperationException e) {
+            return new RemovalIdiomCost(idiom.code, null, nanosBySize, e.getClass().getSimpleName());
+        }
+
+        // The first size may already exceed the time budget, in which case the complexity cannot be estimated
+        Complexity complexity = nanosBySize.size() >= 2 ? ComplexityEstimator.estimate(nanosBySize) : null;
+        return new RemovalIdiomCost(idiom.code, complexity, nanosBySize, null);
+    }
+
+    private long measure(RemovalIdiom idiom, int size, int runs) {
+        String[] elements = ElementUtils.createElements(size);
+        int from = size / 4;
+        int to = from + size / 2;
+        Set<String> elementsToRemove = new HashSet<>(Arrays.asList(elements).subList(from, to));
+
+        return MeasurementUtils.measure(() -> listCreator.createList(elements.clone()), list -> {
+            idiom.remove(list, from, to, elementsToRemove);
+            return list;
+        }, runs).nanos();
+    }
+
+    private enum RemovalIdiom {
+
+        REMOVE_IF("list.removeIf(predicate)") {
+            @Override
+            void remove(List<String> list, int from, int to, Set<String> elementsToRemove) {
+                list.removeIf(elementsToRemove::contains);
+            }
+        },
+
+        ITERATOR_REMOVE("iterator.remove() in a loop") {
+            @Override
+            void remove(List<String> list, int from, int to, Set<String> elementsToRemove) {
+                ListIterator<String> iterator = list.listIterator(from);
+                for (int i = from; i < to; ++i) {
+                    iterator.next();
+                    iterator.remove();
+                }
+            }
+        },
+
+        SUBLIST_CLEAR("list.subList(from, to).clear()") {
+            @Override
+            void remove(List<String> list, int from, int to, Set<String> elementsToRemove) {
+                list.subList(from, to).clear();
+            }
+        };
+
+        private final String code;
+
+        RemovalIdiom(String code) {
+            this.code = code;
+        }
+
+        /**
+         * Removes the elements from index {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param list the list to remove the elements from
+         * @param from the index of the first element to remove
+         * @param to the index after the last element to remove
+         * @param elementsToRemove the elements in the range
+         */
+        abstract void remove(List<String> list, int from, int to, Set<String> elementsToRemove);
+    }
+}
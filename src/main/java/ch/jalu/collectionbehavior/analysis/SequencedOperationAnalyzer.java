@@ -0,0 +1,134 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.OperationCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SequencedCollection;
+import java.util.SequencedMap;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Measures the methods of {@link SequencedCollection} or {@link SequencedMap} at growing sizes, e.g. to show
+ * that removing the first element of an array-based list is O(n).
+ *
+ * @param <C> the sequenced type
+ */
+public class SequencedOperationAnalyzer<C> {
+
+    private static final int[] SIZES = { 1_000, 10_000, 100_000 };
+    /** Number of calls per measurement, as a single call is too fast to be measured. */
+    private static final int CALLS_PER_RUN = 100;
+    private static final int RUNS = 5;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+
+    private final Function<String[], C> creator;
+    private final List<Operation<C>> operations;
+    /** Elements that are not in the collection, to be added by the measured calls. */
+    private final String[] newElements = Arrays.stream(ElementUtils.createElements(CALLS_PER_RUN))
+        .map(element -> "new" + element)
+        .toArray(String[]::new);
+
+    private SequencedOperationAnalyzer(Function<String[], C> creator, List<Operation<C>> operations) {
+        this.creator = creator;
+        this.operations = operations;
+    }
+
+    /**
+     * Creates an analyzer for the methods of {@link SequencedCollection}.
+     *
+     * @param creator function creating a sequenced collection with the given elements
+     * @param <C> the collection type
+     * @return analyzer for the collection type
+     */
+    public static <C extends SequencedCollection<String>> SequencedOperationAnalyzer<C> forCollection(
+        Function<String[], C> creator) {
+        return new SequencedOperationAnalyzer<>(creator, List.of(
+            new Operation<>("getFirst()", (coll, element) -> coll.getFirst()),
+            new Operation<>("getLast()", (coll, element) -> coll.getLast()),
+            new Operation<>("addFirst(e)", (coll, element) -> {
+                coll.addFirst(element);
+                return null;
+            }),
+            new Operation<>("addLast(e)", (coll, element) -> {
+                coll.addLast(element);
+                return null;
+            }),
+            new Operation<>("removeFirst()", (coll, element) -> coll.removeFirst()),
+            new Operation<>("removeLast()", (coll, element) -> coll.removeLast()),
+            new Operation<>("reversed()", (coll, element) -> coll.reversed())));
+    }
+
+    /**
+     * Creates an analyzer for the methods of {@link SequencedMap}.
+     *
+     * @param creator function creating a sequenced map with the given keys
+     * @param <M> the map type
+     * @return analyzer for the map type
+     */
+    public static <M extends SequencedMap<String, Integer>> SequencedOperationAnalyzer<M> forMap(
+        Function<String[], M> creator) {
+        return new SequencedOperationAnalyzer<>(creator, List.of(
+            new Operation<>("firstEntry()", (map, key) -> map.firstEntry()),
+            new Operation<>("lastEntry()", (map, key) -> map.lastEntry()),
+            new Operation<>("putFirst(k, v)", (map, key) -> map.putFirst(key, 0)),
+            new Operation<>("putLast(k, v)", (map, key) -> map.putLast(key, 0)),
+            new Operation<>("pollFirstEntry()", (map, key) -> map.pollFirstEntry()),
+            new Operation<>("pollLastEntry()", (map, key) -> map.pollLastEntry()),
+            new Operation<>("reversed()", (map, key) -> map.reversed())));
+    }
+
+    /**
+     * Measures all methods.
+     *
+     * @return the cost of each method
+     */
+    public List<OperationCost> analyzeOperations() {
+        return operations.stream()
+            .map(this::measure)
+            .toList();
+    }
+
+    private OperationCost measure(Operation<C> operation) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        try {
+            measure(operation, SIZES[0], WARM_UP_RUNS);
+            for (int size : SIZES) {
+                nanosBySize.put(size, measure(operation, size, RUNS));
+            }
+        } catch (UnsupportedOperationException e) {
+            return new OperationCost(operation.method(), null, nanosBySize, CALLS_PER_RUN, false,
+                e.getClass().getSimpleName());
+        }
+        return new OperationCost(operation.method(), ComplexityEstimator.estimate(nanosBySize),
+            nanosBySize, CALLS_PER_RUN, false, null);
+    }
+
+    private long measure(Operation<C> operation, int size, int runs) {
+        String[] elements = ElementUtils.createElements(size);
+        return MeasurementUtils.measure(() -> creator.apply(elements.clone()), coll -> {
+            Object result = null;
+            for (String element : newElements) {
+                result = operation.call().apply(coll, element);
+            }
+            return result;
+        }, runs).nanos();
+    }
+
+    /**
+     * Method to measure.
+     *
+     * @param method the method that is called
+     * @param call calls the method on the given collection; takes an element that is not in the collection yet
+     *             for methods that add an element
+     * @param <C> the sequenced type
+     */
+    private record Operation<C>(String method, BiFunction<C, String, Object> call) {
+    }
+}
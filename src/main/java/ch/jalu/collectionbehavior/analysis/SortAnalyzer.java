@@ -0,0 +1,119 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.documentation.SortCost;
+import ch.jalu.collectionbehavior.documentation.SortInput;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils.Measurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Measures {@link List#sort} with the natural order and a custom comparator, on input that is already sorted,
+ * sorted in reverse, or in random order. Lists sort differently: some sort their backing array in place, others
+ * copy their elements to an array and back.
+ */
+public class SortAnalyzer {
+
+    private static final int[] SIZES = { 1_000, 100_000, 1_000_000, 10_000_000 };
+    /** Runs per size up to {@link #SINGLE_RUN_SIZE}; larger sizes are measured once. */
+    private static final int RUNS = 5;
+    private static final int SINGLE_RUN_SIZE = 1_000_000;
+    /** Runs at the smallest size before measuring, so that the first sizes are not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+    /** Larger sizes are skipped once a call takes longer than this, as happens for random input. */
+    private static final long TIME_BUDGET_NANOS = 1_000_000_000L;
+    private static final long SHUFFLE_SEED = 1234L;
+
+    private final ListCreator listCreator;
+
+    public SortAnalyzer(ListCreator listCreator) {
+        this.listCreator = listCreator;
+    }
+
+    /**
+     * Measures sorting for all combinations of comparators and input orders.
+     *
+     * @return the cost of each combination
+     */
+    public List<SortCost> analyzeSort() {
+        List<SortCost> costs = new ArrayList<>();
+        for (SortComparator comparator : SortComparator.values()) {
+            for (SortInput input : SortInput.values()) {
+                costs.add(measure(comparator, input));
+            }
+        }
+        return costs;
+    }
+
+    private SortCost measure(SortComparator comparator, SortInput input) {
+        SortedMap<Integer, Long> nanosBySize = new TreeMap<>();
+        SortedMap<Integer, Long> allocatedBytesBySize = new TreeMap<>();
+        try {
+            String[] elements = arrange(ElementUtils.createElements(SIZES[0]), input, comparator.comparator);
+            measure(elements, comparator, WARM_UP_RUNS);
+        } catch (UnsupportedOperationException e) {
+            return new SortCost(comparator.description, input,
+                nanosBySize, allocatedBytesBySize, e.getClass().getSimpleName());
+        }
+
+        for (int size : SIZES) {
+            String[] elements = arrange(ElementUtils.createElements(size), input, comparator.comparator);
+            Measurement measurement = measure(elements, comparator, size < SINGLE_RUN_SIZE ? RUNS : 1);
+            nanosBySize.put(size, measurement.nanos());
+            allocatedBytesBySize.put(size, measurement.allocatedBytes());
+            if (measurement.nanos() > TIME_BUDGET_NANOS) {
+                break;
+            }
+        }
+        return new SortCost(comparator.description, input, nanosBySize, allocatedBytesBySize, null);
+    }
+
+    private Measurement measure(String[] elements, SortComparator comparator, int runs) {
+        // Elements are cloned as some lists (e.g. Arrays#asList) sort the array they were created with
+        return MeasurementUtils.measure(() -> listCreator.createList(elements.clone()), list -> {
+            list.sort(comparator.comparator);
+            return list;
+        }, runs);
+    }
+
+    private enum SortComparator {
+
+        NATURAL("null (natural order)", null),
+
+        CUSTOM("String.CASE_INSENSITIVE_ORDER", String.CASE_INSENSITIVE_ORDER);
+
+        private final String description;
+        private final Comparator<String> comparator;
+
+        SortComparator(String description, Comparator<String> comparator) {
+            this.description = description;
+            this.comparator = comparator;
+        }
+    }
+
+    /**
+     * Arranges the given elements in the given order.
+     *
+     * @param elements the elements to arrange (modified by this method)
+     * @param input the order to arrange the elements in
+     * @param comparator the comparator defining the order, null for natural order
+     * @return the arranged elements
+     */
+    private static String[] arrange(String[] elements, SortInput input, Comparator<String> comparator) {
+        switch (input) {
+            case PRESORTED -> Arrays.sort(elements, comparator);
+            case REVERSED -> Arrays.sort(elements, Collections.reverseOrder(comparator));
+            case RANDOM -> Collections.shuffle(Arrays.asList(elements), new Random(SHUFFLE_SEED));
+        }
+        return elements;
+    }
+}
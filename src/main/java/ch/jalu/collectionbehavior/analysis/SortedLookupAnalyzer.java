@@ -0,0 +1,305 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.documentation.SortedLookupCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import com.google.common.collect.ImmutableRangeMap;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeMap;
+import com.google.common.collect.RangeSet;
+import com.google.common.collect.TreeRangeMap;
+import com.google.common.collect.TreeRangeSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * Measures sorted types that are created once and then only read: the time to create them from input in random
+ * order, their footprint and the time of a lookup. Tree-based types are compared with Guava's immutable types,
+ * which keep their entries in a sorted array and look them up with a binary search.
+ * <p>
+ * The footprint is the memory retained by the collection, without the elements (or ranges) it is created from,
+ * which are shared by all instances.
+ *
+ * @param <I> the type of the input the collections are created from
+ */
+public class SortedLookupAnalyzer<I> {
+
+    private static final int[] SIZES = { 1_000, 100_000 };
+    /** Total number of entries over all instances of a footprint measurement, so that small sizes are measurable. */
+    private static final int ENTRIES_PER_FOOTPRINT_MEASUREMENT = 1_000_000;
+    private static final int RUNS = 5;
+    private static final int WARM_UP_RUNS = 20;
+    private static final long SHUFFLE_SEED = 1234L;
+    /** Distance between the lower bounds of two consecutive ranges. */
+    private static final int RANGE_STEP = 10;
+    /** Length of each range: points between two ranges are not in any range. */
+    private static final int RANGE_LENGTH = 5;
+
+    private final IntFunction<I> inputCreator;
+    private final List<Structure<I, ?>> structures;
+
+    private SortedLookupAnalyzer(IntFunction<I> inputCreator, List<Structure<I, ?>> structures) {
+        this.inputCreator = inputCreator;
+        this.structures = structures;
+    }
+
+    /**
+     * Creates an analyzer for sorted sets and maps, which look up elements with {@code contains(e)} or keys with
+     * {@code containsKey(k)}.
+     *
+     * @return analyzer for sorted sets and maps
+     */
+    public static SortedLookupAnalyzer<KeyInput> forSortedSetsAndMaps() {
+        ToIntBiFunction<NavigableSet<String>, KeyInput> setLookup = (set, input) -> {
+            int hits = 0;
+            for (String probe : input.probes()) {
+                if (set.contains(probe)) {
+                    ++hits;
+                }
+            }
+            return hits;
+        };
+        ToIntBiFunction<NavigableMap<String, Integer>, KeyInput> mapLookup = (map, input) -> {
+            int hits = 0;
+            for (String probe : input.probes()) {
+                if (map.containsKey(probe)) {
+                    ++hits;
+                }
+            }
+            return hits;
+        };
+
+        return new SortedLookupAnalyzer<>(SortedLookupAnalyzer::createKeyInput, List.of(
+            new Structure<>("JDK TreeSet", input -> new TreeSet<>(Arrays.asList(input.keys())), setLookup),
+            new Structure<>("JDK Collections#unmodifiableNavigableSet",
+                input -> Collections.unmodifiableNavigableSet(new TreeSet<>(Arrays.asList(input.keys()))),
+                setLookup),
+            new Structure<>("Guava ImmutableSortedSet#copyOf",
+                input -> ImmutableSortedSet.copyOf(input.keys()), setLookup),
+            new Structure<>("JDK TreeMap", input -> {
+                NavigableMap<String, Integer> map = new TreeMap<>();
+                for (int i = 0; i < input.keys().length; ++i) {
+                    map.put(input.keys()[i], input.values()[i]);
+                }
+                return map;
+            }, mapLookup),
+            new Structure<>("Guava ImmutableSortedMap#naturalOrder", input -> {
+                ImmutableSortedMap.Builder<String, Integer> builder = ImmutableSortedMap.naturalOrder();
+                for (int i = 0; i < input.keys().length; ++i) {
+                    builder.put(input.keys()[i], input.values()[i]);
+                }
+                return builder.buildOrThrow();
+            }, mapLookup)));
+    }
+
+    /**
+     * Creates an analyzer for sets and maps of disjoint ranges, which look up the range that contains a point.
+     * A TreeMap from the lower bound to the upper bound of each range, queried with {@code floorEntry(p)}, is
+     * measured as the JDK alternative.
+     *
+     * @return analyzer for range sets and maps
+     */
+    public static SortedLookupAnalyzer<RangeInput> forRangeSetsAndMaps() {
+        ToIntBiFunction<RangeSet<Integer>, RangeInput> rangeSetLookup = (rangeSet, input) -> {
+            int hits = 0;
+            for (Integer probe : input.probes()) {
+                if (rangeSet.contains(probe)) {
+                    ++hits;
+                }
+            }
+            return hits;
+        };
+        ToIntBiFunction<RangeMap<Integer, Integer>, RangeInput> rangeMapLookup = (rangeMap, input) -> {
+            int hits = 0;
+            for (Integer probe : input.probes()) {
+                if (rangeMap.get(probe) != null) {
+                    ++hits;
+                }
+            }
+            return hits;
+        };
+
+        return new SortedLookupAnalyzer<>(SortedLookupAnalyzer::createRangeInput, List.of(
+            new Structure<RangeInput, NavigableMap<Integer, Integer>>("JDK TreeMap<lower bound, upper bound>",
+                input -> {
+                    NavigableMap<Integer, Integer> map = new TreeMap<>();
+                    for (Range<Integer> range : input.ranges()) {
+                        map.put(range.lowerEndpoint(), range.upperEndpoint());
+                    }
+                    return map;
+                },
+                (map, input) -> {
+                    int hits = 0;
+                    for (Integer probe : input.probes()) {
+                        Map.Entry<Integer, Integer> entry = map.floorEntry(probe);
+                        if (entry != null && probe < entry.getValue()) {
+                            ++hits;
+                        }
+                    }
+                    return hits;
+                }),
+            new Structure<>("Guava ImmutableRangeSet#builder", input -> {
+                ImmutableRangeSet.Builder<Integer> builder = ImmutableRangeSet.builder();
+                for (Range<Integer> range : input.ranges()) {
+                    builder.add(range);
+                }
+                return builder.build();
+            }, rangeSetLookup),
+            new Structure<>("Guava TreeRangeSet", input -> {
+                RangeSet<Integer> rangeSet = TreeRangeSet.create();
+                for (Range<Integer> range : input.ranges()) {
+                    rangeSet.add(range);
+                }
+                return rangeSet;
+            }, rangeSetLookup),
+            new Structure<>("Guava ImmutableRangeMap#builder", input -> {
+                ImmutableRangeMap.Builder<Integer, Integer> builder = ImmutableRangeMap.builder();
+                for (Range<Integer> range : input.ranges()) {
+                    builder.put(range, range.lowerEndpoint());
+                }
+                return builder.build();
+            }, rangeMapLookup),
+            new Structure<>("Guava TreeRangeMap", input -> {
+                RangeMap<Integer, Integer> rangeMap = TreeRangeMap.create();
+                for (Range<Integer> range : input.ranges()) {
+                    rangeMap.put(range, range.lowerEndpoint());
+                }
+                return rangeMap;
+            }, rangeMapLookup)));
+    }
+
+    /**
+     * Measures all types at all sizes. All of them are warmed up before any is measured.
+     *
+     * @return the cost of each type for each size
+     */
+    public List<SortedLookupCost> analyzeCosts() {
+        I warmUpInput = inputCreator.apply(SIZES[0]);
+        for (Structure<I, ?> structure : structures) {
+            measureSpeed(structure, warmUpInput, WARM_UP_RUNS);
+        }
+
+        List<SortedLookupCost> costs = new ArrayList<>();
+        for (int size : SIZES) {
+            I input = inputCreator.apply(size);
+            for (Structure<I, ?> structure : structures) {
+                costs.add(measure(structure, input, size));
+            }
+        }
+        return costs;
+    }
+
+    private static <I, S> SortedLookupCost measure(Structure<I, S> structure, I input, int size) {
+        String className = structure.creator().apply(input).getClass().getName();
+        long retainedBytes = MeasurementUtils.measureRetainedBytes(() -> structure.creator().apply(input),
+            ENTRIES_PER_FOOTPRINT_MEASUREMENT / size);
+        long[] nanos = measureSpeed(structure, input, RUNS);
+        return new SortedLookupCost(structure.type(), className, size, nanos[0], retainedBytes,
+            (double) nanos[1] / size);
+    }
+
+    /**
+     * Measures the creation of the collection and the lookup of all probes.
+     *
+     * @return the time of the creation and the time of all lookups
+     */
+    private static <I, S> long[] measureSpeed(Structure<I, S> structure, I input, int runs) {
+        long creationNanos = MeasurementUtils.measure(() -> input, structure.creator(), runs).nanos();
+        S collection = structure.creator().apply(input);
+        long lookupNanos = MeasurementUtils.measure(() -> collection,
+            coll -> structure.lookUpAll().applyAsInt(coll, input), runs).nanos();
+        return new long[]{ creationNanos, lookupNanos };
+    }
+
+    /**
+     * Creates keys in random order, and as many probes in another random order: every other probe is a key and
+     * the others fall between two keys.
+     */
+    private static KeyInput createKeyInput(int size) {
+        String[] sortedKeys = ElementUtils.createElements(size);
+        Integer[] values = ElementUtils.createIntegerElements(size);
+        int[] keyOrder = createShuffledIndices(size, SHUFFLE_SEED);
+        int[] probeOrder = createShuffledIndices(size, SHUFFLE_SEED + 1);
+
+        String[] keys = new String[size];
+        String[] probes = new String[size];
+        for (int i = 0; i < size; ++i) {
+            keys[i] = sortedKeys[keyOrder[i]];
+            String key = sortedKeys[probeOrder[i]];
+            probes[i] = i % 2 == 0 ? key : key + "x";
+        }
+        return new KeyInput(keys, values, probes);
+    }
+
+    /**
+     * Creates disjoint ranges in random order, and as many probes in another random order: every other probe is
+     * in a range and the others are between two ranges.
+     */
+    private static RangeInput createRangeInput(int size) {
+        int[] rangeOrder = createShuffledIndices(size, SHUFFLE_SEED);
+        int[] probeOrder = createShuffledIndices(size, SHUFFLE_SEED + 1);
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Range<Integer>[] ranges = new Range[size];
+        Integer[] probes = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            int lowerBound = rangeOrder[i] * RANGE_STEP;
+            ranges[i] = Range.closedOpen(lowerBound, lowerBound + RANGE_LENGTH);
+            int offset = i % 2 == 0 ? RANGE_LENGTH / 2 : (RANGE_LENGTH + RANGE_STEP) / 2;
+            probes[i] = probeOrder[i] * RANGE_STEP + offset;
+        }
+        return new RangeInput(ranges, probes);
+    }
+
+    private static int[] createShuffledIndices(int size, long seed) {
+        List<Integer> indices = new ArrayList<>(Arrays.asList(ElementUtils.createIntegerElements(size)));
+        Collections.shuffle(indices, new Random(seed));
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Input of sorted sets and maps.
+     *
+     * @param keys the elements or keys in random order
+     * @param values the values of the maps, by index of the key
+     * @param probes the elements or keys to look up
+     */
+    public record KeyInput(String[] keys, Integer[] values, String[] probes) {
+    }
+
+    /**
+     * Input of range sets and maps.
+     *
+     * @param ranges the disjoint ranges in random order
+     * @param probes the points to look up
+     */
+    public record RangeInput(Range<Integer>[] ranges, Integer[] probes) {
+    }
+
+    /**
+     * Sorted type to analyze.
+     *
+     * @param type the description of the type
+     * @param creator creates the collection from the input
+     * @param lookUpAll looks up all probes of the input and returns the number of hits
+     * @param <I> the input type
+     * @param <S> the collection type
+     */
+    private record Structure<I, S>(String type, Function<I, S> creator, ToIntBiFunction<S, I> lookUpAll) {
+    }
+}
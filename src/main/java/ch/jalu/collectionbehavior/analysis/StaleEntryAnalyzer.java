@@ -0,0 +1,135 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.documentation.StaleEntryCost;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Measures the cost of stale entries in a map with weak keys, such as {@link WeakHashMap}: once the garbage
+ * collector has cleared keys, the next access to the map removes all of their entries, so a single call pays for
+ * all keys that were collected since the previous call.
+ * <p>
+ * The keys are cleared by dropping all references to them and running the garbage collector. As the map's entries
+ * are only enqueued after the garbage collection, each key is also tracked with a weak reference of our own, and
+ * the measurement waits until all of those have been enqueued.
+ */
+public class StaleEntryAnalyzer {
+
+    private static final int LIVE_ENTRIES = 1_000;
+    private static final int[] STALE_ENTRIES = { 1_000, 10_000, 100_000 };
+    private static final int RUNS = 5;
+    /** Runs with the fewest stale entries before measuring, so that the first measurements are not interpreted. */
+    private static final int WARM_UP_RUNS = 20;
+    private static final long ENQUEUE_TIMEOUT_MILLIS = 10_000;
+
+    private final MapCreator mapCreator;
+
+    public StaleEntryAnalyzer(MapCreator mapCreator) {
+        this.mapCreator = mapCreator;
+    }
+
+    /**
+     * Measures the first and the next access after garbage collections that cleared a growing number of keys.
+     *
+     * @return the cost for each number of stale entries
+     */
+    public List<StaleEntryCost> analyzeStaleEntries() {
+        for (int i = 0; i < WARM_UP_RUNS; ++i) {
+            measure(STALE_ENTRIES[0]);
+        }
+
+        List<StaleEntryCost> costs = new ArrayList<>();
+        for (int staleEntries : STALE_ENTRIES) {
+            long[] firstAccessNanos = new long[RUNS];
+            long[] nextAccessNanos = new long[RUNS];
+            for (int run = 0; run < RUNS; ++run) {
+                long[] nanos = measure(staleEntries);
+                firstAccessNanos[run] = nanos[0];
+                nextAccessNanos[run] = nanos[1];
+            }
+            costs.add(new StaleEntryCost(LIVE_ENTRIES, staleEntries, median(firstAccessNanos),
+                median(nextAccessNanos)));
+        }
+        return costs;
+    }
+
+    /**
+     * Creates a map with live and stale keys, clears the stale keys and measures the next two accesses.
+     *
+     * @return the time of the first and of the second access
+     */
+    private long[] measure(int staleEntries) {
+        String[] liveKeys = createKeys("live", LIVE_ENTRIES);
+        ReferenceQueue<String> queue = new ReferenceQueue<>();
+        List<WeakReference<String>> staleKeyReferences = new ArrayList<>(staleEntries);
+        Map<String, Integer> map = createMapWithStaleKeys(liveKeys, staleEntries, queue, staleKeyReferences);
+
+        System.gc();
+        awaitEnqueued(queue, staleEntries);
+
+        long start = System.nanoTime();
+        map.get(liveKeys[0]);
+        long firstAccessNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        map.get(liveKeys[1]);
+        long nextAccessNanos = System.nanoTime() - start;
+
+        if (map.size() != LIVE_ENTRIES) {
+            throw new IllegalStateException("Expected " + LIVE_ENTRIES + " entries, but map has " + map.size());
+        }
+        return new long[]{ firstAccessNanos, nextAccessNanos };
+    }
+
+    /**
+     * Creates the map in its own method so that no local variable references the stale keys afterwards.
+     */
+    private Map<String, Integer> createMapWithStaleKeys(String[] liveKeys, int staleEntries,
+                                                        ReferenceQueue<String> queue,
+                                                        List<WeakReference<String>> staleKeyReferences) {
+        String[] staleKeys = createKeys("stale", staleEntries);
+        for (String staleKey : staleKeys) {
+            staleKeyReferences.add(new WeakReference<>(staleKey, queue));
+        }
+
+        String[] allKeys = Arrays.copyOf(liveKeys, liveKeys.length + staleKeys.length);
+        System.arraycopy(staleKeys, 0, allKeys, liveKeys.length, staleKeys.length);
+        return mapCreator.createMap(allKeys);
+    }
+
+    private static void awaitEnqueued(ReferenceQueue<String> queue, int count) {
+        try {
+            for (int i = 0; i < count; ++i) {
+                if (queue.remove(ENQUEUE_TIMEOUT_MILLIS) == null) {
+                    throw new IllegalStateException("Only " + i + " of " + count + " keys were garbage collected");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates new String instances, which can be garbage collected unlike string literals.
+     */
+    private static String[] createKeys(String prefix, int size) {
+        String[] keys = new String[size];
+        for (int i = 0; i < size; ++i) {
+            keys[i] = prefix + i;
+        }
+        return keys;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,82 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.StreamSourcingCost;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures how much memory is allocated when a list is streamed into a new list or array. Terminal operations
+ * like {@link Stream#toArray()} and {@link Stream#toList()} allocate the result with the exact size if the
+ * source's spliterator is SIZED (and SUBSIZED for parallel streams); otherwise, they collect the elements into a
+ * growing buffer first.
+ * {@link Collectors#toList()} always grows an ArrayList, regardless of the spliterator.
+ */
+public class StreamSourcingAnalyzer {
+
+    private static final int SIZE = 100_000;
+    private static final int RUNS = 10;
+    /** Runs before measuring, so that the stream pipeline is not measured in interpreted mode. */
+    private static final int WARM_UP_RUNS = 20;
+
+    private final ListCreator listCreator;
+
+    public StreamSourcingAnalyzer(ListCreator listCreator) {
+        this.listCreator = listCreator;
+    }
+
+    /**
+     * Measures all terminal operations on a stream of the list.
+     *
+     * @return the cost of each terminal operation; empty if the list type cannot have as many elements as needed
+     */
+    public List<StreamSourcingCost> analyzeStreamSourcing() {
+        List<String> list;
+        try {
+            list = listCreator.createList(ElementUtils.createElements(SIZE));
+        } catch (SizeNotSupportedException ignore) {
+            return List.of();
+        }
+
+        long exactArrayBytes = MeasurementUtils.measure(() -> SIZE, Object[]::new, RUNS).allocatedBytes();
+        return Arrays.stream(TerminalOperation.values())
+            .map(operation -> measure(operation, list, exactArrayBytes))
+            .toList();
+    }
+
+    private static StreamSourcingCost measure(TerminalOperation operation, List<String> list,
+                                              long exactArrayBytes) {
+        MeasurementUtils.measure(() -> list, operation::collect, WARM_UP_RUNS);
+        MeasurementUtils.Measurement measurement = MeasurementUtils.measure(() -> list, operation::collect, RUNS);
+        return new StreamSourcingCost(operation.code, list.size(),
+            measurement.allocatedBytes(), exactArrayBytes, measurement.nanos());
+    }
+
+    private enum TerminalOperation {
+
+        TO_LIST("stream().toList()", Stream::toList),
+
+        TO_ARRAY("stream().toArray()", Stream::toArray),
+
+        COLLECTORS_TO_LIST("stream().collect(Collectors.toList())", stream -> stream.collect(Collectors.toList()));
+
+        private final String code;
+        private final Function<Stream<String>, Object> terminalOperation;
+
+        TerminalOperation(String code, Function<Stream<String>, Object> terminalOperation) {
+            this.code = code;
+            this.terminalOperation = terminalOperation;
+        }
+
+        Object collect(List<String> list) {
+            return terminalOperation.apply(list.stream());
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.ListCreator;
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SetCreator;
+import ch.jalu.collectionbehavior.documentation.ThreadKind;
+import ch.jalu.collectionbehavior.documentation.ThreadKindMeasurement;
+import ch.jalu.collectionbehavior.documentation.ThroughputMeasurement;
+import ch.jalu.collectionbehavior.documentation.WorkloadMix;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the throughput of a thread-safe collection that is shared by several threads, each of which performs
+ * random reads and writes on it for a fixed amount of time. The collection has a stable size: writes either add or
+ * remove an element, or replace one.
+ * <p>
+ * The same workloads can also be run as many short tasks, either on a pool of platform threads or on one virtual
+ * thread per task, to compare the two kinds of threads.
+ */
+public class ThroughputAnalyzer {
+
+    /** Number of elements the collection has at the start; writes keep the size around this number. */
+    private static final int SIZE = 10_000;
+    /**
+     * Numbers of threads to measure: powers of two up to the number of processors, and the number of processors
+     * itself. More threads than processors would only measure the scheduler.
+     */
+    private static final int[] THREAD_COUNTS = createThreadCounts(Runtime.getRuntime().availableProcessors());
+    private static final long DURATION_MILLIS = 200;
+    private static final long WARM_UP_MILLIS = 300;
+    /** Number of operations a thread performs between checks whether it should stop. */
+    private static final int OPERATIONS_PER_BATCH = 64;
+
+    /** Number of tasks, i.e. of virtual threads when each task has its own thread. */
+    private static final int TASKS = 4_000;
+    private static final int OPERATIONS_PER_TASK = 100;
+    /** Number of platform threads running the tasks: as many as the virtual thread scheduler has carrier threads. */
+    private static final int PLATFORM_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Supplier<Target> targetFactory;
+    private final String readOperation;
+    private final String writeOperation;
+
+    private ThroughputAnalyzer(Supplier<Target> targetFactory, String readOperation, String writeOperation) {
+        this.targetFactory = targetFactory;
+        this.readOperation = readOperation;
+        this.writeOperation = writeOperation;
+    }
+
+    public static ThroughputAnalyzer forList(ListCreator listCreator) {
+        return new ThroughputAnalyzer(() -> {
+            String[] elements = ElementUtils.createElements(2 * SIZE);
+            List<String> list = listCreator.createList(ElementUtils.createElements(SIZE));
+            return new Target(i -> list.get(i % SIZE), i -> list.set(i % SIZE, elements[i]));
+        }, "list.get(i)", "list.set(i, element)");
+    }
+
+    public static ThroughputAnalyzer forSet(SetCreator setCreator) {
+        return new ThroughputAnalyzer(() -> {
+            String[] elements = ElementUtils.createElements(2 * SIZE);
+            Set<String> set = setCreator.createSet(ElementUtils.createElements(SIZE));
+            return new Target(i -> set.contains(elements[i]),
+                i -> (i & 1) == 0 ? set.add(elements[i]) : set.remove(elements[i]));
+        }, "set.contains(element)", "set.add(element) or set.remove(element)");
+    }
+
+    public static ThroughputAnalyzer forMap(MapCreator mapCreator) {
+        return new ThroughputAnalyzer(() -> {
+            String[] keys = ElementUtils.createElements(2 * SIZE);
+            Map<String, Integer> map = mapCreator.createMap(ElementUtils.createElements(SIZE));
+            return new Target(i -> map.get(keys[i]),
+                i -> (i & 1) == 0 ? map.put(keys[i], i) : map.remove(keys[i]));
+        }, "map.get(key)", "map.put(key, value) or map.remove(key)");
+    }
+
+    /**
+     * @return code of the read operation that is measured
+     */
+    public String getReadOperation() {
+        return readOperation;
+    }
+
+    /**
+     * @return code of the write operation that is measured
+     */
+    public String getWriteOperation() {
+        return writeOperation;
+    }
+
+    /**
+     * Measures the throughput for all workload mixes and thread counts.
+     *
+     * @return the throughput for each workload mix and thread count
+     */
+    public List<ThroughputMeasurement> analyzeThroughput() {
+        List<ThroughputMeasurement> measurements = new ArrayList<>();
+        for (WorkloadMix mix : WorkloadMix.values()) {
+            Target target = targetFactory.get();
+            measure(target, mix, 1, WARM_UP_MILLIS);
+            for (int threads : THREAD_COUNTS) {
+                measurements.add(new ThroughputMeasurement(mix, threads,
+                    measure(target, mix, threads, DURATION_MILLIS)));
+            }
+        }
+        return measurements;
+    }
+
+    /**
+     * Runs each workload as {@link #TASKS} tasks, on a fixed pool of platform threads and with a virtual thread per
+     * task. Every operation is timed to determine the tail latency, and JFR records how often a virtual thread was
+     * pinned to its carrier thread, i.e. blocked without releasing it.
+     *
+     * @return the throughput, latency and pinned events for each workload mix and kind of thread
+     */
+    public List<ThreadKindMeasurement> analyzeThreadKinds() {
+        List<ThreadKindMeasurement> measurements = new ArrayList<>();
+        for (WorkloadMix mix : WorkloadMix.values()) {
+            Target target = targetFactory.get();
+            for (ThreadKind threadKind : ThreadKind.values()) {
+                runTasks(target, mix, threadKind);
+                measurements.add(measureTasks(target, mix, threadKind));
+            }
+        }
+        return measurements;
+    }
+
+    private static int[] createThreadCounts(int availableProcessors) {
+        IntStream.Builder threadCounts = IntStream.builder();
+        for (int threads = 1; threads < availableProcessors; threads *= 2) {
+            threadCounts.add(threads);
+        }
+        return threadCounts.add(availableProcessors).build().toArray();
+    }
+
+    private static long measure(Target target, WorkloadMix mix, int threadCount, long durationMillis) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Worker> workers = new ArrayList<>(threadCount);
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int i = 0; i < threadCount; ++i) {
+            Worker worker = new Worker(target, mix.getReadPercentage(), start, i);
+            workers.add(worker);
+            threads.add(Thread.ofPlatform().daemon().start(worker));
+        }
+
+        try {
+            long startNanos = System.nanoTime();
+            start.countDown();
+            Thread.sleep(durationMillis);
+            workers.forEach(Worker::stop);
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            long operations = workers.stream().mapToLong(Worker::getOperations).sum();
+            return operations * 1_000_000_000L / elapsedNanos;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ThreadKindMeasurement measureTasks(Target target, WorkloadMix mix, ThreadKind threadKind) {
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO);
+            recording.start();
+            long startNanos = System.nanoTime();
+            long[] latencies = runTasks(target, mix, threadKind);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            recording.stop();
+
+            Arrays.sort(latencies);
+            int threads = threadKind == ThreadKind.PLATFORM ? PLATFORM_POOL_SIZE : TASKS;
+            return new ThreadKindMeasurement(threadKind, mix, threads,
+                latencies.length * 1_000_000_000L / elapsedNanos,
+                MeasurementUtils.getPercentile(latencies, 50), MeasurementUtils.getPercentile(latencies, 99),
+                MeasurementUtils.getPercentile(latencies, 99.9), countPinnedEvents(recording));
+        }
+    }
+
+    /**
+     * Runs all tasks and waits for them to complete.
+     *
+     * @return the time each operation took, in nanoseconds
+     */
+    private static long[] runTasks(Target target, WorkloadMix mix, ThreadKind threadKind) {
+        long[] latencies = new long[TASKS * OPERATIONS_PER_TASK];
+        try (ExecutorService executor = threadKind == ThreadKind.PLATFORM
+                 ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                 : Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < TASKS; ++task) {
+                SplittableRandom random = new SplittableRandom(task);
+                int offset = task * OPERATIONS_PER_TASK;
+                executor.execute(() -> runTask(target, mix.getReadPercentage(), random, latencies, offset));
+            }
+        } // close() waits for all tasks to finish
+        return latencies;
+    }
+
+    private static void runTask(Target target, int readPercentage, SplittableRandom random,
+                                long[] latencies, int offset) {
+        int nonNullResults = 0;
+        for (int i = 0; i < OPERATIONS_PER_TASK; ++i) {
+            int index = random.nextInt(2 * SIZE);
+            boolean isRead = random.nextInt(100) < readPercentage;
+
+            long start = System.nanoTime();
+            Object result = isRead ? target.read().apply(index) : target.write().apply(index);
+            latencies[offset + i] = System.nanoTime() - start;
+            if (result != null) {
+                ++nonNullResults;
+            }
+        }
+        MeasurementUtils.consume(nonNullResults);
+    }
+
+    private static long countPinnedEvents(Recording recording) {
+        try {
+            Path file = Files.createTempFile("recording", ".jfr");
+            try {
+                recording.dump(file);
+                return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(PINNED_EVENT))
+                    .count();
+            } finally {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Collection to measure, with its read and write operation. Both operations take a random index between 0
+     * (inclusive) and twice the {@link #SIZE} (exclusive).
+     */
+    private record Target(IntFunction<Object> read, IntFunction<Object> write) {
+    }
+
+    /**
+     * Performs random reads and writes on the target until it is stopped.
+     */
+    private static final class Worker implements Runnable {
+
+        private final Target target;
+        private final int readPercentage;
+        private final CountDownLatch start;
+        private final SplittableRandom random;
+        private volatile boolean running = true;
+        private long operations;
+
+        Worker(Target target, int readPercentage, CountDownLatch start, int seed) {
+            this.target = target;
+            this.readPercentage = readPercentage;
+            this.start = start;
+            this.random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public void run() {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            long operations = 0;
+            int nonNullResults = 0;
+            while (running) {
+                for (int i = 0; i < OPERATIONS_PER_BATCH; ++i) {
+                    int index = random.nextInt(2 * SIZE);
+                    Object result = random.nextInt(100) < readPercentage
+                        ? target.read().apply(index)
+                        : target.write().apply(index);
+                    if (result != null) {
+                        ++nonNullResults;
+                    }
+                }
+                operations += OPERATIONS_PER_BATCH;
+            }
+            this.operations = operations;
+            MeasurementUtils.consume(nonNullResults);
+        }
+
+        void stop() {
+            running = false;
+        }
+
+        long getOperations() {
+            return operations;
+        }
+    }
+}
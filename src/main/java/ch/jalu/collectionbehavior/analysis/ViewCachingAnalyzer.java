@@ -0,0 +1,99 @@
+package ch.jalu.collectionbehavior.analysis;
+
+import ch.jalu.collectionbehavior.creator.MapCreator;
+import ch.jalu.collectionbehavior.creator.SizeNotSupportedException;
+import ch.jalu.collectionbehavior.documentation.ViewCachingBehavior;
+import ch.jalu.collectionbehavior.util.ElementUtils;
+import ch.jalu.collectionbehavior.util.MeasurementUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SequencedMap;
+import java.util.function.Function;
+
+/**
+ * Checks whether the views of a map (key set, values, entry set...) are created anew on each call or whether the
+ * map keeps and returns the same instance. Calling such a method in a tight loop allocates on each iteration if
+ * the view is not cached.
+ */
+public class ViewCachingAnalyzer {
+
+    private static final int CALLS_PER_RUN = 1000;
+    private static final int RUNS = 20;
+
+    private final MapCreator mapCreator;
+
+    public ViewCachingAnalyzer(MapCreator mapCreator) {
+        this.mapCreator = mapCreator;
+    }
+
+    /**
+     * Determines the caching behavior of all views that the map type supports. Views of sequenced and navigable
+     * maps are skipped if the map does not implement the respective interface.
+     *
+     * @return behavior of each supported view
+     */
+    public List<ViewCachingBehavior> analyzeViewCaching() {
+        Map<String, Integer> map = createMap();
+        return Arrays.stream(View.values())
+            .filter(view -> view.mapType.isInstance(map))
+            .map(view -> analyze(map, view))
+            .toList();
+    }
+
+    private ViewCachingBehavior analyze(Map<String, Integer> map, View view) {
+        boolean cached = view.getView(map) == view.getView(map);
+
+        long bytes = MeasurementUtils.measure(() -> map, m -> {
+            for (int i = 0; i < CALLS_PER_RUN; ++i) {
+                MeasurementUtils.consume(view.getView(m));
+            }
+            return null;
+        }, RUNS).allocatedBytes();
+        return new ViewCachingBehavior(view.code, cached, (double) bytes / CALLS_PER_RUN);
+    }
+
+    private Map<String, Integer> createMap() {
+        for (int size : new int[]{ 16, 1, 0 }) {
+            try {
+                return mapCreator.createMap(ElementUtils.createElements(size));
+            } catch (SizeNotSupportedException ignore) {
+                // Try next size
+            }
+        }
+        throw new IllegalStateException("Could not create map of any size");
+    }
+
+    private enum View {
+
+        KEY_SET("keySet()", Map.class, Map::keySet),
+
+        VALUES("values()", Map.class, Map::values),
+
+        ENTRY_SET("entrySet()", Map.class, Map::entrySet),
+
+        SEQUENCED_KEY_SET("sequencedKeySet()", SequencedMap.class,
+            map -> ((SequencedMap<?, ?>) map).sequencedKeySet()),
+
+        REVERSED("reversed()", SequencedMap.class, map -> ((SequencedMap<?, ?>) map).reversed()),
+
+        NAVIGABLE_KEY_SET("navigableKeySet()", NavigableMap.class,
+            map -> ((NavigableMap<?, ?>) map).navigableKeySet());
+
+        private final String code;
+        private final Class<?> mapType;
+        private final Function<Map<String, Integer>, Object> viewGetter;
+
+        View(String code, Class<?> mapType, Function<Map<String, Integer>, Object> viewGetter) {
+            this.code = code;
+            this.mapType = mapType;
+            this.viewGetter = viewGetter;
+        }
+
+        Object getView(Map<String, Integer> map) {
+            return viewGetter.apply(map);
+        }
+    }
+}
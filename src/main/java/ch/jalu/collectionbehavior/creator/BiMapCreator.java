@@ -0,0 +1,56 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import com.google.common.collect.ImmutableBiMap;
+
+/**
+ * Produces a Guava bidirectional map of a type to be documented.
+ */
+public abstract class BiMapCreator {
+
+    /**
+     * Creates a bimap that maps each key to the value at the same index.
+     *
+     * @param keys the keys of the bimap (no duplicates)
+     * @param values the values of the bimap (no duplicates), as many as there are keys
+     * @return bimap with the entries
+     */
+    public abstract BiMap<String, Integer> createBiMap(String[] keys, Integer[] values);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link HashBiMap}: mutable bimap with hash tables for both directions, in insertion order. Full null support.
+     */
+    public static BiMapCreator HashBiMap() {
+        return new BiMapCreator() {
+            @Override
+            public BiMap<String, Integer> createBiMap(String[] keys, Integer[] values) {
+                BiMap<String, Integer> biMap = HashBiMap.create();
+                for (int i = 0; i < keys.length; ++i) {
+                    biMap.put(keys[i], values[i]);
+                }
+                return biMap;
+            }
+        };
+    }
+
+    /**
+     * {@link ImmutableBiMap}: immutable bimap in insertion order. Rejects nulls.
+     */
+    public static BiMapCreator Guava_ImmutableBiMap() {
+        return new BiMapCreator() {
+            @Override
+            public BiMap<String, Integer> createBiMap(String[] keys, Integer[] values) {
+                ImmutableBiMap.Builder<String, Integer> builder = ImmutableBiMap.builderWithExpectedSize(keys.length);
+                for (int i = 0; i < keys.length; ++i) {
+                    builder.put(keys[i], values[i]);
+                }
+                return builder.buildOrThrow();
+            }
+        };
+    }
+}
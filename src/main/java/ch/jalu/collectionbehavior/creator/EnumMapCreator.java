@@ -0,0 +1,90 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Produces a map with enum keys of a type to be documented.
+ */
+public abstract class EnumMapCreator {
+
+    /**
+     * Creates a map with the given entries.
+     *
+     * @param enumType the enum type of the keys
+     * @param entries the entries the map should contain (not modified)
+     * @param <E> the enum type
+     * @return map with the entries
+     */
+    public abstract <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link EnumMap}: mutable map backed by an array indexed by the enum constants' ordinal. Rejects null keys.
+     */
+    public static EnumMapCreator EnumMap() {
+        return new EnumMapCreator() {
+            @Override
+            public <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries) {
+                EnumMap<E, Integer> map = new EnumMap<>(enumType);
+                map.putAll(entries);
+                return map;
+            }
+        };
+    }
+
+    /**
+     * {@link HashMap}: general-purpose mutable map. Full null support.
+     */
+    public static EnumMapCreator HashMap() {
+        return new EnumMapCreator() {
+            @Override
+            public <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries) {
+                return new HashMap<>(entries);
+            }
+        };
+    }
+
+    /**
+     * {@link Map#copyOf}: immutable map that rejects nulls.
+     */
+    public static EnumMapCreator Map_copyOf() {
+        return new EnumMapCreator() {
+            @Override
+            public <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries) {
+                return Map.copyOf(entries);
+            }
+        };
+    }
+
+    /**
+     * Guava {@link ImmutableMap#copyOf}: immutable map that rejects nulls.
+     */
+    public static EnumMapCreator Guava_ImmutableMap_copyOf() {
+        return new EnumMapCreator() {
+            @Override
+            public <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries) {
+                return ImmutableMap.copyOf(entries);
+            }
+        };
+    }
+
+    /**
+     * Guava {@link Maps#immutableEnumMap}: immutable map backed by an EnumMap. Rejects null.
+     */
+    public static EnumMapCreator Guava_Maps_immutableEnumMap() {
+        return new EnumMapCreator() {
+            @Override
+            public <E extends Enum<E>> Map<E, Integer> createMap(Class<E> enumType, Map<E, Integer> entries) {
+                return Maps.immutableEnumMap(entries);
+            }
+        };
+    }
+}
@@ -0,0 +1,91 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Produces a set of enum constants of a type to be documented.
+ */
+public abstract class EnumSetCreator {
+
+    /**
+     * Creates a set with the given elements.
+     *
+     * @param enumType the enum type of the elements
+     * @param elements the elements the set should contain (no duplicates)
+     * @param <E> the enum type
+     * @return set with the elements
+     */
+    public abstract <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link EnumSet}: mutable set backed by a bit vector over the enum's constants. Rejects null.
+     */
+    public static EnumSetCreator EnumSet() {
+        return new EnumSetCreator() {
+            @Override
+            public <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements) {
+                EnumSet<E> set = EnumSet.noneOf(enumType);
+                set.addAll(elements);
+                return set;
+            }
+        };
+    }
+
+    /**
+     * {@link HashSet}: general-purpose mutable set. Full null support.
+     */
+    public static EnumSetCreator HashSet() {
+        return new EnumSetCreator() {
+            @Override
+            public <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements) {
+                return new HashSet<>(elements);
+            }
+        };
+    }
+
+    /**
+     * {@link Set#copyOf}: immutable set that rejects nulls.
+     */
+    public static EnumSetCreator Set_copyOf() {
+        return new EnumSetCreator() {
+            @Override
+            public <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements) {
+                return Set.copyOf(elements);
+            }
+        };
+    }
+
+    /**
+     * Guava {@link ImmutableSet#copyOf}: immutable set that rejects nulls.
+     */
+    public static EnumSetCreator Guava_ImmutableSet_copyOf() {
+        return new EnumSetCreator() {
+            @Override
+            public <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements) {
+                return ImmutableSet.copyOf(elements);
+            }
+        };
+    }
+
+    /**
+     * Guava {@link Sets#immutableEnumSet}: immutable set backed by an EnumSet. Rejects null.
+     */
+    public static EnumSetCreator Guava_Sets_immutableEnumSet() {
+        return new EnumSetCreator() {
+            @Override
+            public <E extends Enum<E>> Set<E> createSet(Class<E> enumType, List<E> elements) {
+                return Sets.immutableEnumSet(elements);
+            }
+        };
+    }
+}
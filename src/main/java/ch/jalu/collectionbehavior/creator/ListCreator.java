@@ -1,5 +1,6 @@
 package ch.jalu.collectionbehavior.creator;
 
+import ch.jalu.collectionbehavior.documentation.Range;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -7,6 +8,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -69,6 +71,19 @@ public abstract class ListCreator {
         };
     }
 
+    /**
+     * {@link CopyOnWriteArrayList}: thread-safe mutable implementation that copies its array on every modification.
+     * Full null support.
+     */
+    public static ListCreator CopyOnWriteArrayList() {
+        return new ListCreator() {
+            @Override
+            public List<String> createList(String... elements) {
+                return new CopyOnWriteArrayList<>(elements);
+            }
+        };
+    }
+
     /**
      * {@link List#of}: immutable list that rejects nulls.
      */
@@ -194,6 +209,22 @@ public abstract class ListCreator {
         return ListBasedListCreator.of(Collections::unmodifiableList);
     }
 
+    /**
+     * {@link Collections#synchronizedList}: wraps the lists of the given creator in a view that synchronizes every
+     * method call on the wrapper.
+     *
+     * @param listCreator the creator of the lists to wrap
+     * @return creator of synchronized lists
+     */
+    public static ListCreator Collections_synchronizedList(ListCreator listCreator) {
+        return new ListCreator() {
+            @Override
+            public List<String> createList(String... elements) throws SizeNotSupportedException {
+                return Collections.synchronizedList(listCreator.createList(elements));
+            }
+        };
+    }
+
     /**
      * {@link Collectors#toList}: actually produces an ArrayList, though the documentation does not make any guarantees.
      */
@@ -233,6 +264,33 @@ public abstract class ListCreator {
     }
 
 
+    // -----------
+    // Views
+    // -----------
+
+    /**
+     * {@link List#subList}: view of a part of the lists of the given creator. If the parent supports any size, the
+     * view is created on a list with an additional element on each side.
+     *
+     * @param parent the creator of the lists to create views of
+     * @param parentSupportedSize the sizes the parent supports
+     * @return creator of sublists
+     */
+    public static ListCreator List_subList(ListCreator parent, Range parentSupportedSize) {
+        return new SubListCreator(parent, parentSupportedSize);
+    }
+
+    /**
+     * {@link List#reversed}: view of the lists of the given creator in reverse order.
+     *
+     * @param parent the creator of the lists to create views of
+     * @return creator of reversed lists
+     */
+    public static ListCreator List_reversed(ListCreator parent) {
+        return new ReversedListCreator(parent);
+    }
+
+
     // -----------
     // Specializations
     // -----------
@@ -275,6 +333,68 @@ public abstract class ListCreator {
 
     }
 
+    private static final class SubListCreator extends ListCreator {
+
+        private final ListCreator parent;
+        private final boolean usePadding;
+
+        private SubListCreator(ListCreator parent, Range parentRange) {
+            this.parent = parent;
+            this.usePadding = parentRange.min() == 0 && parentRange.max() == null;
+        }
+
+        @Override
+        public List<String> createAbcdListOrLargestSubset() {
+            List<String> abcdOrSubset = parent.createAbcdListOrLargestSubset();
+            boolean padElements = abcdOrSubset.size() == 4;
+            return createList(abcdOrSubset.toArray(String[]::new), padElements);
+        }
+
+        @Override
+        public List<String> createList(String... elements) throws SizeNotSupportedException {
+            return createList(elements, usePadding);
+        }
+
+        private List<String> createList(String[] elements, boolean usePadding) {
+            if (!usePadding) {
+                return parent.createList(elements).subList(0, elements.length);
+            }
+
+            String[] paddedElements = padElements(elements);
+            List<String> list = parent.createList(paddedElements);
+            return list.subList(1, paddedElements.length - 1);
+        }
+
+        private static String[] padElements(String[] elements) {
+            String[] paddedElements = new String[2 + elements.length];
+
+            paddedElements[0] = "0";
+            System.arraycopy(elements, 0, paddedElements, 1, elements.length);
+            paddedElements[paddedElements.length - 1] = "0";
+
+            return paddedElements;
+        }
+    }
+
+    private static final class ReversedListCreator extends ListCreator {
+
+        private final ListCreator parent;
+
+        private ReversedListCreator(ListCreator parent) {
+            this.parent = parent;
+        }
+
+        @Override
+        public List<String> createList(String... elements) throws SizeNotSupportedException {
+            return parent.createList(elements).reversed();
+        }
+
+        @Override
+        public List<String> createAbcdListOrLargestSubset() {
+            return parent.createAbcdListOrLargestSubset().reversed();
+        }
+    }
+
     public abstract static class ArrayBasedListCreator extends BackingStructurBasedListCreator {
 
         @Override
@@ -0,0 +1,270 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Produces a map of a type to be documented. The values of the map are the index of the key in the provided
+ * keys.
+ */
+public abstract class MapCreator {
+
+    /**
+     * Creates a map with the given keys. Each key is mapped to its index.
+     *
+     * @param keys the keys the map should contain (no duplicates)
+     * @return map with the keys
+     * @throws SizeNotSupportedException if the map does not support the number of keys provided
+     */
+    public abstract Map<String, Integer> createMap(String... keys) throws SizeNotSupportedException;
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link HashMap}: general-purpose mutable implementation. Full null support.
+     */
+    public static MapCreator HashMap() {
+        return forMutableType(HashMap::new);
+    }
+
+    /**
+     * {@link LinkedHashMap}: mutable hash map with iteration by insertion order. Full null support.
+     */
+    public static MapCreator LinkedHashMap() {
+        return forMutableType(LinkedHashMap::new);
+    }
+
+    /**
+     * {@link TreeMap}: mutable map sorted by key. Rejects null keys with the natural order.
+     */
+    public static MapCreator TreeMap() {
+        return forMutableType(TreeMap::new);
+    }
+
+    /**
+     * {@link ConcurrentHashMap}: thread-safe mutable hash map. Rejects null keys and values.
+     */
+    public static MapCreator ConcurrentHashMap() {
+        return forMutableType(ConcurrentHashMap::new);
+    }
+
+    /**
+     * {@link ConcurrentSkipListMap}: thread-safe mutable map sorted by key. Rejects null keys and values.
+     */
+    public static MapCreator ConcurrentSkipListMap() {
+        return forMutableType(ConcurrentSkipListMap::new);
+    }
+
+    /**
+     * {@link IdentityHashMap}: mutable map that compares keys by reference. Stores keys and values in a single array
+     * and resolves collisions by linear probing. Full null support.
+     */
+    public static MapCreator IdentityHashMap() {
+        return forMutableType(IdentityHashMap::new);
+    }
+
+    /**
+     * {@link WeakHashMap}: mutable hash map that holds its keys weakly; entries whose key was garbage collected are
+     * removed on the next access to the map. Full null support.
+     */
+    public static MapCreator WeakHashMap() {
+        return forMutableType(WeakHashMap::new);
+    }
+
+    /**
+     * {@link Map#ofEntries}: immutable map that rejects nulls. Same implementation as {@link Map#of}, which only
+     * supports up to 10 entries.
+     */
+    public static MapCreator Map_ofEntries() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                Map.Entry<String, Integer>[] entries = new Map.Entry[keys.length];
+                for (int i = 0; i < keys.length; ++i) {
+                    entries[i] = Map.entry(keys[i], i);
+                }
+                return Map.ofEntries(entries);
+            }
+        };
+    }
+
+    /**
+     * {@link Map#copyOf}: creates an immutable copy of a map; rejects nulls.
+     */
+    public static MapCreator Map_copyOf() {
+        return forMapBasedType(Map::copyOf);
+    }
+
+    /**
+     * {@link ImmutableMap#copyOf}: copies a map to an immutable map which may not contain nulls.
+     */
+    public static MapCreator Guava_ImmutableMap_copyOf() {
+        return forMapBasedType(ImmutableMap::copyOf);
+    }
+
+    /**
+     * {@link ImmutableSortedMap#copyOf}: copies a map to an immutable map sorted by key which may not contain nulls.
+     */
+    public static MapCreator Guava_ImmutableSortedMap_copyOf() {
+        return forMapBasedType(ImmutableSortedMap::copyOf);
+    }
+
+    /**
+     * {@link ImmutableMap#ofEntries}: immutable map with insertion order that rejects nulls. Same implementation as
+     * {@link ImmutableMap#of}, which only supports up to 10 entries.
+     */
+    public static MapCreator Guava_ImmutableMap_ofEntries() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                @SuppressWarnings({"unchecked", "rawtypes"})
+                Map.Entry<String, Integer>[] entries = new Map.Entry[keys.length];
+                for (int i = 0; i < keys.length; ++i) {
+                    entries[i] = Map.entry(keys[i], i);
+                }
+                return ImmutableMap.ofEntries(entries);
+            }
+        };
+    }
+
+    /**
+     * {@link Collections#unmodifiableMap}: wraps a map in an unmodifiable view.
+     */
+    public static MapCreator Collections_unmodifiableMap() {
+        return forMapBasedType(Collections::unmodifiableMap);
+    }
+
+    /**
+     * {@link Collections#synchronizedMap}: wraps the maps of the given creator in a view that synchronizes every
+     * method call on the wrapper.
+     *
+     * @param mapCreator the creator of the maps to wrap
+     * @return creator of synchronized maps
+     */
+    public static MapCreator Collections_synchronizedMap(MapCreator mapCreator) {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) throws SizeNotSupportedException {
+                return Collections.synchronizedMap(mapCreator.createMap(keys));
+            }
+        };
+    }
+
+    /**
+     * {@link Collections#unmodifiableSequencedMap}: wraps a sequenced map in an unmodifiable view.
+     */
+    public static MapCreator Collections_unmodifiableSequencedMap() {
+        return forMapBasedType(Collections::unmodifiableSequencedMap);
+    }
+
+    /**
+     * {@link Collections#unmodifiableNavigableMap}: wraps a navigable map in an unmodifiable view.
+     */
+    public static MapCreator Collections_unmodifiableNavigableMap() {
+        return forMapBasedType(map -> Collections.unmodifiableNavigableMap(new TreeMap<>(map)));
+    }
+
+    /**
+     * {@link Collections#emptyMap}: empty map, therefore immutable.
+     */
+    public static MapCreator Collections_emptyMap() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) throws SizeNotSupportedException {
+                if (keys.length == 0) {
+                    return Collections.emptyMap();
+                }
+                throw new SizeNotSupportedException();
+            }
+        };
+    }
+
+    /**
+     * {@link Collections#singletonMap}: single-entry, immutable map. Supports null as key and value.
+     */
+    public static MapCreator Collections_singletonMap() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) throws SizeNotSupportedException {
+                if (keys.length == 1) {
+                    return Collections.singletonMap(keys[0], 0);
+                }
+                throw new SizeNotSupportedException();
+            }
+        };
+    }
+
+    /**
+     * {@link Collectors#toMap}: currently produces a HashMap, though the documentation does not make any guarantees.
+     */
+    public static MapCreator Collectors_toMap() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                return IntStream.range(0, keys.length).boxed()
+                    .collect(Collectors.toMap(i -> keys[i], i -> i));
+            }
+        };
+    }
+
+    /**
+     * {@link Collectors#toUnmodifiableMap}: produces an unmodifiable map that rejects nulls.
+     */
+    public static MapCreator Collectors_toUnmodifiableMap() {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                return IntStream.range(0, keys.length).boxed()
+                    .collect(Collectors.toUnmodifiableMap(i -> keys[i], i -> i));
+            }
+        };
+    }
+
+    // -----------
+    // Helpers
+    // -----------
+
+    private static MapCreator forMutableType(Supplier<Map<String, Integer>> constructor) {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                Map<String, Integer> map = constructor.get();
+                for (int i = 0; i < keys.length; ++i) {
+                    map.put(keys[i], i);
+                }
+                return map;
+            }
+        };
+    }
+
+    private static MapCreator forMapBasedType(Function<LinkedHashMap<String, Integer>,
+                                                       Map<String, Integer>> callback) {
+        return new MapCreator() {
+            @Override
+            public Map<String, Integer> createMap(String... keys) {
+                LinkedHashMap<String, Integer> original = new LinkedHashMap<>();
+                for (int i = 0; i < keys.length; ++i) {
+                    original.put(keys[i], i);
+                }
+                return callback.apply(original);
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.LinkedHashMultimap;
+import com.google.common.collect.Multimap;
+
+import java.util.function.Supplier;
+
+/**
+ * Produces a Guava multimap of a type to be documented.
+ */
+public abstract class MultimapCreator {
+
+    /**
+     * Creates a multimap that maps each key to all of the given values.
+     *
+     * @param keys the keys of the multimap (no duplicates)
+     * @param values the values of each key (no duplicates)
+     * @return multimap with the entries
+     */
+    public abstract Multimap<String, Integer> createMultimap(String[] keys, Integer[] values);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link ArrayListMultimap}: mutable multimap that keeps the values of a key in an ArrayList, in insertion
+     * order. Allows duplicate key-value pairs. Full null support.
+     */
+    public static MultimapCreator ArrayListMultimap() {
+        return forMutableType(ArrayListMultimap::create);
+    }
+
+    /**
+     * {@link HashMultimap}: mutable multimap that keeps the values of a key in a HashSet. Ignores duplicate
+     * key-value pairs. Full null support.
+     */
+    public static MultimapCreator HashMultimap() {
+        return forMutableType(HashMultimap::create);
+    }
+
+    /**
+     * {@link LinkedHashMultimap}: mutable multimap like HashMultimap that keeps the insertion order of its entries.
+     * Full null support.
+     */
+    public static MultimapCreator LinkedHashMultimap() {
+        return forMutableType(LinkedHashMultimap::create);
+    }
+
+    /**
+     * {@link ImmutableListMultimap}: immutable multimap with lists of values in insertion order. Rejects nulls.
+     */
+    public static MultimapCreator Guava_ImmutableListMultimap() {
+        return new MultimapCreator() {
+            @Override
+            public Multimap<String, Integer> createMultimap(String[] keys, Integer[] values) {
+                ImmutableListMultimap.Builder<String, Integer> builder = ImmutableListMultimap.builder();
+                for (String key : keys) {
+                    for (Integer value : values) {
+                        builder.put(key, value);
+                    }
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    // -----------
+    // Helpers
+    // -----------
+
+    private static MultimapCreator forMutableType(Supplier<Multimap<String, Integer>> constructor) {
+        return new MultimapCreator() {
+            @Override
+            public Multimap<String, Integer> createMultimap(String[] keys, Integer[] values) {
+                Multimap<String, Integer> multimap = constructor.get();
+                for (String key : keys) {
+                    for (Integer value : values) {
+                        multimap.put(key, value);
+                    }
+                }
+                return multimap;
+            }
+        };
+    }
+}
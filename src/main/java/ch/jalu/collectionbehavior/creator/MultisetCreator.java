@@ -0,0 +1,57 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableMultiset;
+import com.google.common.collect.Multiset;
+
+/**
+ * Produces a Guava multiset of a type to be documented.
+ */
+public abstract class MultisetCreator {
+
+    /**
+     * Creates a multiset that contains each element the given number of times.
+     *
+     * @param elements the distinct elements of the multiset
+     * @param occurrences the number of occurrences of each element
+     * @return multiset with the elements
+     */
+    public abstract Multiset<String> createMultiset(String[] elements, int occurrences);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link HashMultiset}: mutable multiset backed by a hash map from element to count. Supports null.
+     */
+    public static MultisetCreator HashMultiset() {
+        return new MultisetCreator() {
+            @Override
+            public Multiset<String> createMultiset(String[] elements, int occurrences) {
+                Multiset<String> multiset = HashMultiset.create();
+                for (String element : elements) {
+                    multiset.add(element, occurrences);
+                }
+                return multiset;
+            }
+        };
+    }
+
+    /**
+     * {@link ImmutableMultiset}: immutable multiset that keeps the order in which elements were first added.
+     * Rejects null.
+     */
+    public static MultisetCreator Guava_ImmutableMultiset() {
+        return new MultisetCreator() {
+            @Override
+            public Multiset<String> createMultiset(String[] elements, int occurrences) {
+                ImmutableMultiset.Builder<String> builder = ImmutableMultiset.builder();
+                for (String element : elements) {
+                    builder.addCopies(element, occurrences);
+                }
+                return builder.build();
+            }
+        };
+    }
+}
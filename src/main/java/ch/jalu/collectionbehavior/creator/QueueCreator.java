@@ -0,0 +1,128 @@
+package ch.jalu.collectionbehavior.creator;
+
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedTransferQueue;
+import java.util.function.Supplier;
+
+/**
+ * Produces a queue of a type to be documented.
+ */
+public abstract class QueueCreator {
+
+    /** Smallest capacity with which queues of a fixed capacity are created. */
+    public static final int MIN_CAPACITY = 16;
+
+    /**
+     * Creates a queue and offers it the given elements in order. Queues with a fixed capacity are created with
+     * enough capacity for twice the number of elements, and at least {@link #MIN_CAPACITY}, so that elements can
+     * still be added to them.
+     *
+     * @param elements the elements the queue should be populated with
+     * @return queue with the elements
+     */
+    public abstract Queue<String> createQueue(String... elements);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link ArrayDeque}: resizable array used as a circular buffer. Rejects null.
+     */
+    public static QueueCreator ArrayDeque() {
+        return forUnboundedType(ArrayDeque::new);
+    }
+
+    /**
+     * {@link LinkedList}: doubly-linked list used as a deque. Full null support.
+     */
+    public static QueueCreator LinkedList() {
+        return forUnboundedType(LinkedList::new);
+    }
+
+    /**
+     * {@link PriorityQueue}: binary heap whose head is the smallest element. Rejects null.
+     */
+    public static QueueCreator PriorityQueue() {
+        return forUnboundedType(PriorityQueue::new);
+    }
+
+    /**
+     * {@link ConcurrentLinkedQueue}: thread-safe, non-blocking linked queue. Rejects null.
+     */
+    public static QueueCreator ConcurrentLinkedQueue() {
+        return forUnboundedType(ConcurrentLinkedQueue::new);
+    }
+
+    /**
+     * {@link ConcurrentLinkedDeque}: thread-safe, non-blocking linked deque. Rejects null.
+     */
+    public static QueueCreator ConcurrentLinkedDeque() {
+        return forUnboundedType(ConcurrentLinkedDeque::new);
+    }
+
+    /**
+     * {@link LinkedBlockingQueue}: blocking linked queue with separate locks for the head and the tail, bounded by
+     * {@link Integer#MAX_VALUE} if no capacity is given. Rejects null.
+     */
+    public static QueueCreator LinkedBlockingQueue() {
+        return forUnboundedType(LinkedBlockingQueue::new);
+    }
+
+    /**
+     * {@link LinkedBlockingDeque}: blocking linked deque with one lock, bounded by {@link Integer#MAX_VALUE} if no
+     * capacity is given. Rejects null.
+     */
+    public static QueueCreator LinkedBlockingDeque() {
+        return forUnboundedType(LinkedBlockingDeque::new);
+    }
+
+    /**
+     * {@link LinkedTransferQueue}: unbounded, non-blocking linked queue whose producers can wait for a consumer.
+     * Rejects null.
+     */
+    public static QueueCreator LinkedTransferQueue() {
+        return forUnboundedType(LinkedTransferQueue::new);
+    }
+
+    /**
+     * {@link ArrayBlockingQueue}: blocking queue backed by an array of a fixed capacity. Rejects null.
+     */
+    public static QueueCreator ArrayBlockingQueue() {
+        return new QueueCreator() {
+            @Override
+            public Queue<String> createQueue(String... elements) {
+                Queue<String> queue = new ArrayBlockingQueue<>(Math.max(MIN_CAPACITY, 2 * elements.length));
+                return offerAll(queue, elements);
+            }
+        };
+    }
+
+    // -----------
+    // Helpers
+    // -----------
+
+    private static QueueCreator forUnboundedType(Supplier<Queue<String>> constructor) {
+        return new QueueCreator() {
+            @Override
+            public Queue<String> createQueue(String... elements) {
+                return offerAll(constructor.get(), elements);
+            }
+        };
+    }
+
+    private static Queue<String> offerAll(Queue<String> queue, String[] elements) {
+        for (String element : elements) {
+            queue.offer(element);
+        }
+        return queue;
+    }
+}
@@ -0,0 +1,165 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Produces a set of a type to be documented.
+ */
+public abstract class SetCreator {
+
+    /**
+     * Creates a set with the given elements.
+     *
+     * @param elements the elements the set should be populated with (no duplicates)
+     * @return set with the elements
+     */
+    public abstract Set<String> createSet(String... elements);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link HashSet}: general-purpose mutable implementation. Full null support.
+     */
+    public static SetCreator HashSet() {
+        return forMutableType(HashSet::new);
+    }
+
+    /**
+     * {@link LinkedHashSet}: mutable implementation that keeps insertion order. Full null support.
+     */
+    public static SetCreator LinkedHashSet() {
+        return forMutableType(LinkedHashSet::new);
+    }
+
+    /**
+     * {@link TreeSet}: mutable implementation sorted by the elements' natural order. Rejects nulls.
+     */
+    public static SetCreator TreeSet() {
+        return forMutableType(TreeSet::new);
+    }
+
+    /**
+     * {@link ConcurrentSkipListSet}: thread-safe mutable implementation sorted by the elements' natural order.
+     * Rejects nulls.
+     */
+    public static SetCreator ConcurrentSkipListSet() {
+        return forMutableType(ConcurrentSkipListSet::new);
+    }
+
+    /**
+     * {@link CopyOnWriteArraySet}: thread-safe mutable implementation that copies its array on every modification.
+     * Keeps insertion order. Full null support.
+     */
+    public static SetCreator CopyOnWriteArraySet() {
+        return forMutableType(CopyOnWriteArraySet::new);
+    }
+
+    /**
+     * {@link ConcurrentHashMap#newKeySet}: thread-safe mutable set backed by a ConcurrentHashMap. Rejects nulls.
+     */
+    public static SetCreator ConcurrentHashMap_newKeySet() {
+        return forMutableType(ConcurrentHashMap::newKeySet);
+    }
+
+    /**
+     * {@link Set#of}: immutable set that rejects nulls.
+     */
+    public static SetCreator Set_of() {
+        return of(Set::of);
+    }
+
+    /**
+     * {@link Set#copyOf}: creates an immutable copy of a collection; rejects nulls.
+     */
+    public static SetCreator Set_copyOf() {
+        return of(elements -> Set.copyOf(Arrays.asList(elements)));
+    }
+
+    /**
+     * {@link ImmutableSet#copyOf}: copies elements to an immutable set which may not contain nulls.
+     */
+    public static SetCreator Guava_ImmutableSet_copyOf() {
+        return of(ImmutableSet::copyOf);
+    }
+
+    /**
+     * {@link ImmutableSortedSet#copyOf}: copies elements to an immutable set sorted by their natural order, which
+     * may not contain nulls.
+     */
+    public static SetCreator Guava_ImmutableSortedSet_copyOf() {
+        return of(ImmutableSortedSet::copyOf);
+    }
+
+    /**
+     * {@link Collections#unmodifiableSet}: wraps a set in an unmodifiable view.
+     */
+    public static SetCreator Collections_unmodifiableSet() {
+        return of(elements -> Collections.unmodifiableSet(new HashSet<>(Arrays.asList(elements))));
+    }
+
+    /**
+     * {@link Collections#synchronizedSet}: wraps the sets of the given creator in a view that synchronizes every
+     * method call on the wrapper.
+     *
+     * @param setCreator the creator of the sets to wrap
+     * @return creator of synchronized sets
+     */
+    public static SetCreator Collections_synchronizedSet(SetCreator setCreator) {
+        return of(elements -> Collections.synchronizedSet(setCreator.createSet(elements)));
+    }
+
+    /**
+     * {@link Collections#unmodifiableSequencedSet}: wraps a sequenced set in an unmodifiable view.
+     */
+    public static SetCreator Collections_unmodifiableSequencedSet() {
+        return of(elements -> Collections.unmodifiableSequencedSet(new LinkedHashSet<>(Arrays.asList(elements))));
+    }
+
+    /**
+     * {@link Collections#unmodifiableNavigableSet}: wraps a navigable set in an unmodifiable view.
+     */
+    public static SetCreator Collections_unmodifiableNavigableSet() {
+        return of(elements -> Collections.unmodifiableNavigableSet(new TreeSet<>(Arrays.asList(elements))));
+    }
+
+    // -----------
+    // Helpers
+    // -----------
+
+    private static SetCreator forMutableType(Supplier<Set<String>> constructor) {
+        return new SetCreator() {
+            @Override
+            public Set<String> createSet(String... elements) {
+                Set<String> set = constructor.get();
+                for (String element : elements) {
+                    set.add(element);
+                }
+                return set;
+            }
+        };
+    }
+
+    private static SetCreator of(Function<String[], Set<String>> setCreator) {
+        return new SetCreator() {
+            @Override
+            public Set<String> createSet(String... elements) {
+                return setCreator.apply(elements);
+            }
+        };
+    }
+}
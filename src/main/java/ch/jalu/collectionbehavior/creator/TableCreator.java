@@ -0,0 +1,67 @@
+package ch.jalu.collectionbehavior.creator;
+
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableTable;
+import com.google.common.collect.Table;
+
+/**
+ * Produces a Guava table of a type to be documented.
+ */
+public abstract class TableCreator {
+
+    /**
+     * Creates a table with a cell for each combination of row and column key. The values are taken from the given
+     * array row by row.
+     *
+     * @param rowKeys the row keys (no duplicates)
+     * @param columnKeys the column keys (no duplicates)
+     * @param values the values of the cells, at least as many as there are cells
+     * @return table with the cells
+     */
+    public abstract Table<String, String, Integer> createTable(String[] rowKeys, String[] columnKeys,
+                                                               Integer[] values);
+
+    // ----------
+    // Implementations
+    // ----------
+
+    /**
+     * {@link HashBasedTable}: mutable table backed by a hash map of hash maps (row key to column key to value).
+     * Rejects nulls.
+     */
+    public static TableCreator HashBasedTable() {
+        return new TableCreator() {
+            @Override
+            public Table<String, String, Integer> createTable(String[] rowKeys, String[] columnKeys,
+                                                              Integer[] values) {
+                Table<String, String, Integer> table = HashBasedTable.create();
+                for (int row = 0; row < rowKeys.length; ++row) {
+                    for (int column = 0; column < columnKeys.length; ++column) {
+                        table.put(rowKeys[row], columnKeys[column], values[row * columnKeys.length + column]);
+                    }
+                }
+                return table;
+            }
+        };
+    }
+
+    /**
+     * {@link ImmutableTable}: immutable table in insertion order. Uses an array of all row and column combinations
+     * if the table is dense enough, and hash maps otherwise. Rejects nulls.
+     */
+    public static TableCreator Guava_ImmutableTable() {
+        return new TableCreator() {
+            @Override
+            public Table<String, String, Integer> createTable(String[] rowKeys, String[] columnKeys,
+                                                              Integer[] values) {
+                ImmutableTable.Builder<String, String, Integer> builder = ImmutableTable.builder();
+                for (int row = 0; row < rowKeys.length; ++row) {
+                    for (int column = 0; column < columnKeys.length; ++column) {
+                        builder.put(rowKeys[row], columnKeys[column], values[row * columnKeys.length + column]);
+                    }
+                }
+                return builder.buildOrThrow();
+            }
+        };
+    }
+}
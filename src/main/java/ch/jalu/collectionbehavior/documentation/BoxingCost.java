@@ -0,0 +1,27 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Bytes allocated per call of a map operation on {@code Integer} values, once with values that are in the cache of
+ * {@link Integer#valueOf} (-128 to 127) and once with values outside of it. The difference is caused by boxing;
+ * the rest is allocated by the map itself (e.g. new nodes).
+ *
+ * @param operation the code of the operation
+ * @param cachedValueBytesPerCall bytes allocated per call if all values are in the Integer cache
+ * @param uncachedValueBytesPerCall bytes allocated per call if the values are outside the Integer cache
+ */
+public record BoxingCost(String operation, double cachedValueBytesPerCall, double uncachedValueBytesPerCall) {
+
+    /**
+     * @return the bytes allocated per call for boxing values
+     */
+    public double boxingBytesPerCall() {
+        return Math.max(0, uncachedValueBytesPerCall - cachedValueBytesPerCall);
+    }
+
+    /**
+     * @return the share of the total allocation (with uncached values) that is caused by boxing, between 0 and 1
+     */
+    public double boxingShare() {
+        return uncachedValueBytesPerCall == 0 ? 0 : boxingBytesPerCall() / uncachedValueBytesPerCall;
+    }
+}
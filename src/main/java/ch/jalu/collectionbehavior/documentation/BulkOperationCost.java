@@ -0,0 +1,21 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Cost of a bulk operation ({@code removeAll}, {@code retainAll}, {@code containsAll}) for a given type of argument.
+ *
+ * @param methodName the name of the bulk method
+ * @param argumentType the type of the collection that was passed as argument
+ * @param complexity how the cost grows with the sizes of the list and the argument (null if an exception is thrown
+ *                   or if only one size was measured)
+ * @param nanosBySize the time the call took by size of the list (the argument has half as many elements)
+ * @param exception the name of the exception thrown by the method, null if none was thrown
+ */
+public record BulkOperationCost(String methodName,
+                                String argumentType,
+                                Complexity complexity,
+                                SortedMap<Integer, Long> nanosBySize,
+                                String exception) {
+
+}
@@ -0,0 +1,18 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Cost of calling a list method through a call site that receives lists of one or more types.
+ *
+ * @param operation the code that is run on each list
+ * @param listTypes the number of list types (creators) the call site receives
+ * @param receiverClasses the number of distinct classes the call site receives
+ * @param wrapped whether every list is wrapped in {@link java.util.Collections#unmodifiableList}
+ * @param nanosPerCall the average time per call, in nanoseconds
+ */
+public record CallSiteCost(String operation,
+                           int listTypes,
+                           int receiverClasses,
+                           boolean wrapped,
+                           double nanosPerCall) {
+
+}
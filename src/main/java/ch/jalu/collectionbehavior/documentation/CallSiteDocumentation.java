@@ -0,0 +1,33 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents how the performance of list methods changes when one call site receives lists of different types.
+ */
+public class CallSiteDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private List<CallSiteCost> callSiteCosts;
+
+    public CallSiteDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<CallSiteCost> getCallSiteCosts() {
+        return callSiteCosts;
+    }
+
+    public void setCallSiteCosts(List<CallSiteCost> callSiteCosts) {
+        this.callSiteCosts = callSiteCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + callSiteCosts;
+    }
+}
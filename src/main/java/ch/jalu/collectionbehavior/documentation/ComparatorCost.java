@@ -0,0 +1,16 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Cost of comparing keys with a given comparator, and how many comparisons a {@link java.util.TreeMap} makes.
+ *
+ * @param comparator the code of the comparator
+ * @param nanosPerComparison the time of one comparison
+ * @param comparisonsPerInsert the average number of comparisons when a key is added to a TreeMap
+ * @param comparisonsPerLookup the average number of comparisons of {@code get} in a TreeMap
+ */
+public record ComparatorCost(String comparator,
+                             double nanosPerComparison,
+                             double comparisonsPerInsert,
+                             double comparisonsPerLookup) {
+
+}
@@ -0,0 +1,53 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the cost of comparators on keys with long common prefixes, and when a sorted map pays off compared
+ * to sorting on read.
+ */
+public class ComparatorDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private final int keyPrefixLength;
+
+    private List<ComparatorCost> comparatorCosts;
+    private List<SortedStrategyCost> sortedStrategyCosts;
+
+    public ComparatorDocumentation(String description, int keyPrefixLength) {
+        this.description = description;
+        this.keyPrefixLength = keyPrefixLength;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the number of characters all keys have in common at the start
+     */
+    public int getKeyPrefixLength() {
+        return keyPrefixLength;
+    }
+
+    public List<ComparatorCost> getComparatorCosts() {
+        return comparatorCosts;
+    }
+
+    public void setComparatorCosts(List<ComparatorCost> comparatorCosts) {
+        this.comparatorCosts = comparatorCosts;
+    }
+
+    public List<SortedStrategyCost> getSortedStrategyCosts() {
+        return sortedStrategyCosts;
+    }
+
+    public void setSortedStrategyCosts(List<SortedStrategyCost> sortedStrategyCosts) {
+        this.sortedStrategyCosts = sortedStrategyCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + comparatorCosts + ", " + sortedStrategyCosts;
+    }
+}
@@ -0,0 +1,20 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * How the cost of an operation grows with the size of the collection it is applied to.
+ */
+public enum Complexity {
+
+    /** The cost does not depend on the size (O(1)). */
+    CONSTANT,
+
+    /** The cost grows proportionally to the size (O(n)). */
+    LINEAR,
+
+    /**
+     * The cost grows with the product of two sizes (O(n·m)), or with the square of the size if only one size
+     * is involved.
+     */
+    QUADRATIC
+
+}
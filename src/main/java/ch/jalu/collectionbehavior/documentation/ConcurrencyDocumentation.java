@@ -0,0 +1,72 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents how the throughput of a thread-safe collection changes with the number of threads that access it.
+ */
+public class ConcurrencyDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private String readOperation;
+    private String writeOperation;
+    private List<ThroughputMeasurement> throughputMeasurements;
+    private List<ThreadKindMeasurement> threadKindMeasurements;
+    private int availableProcessors;
+
+    public ConcurrencyDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getReadOperation() {
+        return readOperation;
+    }
+
+    public void setReadOperation(String readOperation) {
+        this.readOperation = readOperation;
+    }
+
+    public String getWriteOperation() {
+        return writeOperation;
+    }
+
+    public void setWriteOperation(String writeOperation) {
+        this.writeOperation = writeOperation;
+    }
+
+    public List<ThroughputMeasurement> getThroughputMeasurements() {
+        return throughputMeasurements;
+    }
+
+    public void setThroughputMeasurements(List<ThroughputMeasurement> throughputMeasurements) {
+        this.throughputMeasurements = throughputMeasurements;
+    }
+
+    /**
+     * @return measurements on platform and virtual threads, or null if they were not compared for this type
+     */
+    public List<ThreadKindMeasurement> getThreadKindMeasurements() {
+        return threadKindMeasurements;
+    }
+
+    public void setThreadKindMeasurements(List<ThreadKindMeasurement> threadKindMeasurements) {
+        this.threadKindMeasurements = threadKindMeasurements;
+    }
+
+    public int getAvailableProcessors() {
+        return availableProcessors;
+    }
+
+    public void setAvailableProcessors(int availableProcessors) {
+        this.availableProcessors = availableProcessors;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + throughputMeasurements;
+    }
+}
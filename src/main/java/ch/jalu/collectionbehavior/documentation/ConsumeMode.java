@@ -0,0 +1,23 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * How a consumer takes items from a blocking queue.
+ */
+public enum ConsumeMode {
+
+    /** Each item is taken with a separate call to {@code take()}. */
+    TAKE("take()"),
+
+    /** The consumer waits for one item with {@code take()} and then drains the available items in one call. */
+    DRAIN_TO("take() + drainTo(batch)");
+
+    private final String code;
+
+    ConsumeMode(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+}
@@ -0,0 +1,13 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Cost of converting a collection of a given type to another collection.
+ *
+ * @param source the type of the collection that is converted
+ * @param target the code performing the conversion
+ * @param nanos the time the conversion took
+ * @param allocatedBytes the number of bytes allocated by the conversion
+ */
+public record ConversionCost(String source, String target, long nanos, long allocatedBytes) {
+
+}
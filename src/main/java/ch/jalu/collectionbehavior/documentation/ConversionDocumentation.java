@@ -0,0 +1,43 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the cost of converting collections of different types at a given size.
+ */
+public class ConversionDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private final int size;
+
+    private List<ConversionCost> conversionCosts;
+
+    public ConversionDocumentation(String description, int size) {
+        this.description = description;
+        this.size = size;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the number of elements of the converted collections
+     */
+    public int getSize() {
+        return size;
+    }
+
+    public List<ConversionCost> getConversionCosts() {
+        return conversionCosts;
+    }
+
+    public void setConversionCosts(List<ConversionCost> conversionCosts) {
+        this.conversionCosts = conversionCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + conversionCosts;
+    }
+}
@@ -0,0 +1,17 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Cost of creating a list from its backing structure (array or list).
+ *
+ * @param complexity how the cost grows with the size of the backing structure: constant if the structure is
+ *                   wrapped, linear if it is copied
+ * @param allocatedBytesBySize the number of bytes allocated on creation, by number of elements
+ * @param nanosBySize the time the creation took, by number of elements
+ */
+public record CreationCost(Complexity complexity,
+                           SortedMap<Integer, Long> allocatedBytesBySize,
+                           SortedMap<Integer, Long> nanosBySize) {
+
+}
@@ -0,0 +1,17 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Bytes allocated per entry when iterating over all entries of a map in a certain way.
+ *
+ * @param style the code used to iterate over the entries
+ * @param bytesPerEntry the number of bytes allocated per entry
+ */
+public record EntryIterationCost(String style, double bytesPerEntry) {
+
+    /** Allocations below this value per entry are considered to be fixed costs, e.g. of an iterator object. */
+    private static final double ALLOCATION_FREE_THRESHOLD = 1.0;
+
+    public boolean isAllocationFree() {
+        return bytesPerEntry < ALLOCATION_FREE_THRESHOLD;
+    }
+}
@@ -0,0 +1,42 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the classes, footprint and speed of sets or maps of enum constants.
+ */
+public class EnumKeyDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private String lookupMethod;
+    private List<EnumKeyedCost> costs;
+
+    public EnumKeyDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getLookupMethod() {
+        return lookupMethod;
+    }
+
+    public void setLookupMethod(String lookupMethod) {
+        this.lookupMethod = lookupMethod;
+    }
+
+    public List<EnumKeyedCost> getCosts() {
+        return costs;
+    }
+
+    public void setCosts(List<EnumKeyedCost> costs) {
+        this.costs = costs;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + costs;
+    }
+}
@@ -0,0 +1,22 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Footprint and speed of a set or map of enum constants.
+ *
+ * @param type the description of the set or map type
+ * @param enumConstants the number of constants of the enum
+ * @param size the number of elements (or entries) of the collection
+ * @param className the name of the class of the collection
+ * @param retainedBytes the bytes retained by the collection, without its elements (or keys and values)
+ * @param lookupNanos the time of one lookup ({@code contains} or {@code get}), half of which are misses
+ * @param iterationNanosPerElement the time to iterate over the collection divided by its size
+ */
+public record EnumKeyedCost(String type,
+                            int enumConstants,
+                            int size,
+                            String className,
+                            long retainedBytes,
+                            double lookupNanos,
+                            double iterationNanosPerElement) {
+
+}
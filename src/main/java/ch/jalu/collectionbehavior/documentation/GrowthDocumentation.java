@@ -0,0 +1,44 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents how a mutable collection type grows and how much presizing saves.
+ */
+public class GrowthDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private GrowthMeasurement defaultGrowth;
+    private List<GrowthMeasurement> presizingComparison;
+
+    public GrowthDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public GrowthMeasurement getDefaultGrowth() {
+        return defaultGrowth;
+    }
+
+    public void setDefaultGrowth(GrowthMeasurement defaultGrowth) {
+        this.defaultGrowth = defaultGrowth;
+    }
+
+    public List<GrowthMeasurement> getPresizingComparison() {
+        return presizingComparison;
+    }
+
+    public void setPresizingComparison(List<GrowthMeasurement> presizingComparison) {
+        this.presizingComparison = presizingComparison;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + defaultGrowth.resizeEvents().size() + " resizes for "
+            + defaultGrowth.size() + " elements";
+    }
+}
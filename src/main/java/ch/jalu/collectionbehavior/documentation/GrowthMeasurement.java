@@ -0,0 +1,22 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Measurement of inserting elements one by one into a newly constructed collection.
+ *
+ * @param construction description of how the collection was constructed
+ * @param size the number of inserted elements
+ * @param resizeEvents the backing tables that were allocated while inserting
+ * @param retainedBytes bytes allocated by construction and insertion, minus the tables that were discarded
+ * @param discardedBytes bytes of all tables that were replaced by a larger one while inserting
+ * @param nanos the time construction and insertion took
+ */
+public record GrowthMeasurement(String construction,
+                                int size,
+                                List<ResizeEvent> resizeEvents,
+                                long retainedBytes,
+                                long discardedBytes,
+                                long nanos) {
+
+}
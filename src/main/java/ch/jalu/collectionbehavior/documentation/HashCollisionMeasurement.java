@@ -0,0 +1,19 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Measurement of a hash-based collection with keys of distinct hash codes, or with keys that all have the same
+ * hash code.
+ *
+ * @param size the number of keys
+ * @param collidingKeys whether all keys have the same hash code
+ * @param creationNanos the time it took to create the collection with all keys
+ * @param insertLatency the latency of inserting a key into the collection (null if the type is unmodifiable)
+ * @param lookupLatency the latency of looking up a key that is present in the collection
+ */
+public record HashCollisionMeasurement(int size,
+                                       boolean collidingKeys,
+                                       long creationNanos,
+                                       LatencyStats insertLatency,
+                                       LatencyStats lookupLatency) {
+
+}
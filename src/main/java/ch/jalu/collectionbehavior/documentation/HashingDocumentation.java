@@ -0,0 +1,71 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents how a hash-based collection type behaves when keys have colliding hash codes.
+ */
+public class HashingDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private List<HashCollisionMeasurement> collisionMeasurements;
+    private Complexity collidingLookupComplexity;
+    private Complexity collidingCreationComplexity;
+    private List<ProbeLengthStats> probeLengths;
+
+    public HashingDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<HashCollisionMeasurement> getCollisionMeasurements() {
+        return collisionMeasurements;
+    }
+
+    public void setCollisionMeasurements(List<HashCollisionMeasurement> collisionMeasurements) {
+        this.collisionMeasurements = collisionMeasurements;
+    }
+
+    /**
+     * @return how the lookup of a key grows with the number of keys if all keys have the same hash code
+     */
+    public Complexity getCollidingLookupComplexity() {
+        return collidingLookupComplexity;
+    }
+
+    public void setCollidingLookupComplexity(Complexity collidingLookupComplexity) {
+        this.collidingLookupComplexity = collidingLookupComplexity;
+    }
+
+    /**
+     * @return how the creation of the collection grows with the number of keys if all keys have the same hash code
+     */
+    public Complexity getCollidingCreationComplexity() {
+        return collidingCreationComplexity;
+    }
+
+    public void setCollidingCreationComplexity(Complexity collidingCreationComplexity) {
+        this.collidingCreationComplexity = collidingCreationComplexity;
+    }
+
+    /**
+     * @return probe lengths of the hash table, null if not measured for this type
+     */
+    public List<ProbeLengthStats> getProbeLengths() {
+        return probeLengths;
+    }
+
+    public void setProbeLengths(List<ProbeLengthStats> probeLengths) {
+        this.probeLengths = probeLengths;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": colliding lookups " + collidingLookupComplexity
+            + ", colliding creation " + collidingCreationComplexity;
+    }
+}
@@ -0,0 +1,80 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Documents the cost of iterating over a collection and how its iterator behaves on concurrent modifications.
+ */
+public class IterationDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private String iteratorClass;
+    private IteratorConsistency consistency;
+    private Double nanosPerElement;
+    private long iteratorBytes;
+    private Double nanosPerElementWithWriter;
+
+    public IterationDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getIteratorClass() {
+        return iteratorClass;
+    }
+
+    public void setIteratorClass(String iteratorClass) {
+        this.iteratorClass = iteratorClass;
+    }
+
+    public IteratorConsistency getConsistency() {
+        return consistency;
+    }
+
+    public void setConsistency(IteratorConsistency consistency) {
+        this.consistency = consistency;
+    }
+
+    /**
+     * @return time per element of a full iteration, null if the type cannot have multiple elements
+     */
+    public Double getNanosPerElement() {
+        return nanosPerElement;
+    }
+
+    public void setNanosPerElement(Double nanosPerElement) {
+        this.nanosPerElement = nanosPerElement;
+    }
+
+    /**
+     * @return bytes allocated by a full iteration: the iterator, plus any object created per element (e.g. by maps
+     *         that create their entries on iteration, like {@code Map#ofEntries})
+     */
+    public long getIteratorBytes() {
+        return iteratorBytes;
+    }
+
+    public void setIteratorBytes(long iteratorBytes) {
+        this.iteratorBytes = iteratorBytes;
+    }
+
+    /**
+     * @return time per element of a full iteration while another thread modifies the collection; null if the
+     *         iterator does not support concurrent modifications
+     */
+    public Double getNanosPerElementWithWriter() {
+        return nanosPerElementWithWriter;
+    }
+
+    public void setNanosPerElementWithWriter(Double nanosPerElementWithWriter) {
+        this.nanosPerElementWithWriter = nanosPerElementWithWriter;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + consistency + ", " + nanosPerElement + " ns/element, "
+            + nanosPerElementWithWriter + " ns/element with writer";
+    }
+}
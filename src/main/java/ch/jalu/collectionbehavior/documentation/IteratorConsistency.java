@@ -0,0 +1,23 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * How an iterator behaves if its collection is modified while it is being used.
+ */
+public enum IteratorConsistency {
+
+    /** The iterator throws a {@link java.util.ConcurrentModificationException} after the collection was modified. */
+    FAIL_FAST,
+
+    /** The iterator continues and may or may not reflect the modifications made after its creation. */
+    WEAKLY_CONSISTENT,
+
+    /** The iterator continues over the elements at the time of its creation and ignores all modifications. */
+    SNAPSHOT,
+
+    /**
+     * Elements cannot be added to or removed from the collection, and it is not a view of a collection that can be
+     * modified. Fixed-size collections like {@link java.util.Arrays#asList} belong here.
+     */
+    UNMODIFIABLE
+
+}
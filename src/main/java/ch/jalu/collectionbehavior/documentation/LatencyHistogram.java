@@ -0,0 +1,25 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Distribution of latencies.
+ *
+ * @param p50Nanos the median latency
+ * @param p99Nanos the latency within which 99% of the items were handled
+ * @param p999Nanos the latency within which 99.9% of the items were handled
+ * @param countByUpperBoundNanos the number of latencies by bucket, each bucket identified by its (inclusive) upper
+ *                               bound in nanoseconds; the last bucket has {@link Long#MAX_VALUE} as upper bound
+ */
+public record LatencyHistogram(long p50Nanos,
+                               long p99Nanos,
+                               long p999Nanos,
+                               SortedMap<Long, Long> countByUpperBoundNanos) {
+
+    /**
+     * @return the total number of latencies in the histogram
+     */
+    public long getTotalCount() {
+        return countByUpperBoundNanos.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,11 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Summary of the latencies of many invocations of an operation.
+ *
+ * @param medianNanos the median latency in nanoseconds
+ * @param p99Nanos the 99th percentile of the latencies in nanoseconds
+ */
+public record LatencyStats(long medianNanos, long p99Nanos) {
+
+}
@@ -17,6 +17,10 @@ public class ListDocumentation implements CollectionDocumentation {
 
     private List<ModifiableProperty> modifiableProperties;
     private List<BackingStructureBehavior> backingStructureBehaviors;
+    private CreationCost creationCost;
+    private List<BulkOperationCost> bulkOperationCosts;
+    private List<RemovalIdiomCost> removalIdiomCosts;
+    private List<StreamSourcingCost> streamSourcingCosts;
     private Support doesNotRewrapItself;
     private Set<SpliteratorCharacteristic> spliteratorCharacteristics;
 
@@ -88,6 +92,38 @@ public class ListDocumentation implements CollectionDocumentation {
         this.backingStructureBehaviors = backingStructureBehaviors;
     }
 
+    public CreationCost getCreationCost() {
+        return creationCost;
+    }
+
+    public void setCreationCost(CreationCost creationCost) {
+        this.creationCost = creationCost;
+    }
+
+    public List<BulkOperationCost> getBulkOperationCosts() {
+        return bulkOperationCosts;
+    }
+
+    public void setBulkOperationCosts(List<BulkOperationCost> bulkOperationCosts) {
+        this.bulkOperationCosts = bulkOperationCosts;
+    }
+
+    public List<RemovalIdiomCost> getRemovalIdiomCosts() {
+        return removalIdiomCosts;
+    }
+
+    public void setRemovalIdiomCosts(List<RemovalIdiomCost> removalIdiomCosts) {
+        this.removalIdiomCosts = removalIdiomCosts;
+    }
+
+    public List<StreamSourcingCost> getStreamSourcingCosts() {
+        return streamSourcingCosts;
+    }
+
+    public void setStreamSourcingCosts(List<StreamSourcingCost> streamSourcingCosts) {
+        this.streamSourcingCosts = streamSourcingCosts;
+    }
+
     public Support getDoesNotRewrapItself() {
         return doesNotRewrapItself;
     }
@@ -0,0 +1,91 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+public class MapDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private String entryClass;
+    private List<EntryIterationCost> entryIterationCosts;
+    private List<ViewCachingBehavior> viewCachingBehaviors;
+    private List<BoxingCost> boxingCosts;
+    private List<ProbingLookupCost> probingLookupCosts;
+    private List<StaleEntryCost> staleEntryCosts;
+
+    public MapDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return class of the entries returned by the entry set's iterator, null if the map has no entries
+     */
+    public String getEntryClass() {
+        return entryClass;
+    }
+
+    public void setEntryClass(String entryClass) {
+        this.entryClass = entryClass;
+    }
+
+    public List<EntryIterationCost> getEntryIterationCosts() {
+        return entryIterationCosts;
+    }
+
+    public void setEntryIterationCosts(List<EntryIterationCost> entryIterationCosts) {
+        this.entryIterationCosts = entryIterationCosts;
+    }
+
+    public List<ViewCachingBehavior> getViewCachingBehaviors() {
+        return viewCachingBehaviors;
+    }
+
+    public void setViewCachingBehaviors(List<ViewCachingBehavior> viewCachingBehaviors) {
+        this.viewCachingBehaviors = viewCachingBehaviors;
+    }
+
+    /**
+     * @return allocations of map operations with cached and uncached Integer values; empty if the map cannot be
+     *         modified
+     */
+    public List<BoxingCost> getBoxingCosts() {
+        return boxingCosts;
+    }
+
+    public void setBoxingCosts(List<BoxingCost> boxingCosts) {
+        this.boxingCosts = boxingCosts;
+    }
+
+    /**
+     * @return lookup costs at high and low load factors, null if the map does not use linear probing
+     */
+    public List<ProbingLookupCost> getProbingLookupCosts() {
+        return probingLookupCosts;
+    }
+
+    public void setProbingLookupCosts(List<ProbingLookupCost> probingLookupCosts) {
+        this.probingLookupCosts = probingLookupCosts;
+    }
+
+    /**
+     * @return cost of removing entries whose key was garbage collected, null if the map does not hold its keys
+     *         weakly
+     */
+    public List<StaleEntryCost> getStaleEntryCosts() {
+        return staleEntryCosts;
+    }
+
+    public void setStaleEntryCosts(List<StaleEntryCost> staleEntryCosts) {
+        this.staleEntryCosts = staleEntryCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + entryIterationCosts + ", " + viewCachingBehaviors + ", " + boxingCosts + ", "
+            + probingLookupCosts + ", " + staleEntryCosts;
+    }
+}
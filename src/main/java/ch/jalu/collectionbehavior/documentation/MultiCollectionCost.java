@@ -0,0 +1,23 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Footprint and speed of a multimap, multiset, bimap or table, or of the JDK structure it replaces.
+ *
+ * @param type the description of the type
+ * @param className the name of the class of the collection
+ * @param entries the number of entries (key-value pairs, distinct elements or cells) of the collection
+ * @param retainedBytes the bytes the collection occupies on the heap, without its keys and values
+ * @param lookupNanos the time of one lookup
+ * @param iterationNanosPerEntry the time to iterate over all entries divided by their number
+ */
+public record MultiCollectionCost(String type,
+                                  String className,
+                                  int entries,
+                                  long retainedBytes,
+                                  double lookupNanos,
+                                  double iterationNanosPerEntry) {
+
+    public double getRetainedBytesPerEntry() {
+        return (double) retainedBytes / entries;
+    }
+}
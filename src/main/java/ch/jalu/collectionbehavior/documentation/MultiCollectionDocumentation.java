@@ -0,0 +1,86 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Documents a family of Guava collections (e.g. multimaps): the results of their methods and views, and their
+ * footprint and speed compared with a structure of JDK collections.
+ */
+public class MultiCollectionDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private String entryDescription;
+    private String lookupMethod;
+    private String iterationMethod;
+    private Map<String, String> initialContentsByType;
+    private Map<String, List<MultiCollectionMethodBehavior>> methodBehaviorsByType;
+    private List<MultiCollectionCost> costs;
+
+    public MultiCollectionDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return what an entry of the collections is, e.g. "key-value pair"
+     */
+    public String getEntryDescription() {
+        return entryDescription;
+    }
+
+    public void setEntryDescription(String entryDescription) {
+        this.entryDescription = entryDescription;
+    }
+
+    public String getLookupMethod() {
+        return lookupMethod;
+    }
+
+    public void setLookupMethod(String lookupMethod) {
+        this.lookupMethod = lookupMethod;
+    }
+
+    public String getIterationMethod() {
+        return iterationMethod;
+    }
+
+    public void setIterationMethod(String iterationMethod) {
+        this.iterationMethod = iterationMethod;
+    }
+
+    /**
+     * @return the contents of the instances on which the methods are called, by type
+     */
+    public Map<String, String> getInitialContentsByType() {
+        return initialContentsByType;
+    }
+
+    public void setInitialContentsByType(Map<String, String> initialContentsByType) {
+        this.initialContentsByType = initialContentsByType;
+    }
+
+    public Map<String, List<MultiCollectionMethodBehavior>> getMethodBehaviorsByType() {
+        return methodBehaviorsByType;
+    }
+
+    public void setMethodBehaviorsByType(Map<String, List<MultiCollectionMethodBehavior>> methodBehaviorsByType) {
+        this.methodBehaviorsByType = methodBehaviorsByType;
+    }
+
+    public List<MultiCollectionCost> getCosts() {
+        return costs;
+    }
+
+    public void setCosts(List<MultiCollectionCost> costs) {
+        this.costs = costs;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + methodBehaviorsByType + ", " + costs;
+    }
+}
@@ -0,0 +1,16 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Result of calling a method (or a method of a view) on a small multimap, multiset, bimap or table.
+ *
+ * @param call the code of the call
+ * @param returnValue the value returned by the call, null if the method is void or threw an exception
+ * @param contents the contents of the collection after the call, null if the call threw an exception
+ * @param exception the simple name of the exception that was thrown, null if the call was successful
+ */
+public record MultiCollectionMethodBehavior(String call,
+                                            String returnValue,
+                                            String contents,
+                                            String exception) {
+
+}
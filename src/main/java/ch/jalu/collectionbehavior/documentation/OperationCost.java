@@ -0,0 +1,29 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Cost of calling a method on a collection, measured at different sizes of the collection.
+ *
+ * @param method the method that was called
+ * @param complexity how the cost of a call grows with the size of the collection (null if an exception is thrown)
+ * @param nanosBySize the time {@link #callsPerMeasurement} calls took, by size of the collection
+ * @param callsPerMeasurement the number of calls made per measurement
+ * @param visitsAllElements whether the operation visits every element, like an iteration, so that its cost
+ *                          inherently grows with the size
+ * @param exception the name of the exception thrown by the method, null if none was thrown
+ */
+public record OperationCost(String method,
+                            Complexity complexity,
+                            SortedMap<Integer, Long> nanosBySize,
+                            int callsPerMeasurement,
+                            boolean visitsAllElements,
+                            String exception) {
+
+    /**
+     * @return the time of one call at the largest size that was measured
+     */
+    public double getNanosPerCallAtLargestSize() {
+        return (double) nanosBySize.get(nanosBySize.lastKey()) / callsPerMeasurement;
+    }
+}
@@ -0,0 +1,37 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the cost of operations specific to sorted collection types.
+ */
+public class OrderingDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private List<OperationCost> rangeViewCosts;
+
+    public OrderingDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return cost of creating and using range views (e.g. {@code subSet}); null if not applicable
+     */
+    public List<OperationCost> getRangeViewCosts() {
+        return rangeViewCosts;
+    }
+
+    public void setRangeViewCosts(List<OperationCost> rangeViewCosts) {
+        this.rangeViewCosts = rangeViewCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + rangeViewCosts;
+    }
+}
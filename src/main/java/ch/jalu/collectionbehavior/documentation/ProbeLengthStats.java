@@ -0,0 +1,35 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Number of keys that are compared with the searched key when looking up a key in a hash table, measured over
+ * several JVM runs. The spreads show the lowest and the highest value that was measured in a JVM run.
+ *
+ * @param keyType description of the keys' hash codes
+ * @param size the number of keys in the table
+ * @param loadFactor the number of keys divided by the number of slots (or buckets) of the table
+ * @param meanHit mean number of comparisons when looking up a key that is present
+ * @param maxHit highest number of comparisons when looking up a key that is present
+ * @param meanMiss mean number of comparisons when looking up a key that is absent
+ * @param maxMiss highest number of comparisons when looking up a key that is absent
+ */
+public record ProbeLengthStats(String keyType,
+                               int size,
+                               double loadFactor,
+                               Spread meanHit,
+                               Spread maxHit,
+                               Spread meanMiss,
+                               Spread maxMiss) {
+
+    /**
+     * Lowest and highest value of a measurement across JVM runs.
+     *
+     * @param min the lowest value
+     * @param max the highest value
+     */
+    public record Spread(double min, double max) {
+
+        public boolean isStable() {
+            return min == max;
+        }
+    }
+}
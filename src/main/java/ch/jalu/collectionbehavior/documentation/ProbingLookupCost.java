@@ -0,0 +1,22 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Time of a lookup in a map with linear probing at a given size, compared with a {@link java.util.HashMap} with the
+ * same keys. Sizes are taken just before and just after the table is resized, where it is the fullest and the
+ * emptiest.
+ *
+ * @param size the number of entries
+ * @param loadFactor the number of entries divided by the number of slots of the table
+ * @param hitNanos the time of a lookup of a key that is present
+ * @param missNanos the time of a lookup of a key that is absent
+ * @param hashMapHitNanos the time of a lookup of a key that is present in a HashMap
+ * @param hashMapMissNanos the time of a lookup of a key that is absent in a HashMap
+ */
+public record ProbingLookupCost(int size,
+                                double loadFactor,
+                                double hitNanos,
+                                double missNanos,
+                                double hashMapHitNanos,
+                                double hashMapMissNanos) {
+
+}
@@ -0,0 +1,33 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents how fast a blocking queue passes items from producers to consumers.
+ */
+public class ProducerConsumerDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private List<ProducerConsumerMeasurement> measurements;
+
+    public ProducerConsumerDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<ProducerConsumerMeasurement> getMeasurements() {
+        return measurements;
+    }
+
+    public void setMeasurements(List<ProducerConsumerMeasurement> measurements) {
+        this.measurements = measurements;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + measurements;
+    }
+}
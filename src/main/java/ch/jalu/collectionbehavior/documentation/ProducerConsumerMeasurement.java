@@ -0,0 +1,18 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Throughput and end-to-end latency of items passed from producers to consumers through a blocking queue.
+ *
+ * @param topology the number of producers and consumers
+ * @param threadKind the kind of threads the producers and consumers run on
+ * @param consumeMode how the consumers take items from the queue
+ * @param itemsPerSecond the number of items that went through the queue per second
+ * @param latency the time from producing an item to consuming it
+ */
+public record ProducerConsumerMeasurement(QueueTopology topology,
+                                          ThreadKind threadKind,
+                                          ConsumeMode consumeMode,
+                                          long itemsPerSecond,
+                                          LatencyHistogram latency) {
+
+}
@@ -0,0 +1,73 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents a queue type: how its methods behave when it is empty or full, and how their cost grows with
+ * the number of elements.
+ */
+public class QueueDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private String queueClass;
+    private Support nullElementSupport;
+    private Integer capacity;
+    private List<QueueMethodBehavior> methodBehaviors;
+    private List<OperationCost> operationCosts;
+
+    public QueueDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getQueueClass() {
+        return queueClass;
+    }
+
+    public void setQueueClass(String queueClass) {
+        this.queueClass = queueClass;
+    }
+
+    public Support getNullElementSupport() {
+        return nullElementSupport;
+    }
+
+    public void setNullElementSupport(Support nullElementSupport) {
+        this.nullElementSupport = nullElementSupport;
+    }
+
+    /**
+     * @return the capacity of an empty queue, null if the queue has no capacity limit
+     */
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public List<QueueMethodBehavior> getMethodBehaviors() {
+        return methodBehaviors;
+    }
+
+    public void setMethodBehaviors(List<QueueMethodBehavior> methodBehaviors) {
+        this.methodBehaviors = methodBehaviors;
+    }
+
+    public List<OperationCost> getOperationCosts() {
+        return operationCosts;
+    }
+
+    public void setOperationCosts(List<OperationCost> operationCosts) {
+        this.operationCosts = operationCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + methodBehaviors;
+    }
+}
@@ -0,0 +1,16 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Result of calling a method on a queue in a given state.
+ *
+ * @param queueState the state of the queue the method was called on, e.g. "empty"
+ * @param call the method call, e.g. "poll()"
+ * @param result the value the method returned, or the name of the exception it threw
+ * @param exception whether the method threw an exception
+ */
+public record QueueMethodBehavior(String queueState,
+                                  String call,
+                                  String result,
+                                  boolean exception) {
+
+}
@@ -0,0 +1,38 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Number of producers and consumers that share a queue.
+ */
+public enum QueueTopology {
+
+    /** Single producer, single consumer. */
+    SPSC("SPSC", 1, 1),
+
+    /** Multiple producers, single consumer. */
+    MPSC("MPSC", 4, 1),
+
+    /** Multiple producers, multiple consumers. */
+    MPMC("MPMC", 4, 4);
+
+    private final String abbreviation;
+    private final int producers;
+    private final int consumers;
+
+    QueueTopology(String abbreviation, int producers, int consumers) {
+        this.abbreviation = abbreviation;
+        this.producers = producers;
+        this.consumers = consumers;
+    }
+
+    public String getAbbreviation() {
+        return abbreviation;
+    }
+
+    public int getProducers() {
+        return producers;
+    }
+
+    public int getConsumers() {
+        return consumers;
+    }
+}
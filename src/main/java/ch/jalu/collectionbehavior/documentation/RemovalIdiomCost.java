@@ -0,0 +1,19 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Cost of removing a range of elements from a list with a given idiom.
+ *
+ * @param idiom the code used to remove the elements
+ * @param complexity how the cost grows with the size of the list (null if an exception is thrown or if only one
+ *                   size was measured)
+ * @param nanosBySize the time the removal took by size of the list (half of the elements are removed)
+ * @param exception the name of the exception thrown by the idiom, null if none was thrown
+ */
+public record RemovalIdiomCost(String idiom,
+                               Complexity complexity,
+                               SortedMap<Integer, Long> nanosBySize,
+                               String exception) {
+
+}
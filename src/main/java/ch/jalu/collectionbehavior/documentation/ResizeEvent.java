@@ -0,0 +1,13 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Allocation of a new backing table (array) while elements were being inserted.
+ *
+ * @param size the number of elements after the insertion that triggered the allocation
+ * @param capacity the capacity of the new table, derived from its size in bytes; rounded up to the object
+ *                 alignment, so it may be one more than the actual capacity
+ * @param tableBytes the number of bytes allocated for the new table
+ */
+public record ResizeEvent(int size, int capacity, long tableBytes) {
+
+}
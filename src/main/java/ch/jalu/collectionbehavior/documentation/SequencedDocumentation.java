@@ -0,0 +1,34 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the cost of the methods of a sequenced collection or map.
+ */
+public class SequencedDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private List<OperationCost> operationCosts;
+
+    public SequencedDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<OperationCost> getOperationCosts() {
+        return operationCosts;
+    }
+
+    public void setOperationCosts(List<OperationCost> operationCosts) {
+        this.operationCosts = operationCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + operationCosts;
+    }
+}
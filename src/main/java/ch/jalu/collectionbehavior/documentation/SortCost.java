@@ -0,0 +1,20 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.SortedMap;
+
+/**
+ * Cost of sorting a list with {@link java.util.List#sort} for a given comparator and order of the input.
+ *
+ * @param comparator the comparator that was passed to {@code sort}
+ * @param input the order of the elements before sorting
+ * @param nanosBySize the time the call took, by number of elements
+ * @param allocatedBytesBySize the number of bytes allocated by the call, by number of elements
+ * @param exception the name of the exception thrown by the method, null if none was thrown
+ */
+public record SortCost(String comparator,
+                       SortInput input,
+                       SortedMap<Integer, Long> nanosBySize,
+                       SortedMap<Integer, Long> allocatedBytesBySize,
+                       String exception) {
+
+}
@@ -0,0 +1,34 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the cost of sorting a list type.
+ */
+public class SortDocumentation implements CollectionDocumentation {
+
+    private final String description;
+
+    private List<SortCost> sortCosts;
+
+    public SortDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<SortCost> getSortCosts() {
+        return sortCosts;
+    }
+
+    public void setSortCosts(List<SortCost> sortCosts) {
+        this.sortCosts = sortCosts;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + sortCosts;
+    }
+}
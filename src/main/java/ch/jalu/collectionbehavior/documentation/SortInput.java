@@ -0,0 +1,17 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Order of the elements of a list before it is sorted.
+ */
+public enum SortInput {
+
+    /** The elements are already sorted by the comparator. */
+    PRESORTED,
+
+    /** The elements are sorted in the reverse order of the comparator. */
+    REVERSED,
+
+    /** The elements are shuffled. */
+    RANDOM
+
+}
@@ -0,0 +1,23 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Cost of creating a sorted type from unsorted input, its footprint and the time of a lookup.
+ *
+ * @param type the description of the type
+ * @param className the name of the class of the collection
+ * @param size the number of elements, keys or ranges
+ * @param creationNanos the time to create the collection from the input in random order
+ * @param retainedBytes the bytes the collection occupies on the heap, without the input it was created from
+ * @param lookupNanos the time of one lookup, half of which are misses
+ */
+public record SortedLookupCost(String type,
+                               String className,
+                               int size,
+                               long creationNanos,
+                               long retainedBytes,
+                               double lookupNanos) {
+
+    public double getRetainedBytesPerEntry() {
+        return (double) retainedBytes / size;
+    }
+}
@@ -0,0 +1,45 @@
+package ch.jalu.collectionbehavior.documentation;
+
+import java.util.List;
+
+/**
+ * Documents the lookup time, footprint and creation cost of sorted sets and maps, or of range sets and maps.
+ */
+public class SortedLookupDocumentation implements CollectionDocumentation {
+
+    private final String description;
+    private String lookupMethod;
+    private List<SortedLookupCost> costs;
+
+    public SortedLookupDocumentation(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return the method (or methods) whose time is measured, e.g. "contains(e)"
+     */
+    public String getLookupMethod() {
+        return lookupMethod;
+    }
+
+    public void setLookupMethod(String lookupMethod) {
+        this.lookupMethod = lookupMethod;
+    }
+
+    public List<SortedLookupCost> getCosts() {
+        return costs;
+    }
+
+    public void setCosts(List<SortedLookupCost> costs) {
+        this.costs = costs;
+    }
+
+    @Override
+    public String toString() {
+        return description + ": " + costs;
+    }
+}
@@ -0,0 +1,34 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Compares keeping keys sorted in a {@link java.util.TreeMap} with putting them into a {@link java.util.HashMap} and
+ * sorting the keys whenever they are read in order.
+ *
+ * @param comparator the code of the comparator
+ * @param size the number of keys
+ * @param treeMapBuildNanos the time to put all keys into a TreeMap
+ * @param hashMapBuildNanos the time to put all keys into a HashMap
+ * @param treeMapSortedReadNanos the time to iterate over the TreeMap's keys
+ * @param hashMapSortedReadNanos the time to copy the HashMap's keys to a list and to sort it
+ */
+public record SortedStrategyCost(String comparator,
+                                 int size,
+                                 long treeMapBuildNanos,
+                                 long hashMapBuildNanos,
+                                 long treeMapSortedReadNanos,
+                                 long hashMapSortedReadNanos) {
+
+    /**
+     * Returns the number of sorted reads after which the TreeMap is cheaper than the HashMap with sorting on read.
+     *
+     * @return number of sorted reads, 0 if the TreeMap is always cheaper, -1 if it never is
+     */
+    public long getBreakEvenReads() {
+        long extraBuildNanos = treeMapBuildNanos - hashMapBuildNanos;
+        long savedNanosPerRead = hashMapSortedReadNanos - treeMapSortedReadNanos;
+        if (extraBuildNanos <= 0) {
+            return savedNanosPerRead >= 0 ? 0 : -1;
+        }
+        return savedNanosPerRead <= 0 ? -1 : (extraBuildNanos + savedNanosPerRead - 1) / savedNanosPerRead;
+    }
+}
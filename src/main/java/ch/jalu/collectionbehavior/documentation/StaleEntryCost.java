@@ -0,0 +1,17 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Time of the first access to a {@link java.util.WeakHashMap} after the garbage collector has cleared keys, which
+ * removes all stale entries, compared with the access after it.
+ *
+ * @param liveEntries the number of entries whose key is still referenced
+ * @param staleEntries the number of entries whose key was garbage collected
+ * @param firstAccessNanos the time of the first {@code get} call after the garbage collection
+ * @param nextAccessNanos the time of the {@code get} call after that
+ */
+public record StaleEntryCost(int liveEntries,
+                             int staleEntries,
+                             long firstAccessNanos,
+                             long nextAccessNanos) {
+
+}
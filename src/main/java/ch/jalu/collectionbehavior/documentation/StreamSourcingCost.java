@@ -0,0 +1,39 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Cost of collecting all elements of a collection's stream with a given terminal operation. Whether the result
+ * can be allocated with the exact size depends on the SIZED characteristic of the collection's spliterator (and
+ * SUBSIZED for parallel streams); otherwise, the elements are buffered (e.g. in a {@code SpinedBuffer} or a growing
+ * ArrayList) and copied.
+ *
+ * @param operation the code that collects the stream
+ * @param size the number of elements that were streamed
+ * @param allocatedBytes the number of bytes allocated by the stream and its terminal operation
+ * @param exactArrayBytes the number of bytes of an array with exactly as many elements as were streamed
+ * @param nanos the time it took to stream and collect all elements
+ */
+public record StreamSourcingCost(String operation,
+                                 int size,
+                                 long allocatedBytes,
+                                 long exactArrayBytes,
+                                 long nanos) {
+
+    /**
+     * Returns how many times more bytes were allocated than for an array of the exact size.
+     *
+     * @return allocated bytes relative to an array of the exact size
+     */
+    public double getAllocationRatio() {
+        return (double) allocatedBytes / exactArrayBytes;
+    }
+
+    /**
+     * Returns whether the result was allocated with the exact size right away. A few objects for the stream
+     * pipeline and the returned wrapper are tolerated.
+     *
+     * @return true if the result was preallocated, false if the elements were buffered
+     */
+    public boolean isPreallocated() {
+        return getAllocationRatio() < 1.25;
+    }
+}
@@ -0,0 +1,23 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Kind of threads that access a shared collection.
+ */
+public enum ThreadKind {
+
+    /** Platform threads, each backed by an OS thread. */
+    PLATFORM("Platform threads"),
+
+    /** Virtual threads, which are mounted on a small number of carrier threads. */
+    VIRTUAL("Virtual threads");
+
+    private final String description;
+
+    ThreadKind(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,24 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Throughput and latency of tasks that access a shared collection, run by platform or by virtual threads.
+ *
+ * @param threadKind the kind of threads that ran the tasks
+ * @param mix the ratio of reads and writes
+ * @param threads the number of threads that ran the tasks
+ * @param operationsPerSecond the number of operations per second, summed over all threads
+ * @param p50Nanos the median time of an operation
+ * @param p99Nanos the time within which 99% of the operations completed
+ * @param p999Nanos the time within which 99.9% of the operations completed
+ * @param pinnedEvents the number of {@code jdk.VirtualThreadPinned} events JFR recorded during the measurement
+ */
+public record ThreadKindMeasurement(ThreadKind threadKind,
+                                    WorkloadMix mix,
+                                    int threads,
+                                    long operationsPerSecond,
+                                    long p50Nanos,
+                                    long p99Nanos,
+                                    long p999Nanos,
+                                    long pinnedEvents) {
+
+}
@@ -0,0 +1,14 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Number of operations that a number of threads could perform on a shared collection with a given workload.
+ *
+ * @param mix the ratio of reads and writes
+ * @param threads the number of threads accessing the collection
+ * @param operationsPerSecond the number of operations per second, summed over all threads
+ */
+public record ThroughputMeasurement(WorkloadMix mix,
+                                    int threads,
+                                    long operationsPerSecond) {
+
+}
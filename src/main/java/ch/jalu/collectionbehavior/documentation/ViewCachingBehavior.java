@@ -0,0 +1,18 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Whether a map returns the same view object on repeated calls, and how much a call allocates.
+ *
+ * @param view the method that returns the view
+ * @param cached true if repeated calls return the same instance
+ * @param bytesPerCall the number of bytes allocated per call
+ */
+public record ViewCachingBehavior(String view, boolean cached, double bytesPerCall) {
+
+    /** Allocations below this value per call are considered to be noise of the measurement. */
+    private static final double ALLOCATION_FREE_THRESHOLD = 1.0;
+
+    public boolean isAllocationFree() {
+        return bytesPerCall < ALLOCATION_FREE_THRESHOLD;
+    }
+}
@@ -0,0 +1,35 @@
+package ch.jalu.collectionbehavior.documentation;
+
+/**
+ * Ratio of reads and writes with which a collection is accessed by multiple threads.
+ */
+public enum WorkloadMix {
+
+    /** Mostly reads, e.g. a registry that is rarely updated. */
+    READ_MOSTLY("Read-mostly", 90),
+
+    /** As many reads as writes. */
+    BALANCED("Balanced", 50),
+
+    /** Mostly writes, e.g. a map of counters or of in-flight requests. */
+    WRITE_HEAVY("Write-heavy", 10);
+
+    private final String description;
+    private final int readPercentage;
+
+    WorkloadMix(String description, int readPercentage) {
+        this.description = description;
+        this.readPercentage = readPercentage;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return percentage of operations that are reads (0 to 100), the others are writes
+     */
+    public int getReadPercentage() {
+        return readPercentage;
+    }
+}
@@ -1,8 +1,10 @@
 package ch.jalu.collectionbehavior.documentation.export;
 
+import ch.jalu.collectionbehavior.documentation.Complexity;
 import ch.jalu.collectionbehavior.documentation.MethodBehavior;
 import ch.jalu.collectionbehavior.documentation.MethodInvocation;
 import ch.jalu.collectionbehavior.documentation.ModifiableProperty;
+import ch.jalu.collectionbehavior.documentation.OperationCost;
 import ch.jalu.collectionbehavior.documentation.Range;
 import ch.jalu.collectionbehavior.method.CallEffect;
 import com.google.common.base.Preconditions;
@@ -10,7 +12,9 @@ import com.google.common.collect.Iterables;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static ch.jalu.collectionbehavior.analysis.ListAnalyzer.MAX_SIZE_TO_INSTANTIATE;
 
@@ -56,6 +60,100 @@ abstract class AbstrDocumentationExporter {
         return clazz.replace("$", "\\$");
     }
 
+    // ------------
+    // Measurements
+    // ------------
+
+    protected static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    protected static String formatNanos(long nanos) {
+        if (nanos < 1_000) {
+            return nanos + " ns";
+        } else if (nanos < 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f µs", nanos / 1_000.0);
+        } else if (nanos < 1_000_000_000) {
+            return String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+        }
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1_000_000_000.0);
+    }
+
+    protected static String formatPerSecond(long countPerSecond) {
+        if (countPerSecond >= 1_000_000) {
+            return String.format(Locale.ROOT, "%.1f M/s", countPerSecond / 1_000_000.0);
+        } else if (countPerSecond >= 1_000) {
+            return String.format(Locale.ROOT, "%.1f k/s", countPerSecond / 1_000.0);
+        }
+        return countPerSecond + " /s";
+    }
+
+    /**
+     * Adds a summary and a table of the given operation costs, flagging the operations that grow with the size.
+     * Operations that visit every element, like iterations, inherently grow with the size and are not flagged.
+     *
+     * @param sb the builder to add the text to
+     * @param costs the costs to describe
+     */
+    protected static void addOperationCosts(StringBuilder sb, List<OperationCost> costs) {
+        List<OperationCost> costsToFlag = costs.stream()
+            .filter(cost -> !cost.visitsAllElements())
+            .toList();
+        String linearMethods = getMethodsWithComplexity(costsToFlag, Complexity.LINEAR);
+        String quadraticMethods = getMethodsWithComplexity(costsToFlag, Complexity.QUADRATIC);
+        if (linearMethods.isEmpty() && quadraticMethods.isEmpty()) {
+            sb.append("\n- ✅ No supported method grows with the size");
+            if (costsToFlag.size() < costs.size()) {
+                sb.append(", apart from iterating over the elements");
+            }
+        }
+        if (!linearMethods.isEmpty()) {
+            sb.append("\n- ⚠️ Grows linearly with the size: ").append(linearMethods);
+        }
+        if (!quadraticMethods.isEmpty()) {
+            sb.append("\n- ⚠️ Grows quadratically with the size: ").append(quadraticMethods);
+        }
+
+        int largestSize = costs.stream()
+            .filter(cost -> cost.exception() == null)
+            .mapToInt(cost -> cost.nanosBySize().lastKey())
+            .max()
+            .orElse(0);
+        sb.append("\n\n| Method | Complexity | Time per call (")
+            .append(String.format(Locale.ROOT, "%,d", largestSize)).append(" elements) |");
+        sb.append("\n|---|---|---|");
+        for (OperationCost cost : costs) {
+            sb.append("\n| `").append(cost.method()).append("` | ");
+            if (cost.exception() != null) {
+                sb.append("⛔ ").append(cost.exception()).append(" | - |");
+            } else {
+                sb.append(formatOperationComplexity(cost.complexity())).append(" | ")
+                    .append(formatNanos(Math.round(cost.getNanosPerCallAtLargestSize())))
+                    .append(" |");
+            }
+        }
+    }
+
+    private static String getMethodsWithComplexity(List<OperationCost> costs, Complexity complexity) {
+        return costs.stream()
+            .filter(cost -> cost.complexity() == complexity)
+            .map(cost -> "`" + cost.method() + "`")
+            .collect(Collectors.joining(", "));
+    }
+
+    private static String formatOperationComplexity(Complexity complexity) {
+        return switch (complexity) {
+            case CONSTANT -> "O(1)";
+            case LINEAR -> "⚠️ O(n)";
+            case QUADRATIC -> "⚠️ O(n²)";
+        };
+    }
+
     // ----------------
     // Method behaviors
     // ----------------
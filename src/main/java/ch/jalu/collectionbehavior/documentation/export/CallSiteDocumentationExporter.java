@@ -0,0 +1,65 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.CallSiteCost;
+import ch.jalu.collectionbehavior.documentation.CallSiteDocumentation;
+
+import java.util.List;
+import java.util.Locale;
+
+public class CallSiteDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, CallSiteDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nEach operation is called through one call site on lists whose types alternate. Every column is "
+            + "measured in a new JVM so that the type profiles of one column do not affect another. Factors are "
+            + "relative to the same operation on one type of unwrapped lists.");
+
+        List<CallSiteCost> costs = doc.getCallSiteCosts();
+        sb.append("\n\n## Plain lists");
+        addCallSiteCosts(sb, costs, false);
+        sb.append("\n\n## Lists wrapped in Collections#unmodifiableList");
+        sb.append("\nThe call site only sees the wrapper classes, but the wrapper's own call to the wrapped list "
+            + "receives all list types.");
+        addCallSiteCosts(sb, costs, true);
+    }
+
+    private void addCallSiteCosts(StringBuilder sb, List<CallSiteCost> allCosts, boolean wrapped) {
+        List<CallSiteCost> costs = allCosts.stream()
+            .filter(cost -> cost.wrapped() == wrapped)
+            .toList();
+        List<CallSiteCost> columns = costs.stream()
+            .filter(cost -> cost.operation().equals(costs.getFirst().operation()))
+            .toList();
+
+        sb.append("\n\n| Operation |");
+        columns.forEach(column -> sb.append(" ").append(column.listTypes())
+            .append(column.listTypes() == 1 ? " type" : " types")
+            .append(" (").append(column.receiverClasses())
+            .append(column.receiverClasses() == 1 ? " class" : " classes").append(") |"));
+        sb.append("\n|---|").append("---|".repeat(columns.size()));
+
+        for (String operation : costs.stream().map(CallSiteCost::operation).distinct().toList()) {
+            double baseline = getMonomorphicPlainNanos(allCosts, operation);
+            sb.append("\n| `").append(operation).append("` |");
+            costs.stream()
+                .filter(cost -> cost.operation().equals(operation))
+                .forEach(cost -> sb.append(" ").append(formatNanosPerCall(cost.nanosPerCall(), baseline)).append(" |"));
+        }
+    }
+
+    private static double getMonomorphicPlainNanos(List<CallSiteCost> costs, String operation) {
+        return costs.stream()
+            .filter(cost -> !cost.wrapped() && cost.listTypes() == 1 && cost.operation().equals(operation))
+            .mapToDouble(CallSiteCost::nanosPerCall)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private static String formatNanosPerCall(double nanos, double baseline) {
+        String formattedNanos = String.format(Locale.ROOT, "%.2f ns", nanos);
+        if (nanos == baseline) {
+            return formattedNanos;
+        }
+        return formattedNanos + String.format(Locale.ROOT, " (%.1f×)", nanos / baseline);
+    }
+}
@@ -0,0 +1,63 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.ComparatorCost;
+import ch.jalu.collectionbehavior.documentation.ComparatorDocumentation;
+import ch.jalu.collectionbehavior.documentation.SortedStrategyCost;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+public class ComparatorDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, ComparatorDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nAll keys start with the same ").append(doc.getKeyPrefixLength()).append(" characters.");
+
+        sb.append("\n## Comparisons");
+        addComparatorCosts(sb, doc.getComparatorCosts());
+
+        sb.append("\n\n## TreeMap vs. HashMap with sorting on read");
+        addSortedStrategyCosts(sb, doc.getSortedStrategyCosts());
+    }
+
+    private void addComparatorCosts(StringBuilder sb, List<ComparatorCost> costs) {
+        costs.stream()
+            .min(Comparator.comparingDouble(ComparatorCost::nanosPerComparison))
+            .ifPresent(fastest -> sb.append("\n- 💡 Fastest comparison: `").append(fastest.comparator()).append("`"));
+
+        sb.append("\n\n| Comparator | Time per comparison | Comparisons per insert | Comparisons per lookup |");
+        sb.append("\n|---|---|---|---|");
+        for (ComparatorCost cost : costs) {
+            sb.append("\n| `").append(cost.comparator()).append("` | ")
+                .append(String.format(Locale.ROOT, "%.1f ns", cost.nanosPerComparison())).append(" | ")
+                .append(String.format(Locale.ROOT, "%.1f", cost.comparisonsPerInsert())).append(" | ")
+                .append(String.format(Locale.ROOT, "%.1f", cost.comparisonsPerLookup())).append(" |");
+        }
+    }
+
+    private void addSortedStrategyCosts(StringBuilder sb, List<SortedStrategyCost> costs) {
+        sb.append("\nA TreeMap is slower to build but can be read in order without sorting.");
+        sb.append("\n\n| Comparator | Keys | Build TreeMap | Build HashMap | Sorted read TreeMap "
+            + "| Sorted read HashMap | TreeMap pays off |");
+        sb.append("\n|---|---|---|---|---|---|---|");
+        for (SortedStrategyCost cost : costs) {
+            sb.append("\n| `").append(cost.comparator()).append("` | ")
+                .append(String.format(Locale.ROOT, "%,d", cost.size())).append(" | ")
+                .append(formatNanos(cost.treeMapBuildNanos())).append(" | ")
+                .append(formatNanos(cost.hashMapBuildNanos())).append(" | ")
+                .append(formatNanos(cost.treeMapSortedReadNanos())).append(" | ")
+                .append(formatNanos(cost.hashMapSortedReadNanos())).append(" | ")
+                .append(formatBreakEven(cost.getBreakEvenReads())).append(" |");
+        }
+    }
+
+    private static String formatBreakEven(long breakEvenReads) {
+        if (breakEvenReads == 0) {
+            return "Always";
+        } else if (breakEvenReads < 0) {
+            return "Never";
+        }
+        return "After " + breakEvenReads + (breakEvenReads == 1 ? " sorted read" : " sorted reads");
+    }
+}
@@ -0,0 +1,81 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.ConcurrencyDocumentation;
+import ch.jalu.collectionbehavior.documentation.ThreadKindMeasurement;
+import ch.jalu.collectionbehavior.documentation.ThroughputMeasurement;
+import ch.jalu.collectionbehavior.documentation.WorkloadMix;
+
+import java.util.List;
+import java.util.Locale;
+
+public class ConcurrencyDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, ConcurrencyDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\n- Read: `").append(doc.getReadOperation()).append("`");
+        sb.append("\n- Write: `").append(doc.getWriteOperation()).append("`");
+        sb.append("\n- Available processors: ").append(doc.getAvailableProcessors())
+            .append(" (more threads than processors cannot increase the throughput)");
+
+        addThroughputByThreadCount(sb, doc.getThroughputMeasurements());
+        if (doc.getThreadKindMeasurements() != null) {
+            addThreadKindComparison(sb, doc.getThreadKindMeasurements());
+        }
+    }
+
+    private static void addThroughputByThreadCount(StringBuilder sb, List<ThroughputMeasurement> measurements) {
+        List<Integer> threadCounts = measurements.stream()
+            .map(ThroughputMeasurement::threads)
+            .distinct()
+            .toList();
+
+        sb.append("\n\n| Workload |");
+        threadCounts.forEach(threads -> sb.append(" ").append(threads)
+            .append(threads == 1 ? " thread" : " threads").append(" |"));
+        sb.append("\n|---|").append("---|".repeat(threadCounts.size()));
+
+        for (WorkloadMix mix : WorkloadMix.values()) {
+            List<ThroughputMeasurement> measurementsOfMix = measurements.stream()
+                .filter(measurement -> measurement.mix() == mix)
+                .toList();
+            if (measurementsOfMix.isEmpty()) {
+                continue;
+            }
+
+            long singleThreaded = measurementsOfMix.getFirst().operationsPerSecond();
+            sb.append("\n| ").append(mix.getDescription())
+                .append(" (").append(mix.getReadPercentage()).append("% reads) |");
+            measurementsOfMix.forEach(measurement -> sb.append(" ")
+                .append(formatThroughput(measurement.operationsPerSecond(), singleThreaded)).append(" |"));
+        }
+    }
+
+    private static void addThreadKindComparison(StringBuilder sb, List<ThreadKindMeasurement> measurements) {
+        sb.append("\n\n## Platform vs. virtual threads");
+        sb.append("\nThe workloads are run as many short tasks, either on a fixed pool of platform threads or on a "
+            + "virtual thread per task. JFR records a pinned event when a virtual thread blocks without releasing its "
+            + "carrier thread, e.g. when it parks inside a synchronized block before JDK 24. Until then, waiting to "
+            + "enter a contended monitor also holds on to the carrier, but without producing an event.");
+        sb.append("\n\n| Workload | Threads | Throughput | p50 | p99 | p99.9 | Pinned events |");
+        sb.append("\n|---|---|---|---|---|---|---|");
+        for (ThreadKindMeasurement measurement : measurements) {
+            WorkloadMix mix = measurement.mix();
+            sb.append("\n| ").append(mix.getDescription()).append(" (").append(mix.getReadPercentage())
+                .append("% reads) | ").append(measurement.threadKind().getDescription())
+                .append(" (").append(String.format(Locale.ROOT, "%,d", measurement.threads())).append(")")
+                .append(" | ").append(formatPerSecond(measurement.operationsPerSecond()))
+                .append(" | ").append(formatNanos(measurement.p50Nanos()))
+                .append(" | ").append(formatNanos(measurement.p99Nanos()))
+                .append(" | ").append(formatNanos(measurement.p999Nanos()))
+                .append(" | ").append(measurement.pinnedEvents()).append(" |");
+        }
+    }
+
+    private static String formatThroughput(long operationsPerSecond, long singleThreaded) {
+        String throughput = formatPerSecond(operationsPerSecond);
+        if (operationsPerSecond == singleThreaded) {
+            return throughput;
+        }
+        return throughput + String.format(Locale.ROOT, " (%.2f×)", (double) operationsPerSecond / singleThreaded);
+    }
+}
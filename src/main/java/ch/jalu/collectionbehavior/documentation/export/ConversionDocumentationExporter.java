@@ -0,0 +1,47 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.ConversionCost;
+import ch.jalu.collectionbehavior.documentation.ConversionDocumentation;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+public class ConversionDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, ConversionDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nTime and allocated bytes to convert a collection `c` of ")
+            .append(String.format(Locale.ROOT, "%,d", doc.getSize())).append(" elements.");
+        sb.append(" ✅ marks conversions that do not copy the elements.");
+        sb.append("\n");
+
+        List<ConversionCost> costs = doc.getConversionCosts();
+        List<String> targets = costs.stream().map(ConversionCost::target).distinct().toList();
+        List<String> sources = costs.stream().map(ConversionCost::source).distinct().toList();
+
+        sb.append("\n| Source |");
+        targets.forEach(target -> sb.append(" `").append(target).append("` |"));
+        sb.append(" Fastest |");
+        sb.append("\n|---|");
+        targets.forEach(target -> sb.append("---|"));
+        sb.append("---|");
+
+        for (String source : sources) {
+            List<ConversionCost> sourceCosts = costs.stream()
+                .filter(cost -> cost.source().equals(source))
+                .toList();
+            sb.append("\n| ").append(source).append(" |");
+            for (ConversionCost cost : sourceCosts) {
+                boolean copiesElements = (double) cost.allocatedBytes() / doc.getSize() >= 1.0;
+                sb.append(" ").append(copiesElements ? "" : "✅ ")
+                    .append(formatNanos(cost.nanos())).append(", ")
+                    .append(formatBytes(cost.allocatedBytes())).append(" |");
+            }
+            ConversionCost fastest = sourceCosts.stream()
+                .min(Comparator.comparingLong(ConversionCost::nanos))
+                .orElseThrow();
+            sb.append(" `").append(fastest.target()).append("` |");
+        }
+    }
+}
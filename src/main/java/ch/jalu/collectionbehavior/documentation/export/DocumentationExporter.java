@@ -1,8 +1,24 @@
 package ch.jalu.collectionbehavior.documentation.export;
 
+import ch.jalu.collectionbehavior.documentation.CallSiteDocumentation;
 import ch.jalu.collectionbehavior.documentation.CollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.ComparatorDocumentation;
+import ch.jalu.collectionbehavior.documentation.ConcurrencyDocumentation;
+import ch.jalu.collectionbehavior.documentation.ConversionDocumentation;
+import ch.jalu.collectionbehavior.documentation.EnumKeyDocumentation;
+import ch.jalu.collectionbehavior.documentation.GrowthDocumentation;
+import ch.jalu.collectionbehavior.documentation.HashingDocumentation;
+import ch.jalu.collectionbehavior.documentation.IterationDocumentation;
 import ch.jalu.collectionbehavior.documentation.ListDocumentation;
 import ch.jalu.collectionbehavior.documentation.ListIteratorDocumentation;
+import ch.jalu.collectionbehavior.documentation.MapDocumentation;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.OrderingDocumentation;
+import ch.jalu.collectionbehavior.documentation.ProducerConsumerDocumentation;
+import ch.jalu.collectionbehavior.documentation.QueueDocumentation;
+import ch.jalu.collectionbehavior.documentation.SequencedDocumentation;
+import ch.jalu.collectionbehavior.documentation.SortDocumentation;
+import ch.jalu.collectionbehavior.documentation.SortedLookupDocumentation;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -22,6 +38,38 @@ public class DocumentationExporter {
         new ListIteratorDocumentationExporter();
     private final ListMethodsDocumentationExporter listMethodsDocumentationExporter =
         new ListMethodsDocumentationExporter();
+    private final MapDocumentationExporter mapDocumentationExporter =
+        new MapDocumentationExporter();
+    private final GrowthDocumentationExporter growthDocumentationExporter =
+        new GrowthDocumentationExporter();
+    private final HashingDocumentationExporter hashingDocumentationExporter =
+        new HashingDocumentationExporter();
+    private final IterationDocumentationExporter iterationDocumentationExporter =
+        new IterationDocumentationExporter();
+    private final SortDocumentationExporter sortDocumentationExporter =
+        new SortDocumentationExporter();
+    private final ConversionDocumentationExporter conversionDocumentationExporter =
+        new ConversionDocumentationExporter();
+    private final SequencedDocumentationExporter sequencedDocumentationExporter =
+        new SequencedDocumentationExporter();
+    private final OrderingDocumentationExporter orderingDocumentationExporter =
+        new OrderingDocumentationExporter();
+    private final ComparatorDocumentationExporter comparatorDocumentationExporter =
+        new ComparatorDocumentationExporter();
+    private final CallSiteDocumentationExporter callSiteDocumentationExporter =
+        new CallSiteDocumentationExporter();
+    private final ConcurrencyDocumentationExporter concurrencyDocumentationExporter =
+        new ConcurrencyDocumentationExporter();
+    private final QueueDocumentationExporter queueDocumentationExporter =
+        new QueueDocumentationExporter();
+    private final ProducerConsumerDocumentationExporter producerConsumerDocumentationExporter =
+        new ProducerConsumerDocumentationExporter();
+    private final EnumKeyDocumentationExporter enumKeyDocumentationExporter =
+        new EnumKeyDocumentationExporter();
+    private final MultiCollectionDocumentationExporter multiCollectionDocumentationExporter =
+        new MultiCollectionDocumentationExporter();
+    private final SortedLookupDocumentationExporter sortedLookupDocumentationExporter =
+        new SortedLookupDocumentationExporter();
 
     public void writeMarkdown(Collection<CollectionDocumentation> documentations, String filename) {
         StringBuilder sb = new StringBuilder();
@@ -58,6 +106,22 @@ public class DocumentationExporter {
         switch (documentation) {
             case ListDocumentation ld -> listDocumentationExporter.toMarkdown(sb, ld);
             case ListIteratorDocumentation lid -> listIteratorDocumentationExporter.toMarkdown(sb, lid);
+            case MapDocumentation md -> mapDocumentationExporter.toMarkdown(sb, md);
+            case GrowthDocumentation gd -> growthDocumentationExporter.toMarkdown(sb, gd);
+            case HashingDocumentation hd -> hashingDocumentationExporter.toMarkdown(sb, hd);
+            case IterationDocumentation id -> iterationDocumentationExporter.toMarkdown(sb, id);
+            case SortDocumentation sd -> sortDocumentationExporter.toMarkdown(sb, sd);
+            case ConversionDocumentation cd -> conversionDocumentationExporter.toMarkdown(sb, cd);
+            case SequencedDocumentation sd -> sequencedDocumentationExporter.toMarkdown(sb, sd);
+            case OrderingDocumentation od -> orderingDocumentationExporter.toMarkdown(sb, od);
+            case ComparatorDocumentation cd -> comparatorDocumentationExporter.toMarkdown(sb, cd);
+            case CallSiteDocumentation csd -> callSiteDocumentationExporter.toMarkdown(sb, csd);
+            case ConcurrencyDocumentation cd -> concurrencyDocumentationExporter.toMarkdown(sb, cd);
+            case QueueDocumentation qd -> queueDocumentationExporter.toMarkdown(sb, qd);
+            case ProducerConsumerDocumentation pcd -> producerConsumerDocumentationExporter.toMarkdown(sb, pcd);
+            case EnumKeyDocumentation ekd -> enumKeyDocumentationExporter.toMarkdown(sb, ekd);
+            case MultiCollectionDocumentation mcd -> multiCollectionDocumentationExporter.toMarkdown(sb, mcd);
+            case SortedLookupDocumentation sld -> sortedLookupDocumentationExporter.toMarkdown(sb, sld);
             default -> throw new UnsupportedOperationException("Unknown class: " + documentation.getClass());
         }
     }
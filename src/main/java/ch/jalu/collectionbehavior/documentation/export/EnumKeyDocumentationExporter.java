@@ -0,0 +1,48 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.EnumKeyDocumentation;
+import ch.jalu.collectionbehavior.documentation.EnumKeyedCost;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class EnumKeyDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, EnumKeyDocumentation doc) {
+        Map<String, List<EnumKeyedCost>> costsByType = doc.getCosts().stream()
+            .collect(Collectors.groupingBy(EnumKeyedCost::type, LinkedHashMap::new, Collectors.toList()));
+        List<EnumKeyedCost> firstCosts = costsByType.values().iterator().next();
+
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nEach collection contains every other constant of its enum. Lookups are made with all "
+            + "constants, so half of them are misses. The footprint is the memory retained by the collection, "
+            + "without the enum constants and the values.");
+
+        sb.append("\n\n## Classes\n\n| Type |");
+        firstCosts.forEach(cost -> sb.append(" ").append(cost.enumConstants()).append(" constants |"));
+        sb.append("\n|---|").append("---|".repeat(firstCosts.size()));
+        costsByType.forEach((type, costs) -> {
+            sb.append("\n| ").append(type).append(" |");
+            costs.forEach(cost -> sb.append(" ").append(cost.className()).append(" |"));
+        });
+
+        sb.append("\n\n## Footprint and speed\n\n| Type | Constants | Size | Footprint | `")
+            .append(doc.getLookupMethod()).append("` | Iteration per element |");
+        sb.append("\n|---|---|---|---|---|---|");
+        for (int i = 0; i < firstCosts.size(); ++i) {
+            for (List<EnumKeyedCost> costs : costsByType.values()) {
+                EnumKeyedCost cost = costs.get(i);
+                sb.append("\n| ").append(cost.type())
+                    .append(" | ").append(cost.enumConstants())
+                    .append(" | ").append(cost.size())
+                    .append(" | ").append(formatBytes(cost.retainedBytes()))
+                    .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.lookupNanos()))
+                    .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.iterationNanosPerElement()))
+                    .append(" |");
+            }
+        }
+    }
+}
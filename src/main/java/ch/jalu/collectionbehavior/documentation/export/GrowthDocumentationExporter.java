@@ -0,0 +1,67 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.GrowthDocumentation;
+import ch.jalu.collectionbehavior.documentation.GrowthMeasurement;
+import ch.jalu.collectionbehavior.documentation.ResizeEvent;
+
+import java.util.List;
+
+public class GrowthDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, GrowthDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+
+        GrowthMeasurement defaultGrowth = doc.getDefaultGrowth();
+        sb.append("\n## Growth with `").append(defaultGrowth.construction()).append("`");
+        addGrowthSummary(sb, defaultGrowth);
+
+        sb.append("\n");
+        addGrowthCurve(sb, defaultGrowth.resizeEvents());
+
+        sb.append("\n");
+        sb.append("\n## Presizing");
+        addPresizingComparison(sb, doc.getPresizingComparison());
+    }
+
+    private void addGrowthSummary(StringBuilder sb, GrowthMeasurement growth) {
+        List<ResizeEvent> resizeEvents = growth.resizeEvents();
+        ResizeEvent lastResize = resizeEvents.getLast();
+        int unusedSlots = lastResize.capacity() - growth.size();
+
+        sb.append("\n- ").append(resizeEvents.size()).append(" table allocations for ")
+            .append(growth.size()).append(" elements");
+        sb.append("\n- 🗑️ ").append(formatBytes(growth.discardedBytes()))
+            .append(" allocated for tables that were replaced by larger ones");
+        sb.append("\n- Up to ").append(unusedSlots).append(" unused slots at the end (capacity ")
+            .append(lastResize.capacity()).append(")");
+        sb.append("\n- Retained footprint: ").append(formatBytes(growth.retainedBytes()))
+            .append(" (excluding the elements)");
+    }
+
+    private void addGrowthCurve(StringBuilder sb, List<ResizeEvent> resizeEvents) {
+        sb.append("\nCapacities are derived from the table size, which is rounded up to the 8-byte object alignment: "
+            + "a capacity may be one more than the actual one.");
+        sb.append("\n\n| Elements | New capacity | Table size |");
+        sb.append("\n|---|---|---|");
+        for (ResizeEvent resizeEvent : resizeEvents) {
+            sb.append("\n| ").append(resizeEvent.size())
+                .append(" | ").append(resizeEvent.capacity())
+                .append(" | ").append(formatBytes(resizeEvent.tableBytes()))
+                .append(" |");
+        }
+    }
+
+    private void addPresizingComparison(StringBuilder sb, List<GrowthMeasurement> measurements) {
+        sb.append("\n| Elements | Construction | Table allocations | Discarded | Retained | Time |");
+        sb.append("\n|---|---|---|---|---|---|");
+        for (GrowthMeasurement measurement : measurements) {
+            sb.append("\n| ").append(measurement.size())
+                .append(" | `").append(measurement.construction()).append("`")
+                .append(" | ").append(measurement.resizeEvents().size())
+                .append(" | ").append(formatBytes(measurement.discardedBytes()))
+                .append(" | ").append(formatBytes(measurement.retainedBytes()))
+                .append(" | ").append(formatNanos(measurement.nanos()))
+                .append(" |");
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.documentation.HashCollisionMeasurement;
+import ch.jalu.collectionbehavior.documentation.HashingDocumentation;
+import ch.jalu.collectionbehavior.documentation.LatencyStats;
+import ch.jalu.collectionbehavior.documentation.ProbeLengthStats;
+import ch.jalu.collectionbehavior.documentation.ProbeLengthStats.Spread;
+
+import java.util.List;
+import java.util.Locale;
+
+public class HashingDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, HashingDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\n## Colliding hash codes");
+        addLookupBullet(sb, doc.getCollidingLookupComplexity());
+        addCreationBullet(sb, doc.getCollidingCreationComplexity());
+
+        sb.append("\n");
+        addCollisionMeasurements(sb, doc.getCollisionMeasurements());
+
+        if (doc.getProbeLengths() != null) {
+            sb.append("\n");
+            sb.append("\n## Probe lengths");
+            addProbeLengthBullets(sb, doc.getProbeLengths());
+            sb.append("\n");
+            addProbeLengths(sb, doc.getProbeLengths());
+        }
+    }
+
+    private void addLookupBullet(StringBuilder sb, Complexity lookupComplexity) {
+        switch (lookupComplexity) {
+            case CONSTANT -> sb.append("\n- ✅ Lookups stay fast when all keys have the same hash code");
+            case LINEAR -> sb.append("\n- ⚠️ Lookups degrade to O(n) when all keys have the same hash code");
+            case QUADRATIC -> sb.append("\n- ⚠️ Lookups degrade to O(n²) when all keys have the same hash code");
+        }
+    }
+
+    private void addCreationBullet(StringBuilder sb, Complexity creationComplexity) {
+        switch (creationComplexity) {
+            case CONSTANT, LINEAR -> sb.append("\n- ✅ Creation stays linear when all keys have the same hash code");
+            case QUADRATIC -> sb.append("\n- ⚠️ Creation degrades to O(n²) when all keys have the same hash code");
+        }
+    }
+
+    private void addCollisionMeasurements(StringBuilder sb, List<HashCollisionMeasurement> measurements) {
+        sb.append("\n| Keys | Size | Creation | Insert (median) | Insert (p99) | Lookup (median) | Lookup (p99) |");
+        sb.append("\n|---|---|---|---|---|---|---|");
+        for (HashCollisionMeasurement measurement : measurements) {
+            LatencyStats insertLatency = measurement.insertLatency();
+            sb.append("\n| ").append(measurement.collidingKeys() ? "Same hash code" : "Distinct hash codes")
+                .append(" | ").append(measurement.size())
+                .append(" | ").append(formatNanos(measurement.creationNanos()))
+                .append(" | ").append(insertLatency == null ? "-" : formatNanos(insertLatency.medianNanos()))
+                .append(" | ").append(insertLatency == null ? "-" : formatNanos(insertLatency.p99Nanos()))
+                .append(" | ").append(formatNanos(measurement.lookupLatency().medianNanos()))
+                .append(" | ").append(formatNanos(measurement.lookupLatency().p99Nanos()))
+                .append(" |");
+        }
+    }
+
+    private void addProbeLengthBullets(StringBuilder sb, List<ProbeLengthStats> probeLengths) {
+        sb.append("\nNumber of keys compared on a lookup; ranges show the lowest and highest value of several JVM runs.");
+        for (String keyType : probeLengths.stream().map(ProbeLengthStats::keyType).distinct().toList()) {
+            boolean isStable = probeLengths.stream()
+                .filter(stats -> stats.keyType().equals(keyType))
+                .allMatch(stats -> stats.meanHit().isStable() && stats.maxHit().isStable()
+                    && stats.meanMiss().isStable() && stats.maxMiss().isStable());
+            if (isStable) {
+                sb.append("\n- ✅ ").append(keyType).append(": probe lengths are the same in every JVM run");
+            } else {
+                sb.append("\n- ⚠️ ").append(keyType).append(": probe lengths vary between JVM runs");
+            }
+        }
+    }
+
+    private void addProbeLengths(StringBuilder sb, List<ProbeLengthStats> probeLengths) {
+        sb.append("\n| Keys | Size | Load factor | Hit (mean) | Hit (max) | Miss (mean) | Miss (max) |");
+        sb.append("\n|---|---|---|---|---|---|---|");
+        for (ProbeLengthStats stats : probeLengths) {
+            sb.append("\n| ").append(stats.keyType())
+                .append(" | ").append(stats.size())
+                .append(" | ").append(Double.isNaN(stats.loadFactor())
+                    ? "?" : String.format(Locale.ROOT, "%.2f", stats.loadFactor()))
+                .append(" | ").append(formatSpread(stats.meanHit(), "%.2f"))
+                .append(" | ").append(formatSpread(stats.maxHit(), "%.0f"))
+                .append(" | ").append(formatSpread(stats.meanMiss(), "%.2f"))
+                .append(" | ").append(formatSpread(stats.maxMiss(), "%.0f"))
+                .append(" |");
+        }
+    }
+
+    private static String formatSpread(Spread spread, String format) {
+        String min = String.format(Locale.ROOT, format, spread.min());
+        String max = String.format(Locale.ROOT, format, spread.max());
+        return min.equals(max) ? min : min + "–" + max;
+    }
+}
@@ -0,0 +1,39 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.IterationDocumentation;
+
+import java.util.Locale;
+
+public class IterationDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, IterationDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nIterator class: `").append(doc.getIteratorClass()).append("`");
+
+        switch (doc.getConsistency()) {
+            case FAIL_FAST -> sb.append(
+                "\n- ⚠️ Fail-fast: throws a ConcurrentModificationException if the collection is modified");
+            case WEAKLY_CONSISTENT -> sb.append(
+                "\n- ✅ Weakly consistent: may or may not reflect modifications made during the iteration");
+            case SNAPSHOT -> sb.append(
+                "\n- ✅ Snapshot: iterates over the elements at the time the iterator was created");
+            case UNMODIFIABLE -> sb.append(
+                "\n- ✅ Elements cannot be added or removed, so the iteration cannot be disrupted");
+        }
+
+        if (doc.getNanosPerElement() != null) {
+            sb.append("\n\n| Iteration | Time per element | Allocated per iteration |");
+            sb.append("\n|---|---|---|");
+            sb.append("\n| Single thread | ").append(formatNanosPerElement(doc.getNanosPerElement()))
+                .append(" | ").append(formatBytes(doc.getIteratorBytes())).append(" |");
+            if (doc.getNanosPerElementWithWriter() != null) {
+                sb.append("\n| With concurrent writer | ")
+                    .append(formatNanosPerElement(doc.getNanosPerElementWithWriter())).append(" | - |");
+            }
+        }
+    }
+
+    private static String formatNanosPerElement(double nanos) {
+        return String.format(Locale.ROOT, "%.2f ns", nanos);
+    }
+}
@@ -3,17 +3,28 @@ package ch.jalu.collectionbehavior.documentation.export;
 import ch.jalu.collectionbehavior.analysis.MethodSummarizer;
 import ch.jalu.collectionbehavior.analysis.MethodSummarizer.Summary;
 import ch.jalu.collectionbehavior.documentation.BackingStructureBehavior;
+import ch.jalu.collectionbehavior.documentation.BulkOperationCost;
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.documentation.CreationCost;
 import ch.jalu.collectionbehavior.documentation.ListDocumentation;
 import ch.jalu.collectionbehavior.documentation.MethodBehavior;
 import ch.jalu.collectionbehavior.documentation.ModifiableProperty;
 import ch.jalu.collectionbehavior.documentation.RandomAccessType;
+import ch.jalu.collectionbehavior.documentation.RemovalIdiomCost;
 import ch.jalu.collectionbehavior.documentation.Range;
 import ch.jalu.collectionbehavior.documentation.SpliteratorCharacteristic;
+import ch.jalu.collectionbehavior.documentation.StreamSourcingCost;
 import ch.jalu.collectionbehavior.documentation.Support;
 import com.google.common.base.Preconditions;
 
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.stream.Collectors;
 
 public class ListDocumentationExporter extends AbstrDocumentationExporter {
 
@@ -24,6 +35,7 @@ public class ListDocumentationExporter extends AbstrDocumentationExporter {
         sb.append("\n## General properties");
         addMutabilityBullets(sb, doc.getDoesNotRewrapItself(),
             doc.getModificationBehaviors(), doc.getBackingStructureBehaviors());
+        addCreationCostBullet(sb, doc.getCreationCost());
         addSizeRestrictionBullet(sb, doc.getSupportedSize());
         addNullElementBullet(sb, doc.getNullElementSupport());
         addNullParametersBullet(sb, doc.getSupportsNullArguments());
@@ -42,6 +54,24 @@ public class ListDocumentationExporter extends AbstrDocumentationExporter {
         sb.append("\n");
         sb.append("\n## Method behavior");
         addMethodSummary(sb, doc.getMethodBehaviors(), doc.getModificationBehaviors());
+
+        if (!doc.getBulkOperationCosts().isEmpty()) {
+            sb.append("\n");
+            sb.append("\n## Bulk operations");
+            addBulkOperationCosts(sb, doc.getBulkOperationCosts());
+        }
+
+        if (!doc.getRemovalIdiomCosts().isEmpty()) {
+            sb.append("\n");
+            sb.append("\n## Removing a range of elements");
+            addRemovalIdiomCosts(sb, doc.getRemovalIdiomCosts());
+        }
+
+        if (!doc.getStreamSourcingCosts().isEmpty()) {
+            sb.append("\n");
+            sb.append("\n## Collecting a stream of the list");
+            addStreamSourcingCosts(sb, doc.getSpliteratorCharacteristics(), doc.getStreamSourcingCosts());
+        }
     }
 
     // -------
@@ -81,6 +111,23 @@ public class ListDocumentationExporter extends AbstrDocumentationExporter {
         }
     }
 
+    private void addCreationCostBullet(StringBuilder sb, CreationCost creationCost) {
+        if (creationCost == null) {
+            return; // Not created from another structure
+        }
+
+        int largestSize = creationCost.allocatedBytesBySize().lastKey();
+        String measurement = formatBytes(creationCost.allocatedBytesBySize().get(largestSize)) + " allocated, "
+            + formatNanos(creationCost.nanosBySize().get(largestSize)) + " for " + largestSize + " elements";
+        switch (creationCost.complexity()) {
+            case CONSTANT -> sb.append("\n- ⚡ Wraps the original structure: created in constant time (")
+                .append(measurement).append(")");
+            case LINEAR -> sb.append("\n- \uD83D\uDCCB Copies the original structure: creation takes linear time (")
+                .append(measurement).append(")");
+            default -> throw new IllegalStateException("Unexpected creation complexity: " + creationCost.complexity());
+        }
+    }
+
     private void addSizeRestrictionBullet(StringBuilder sb, Range supportedSize) {
         if (supportedSize.min() == 0 && supportedSize.max() == null) {
             return; // Standard - nothing to write about
@@ -154,4 +201,138 @@ public class ListDocumentationExporter extends AbstrDocumentationExporter {
         }
 
     }
+
+    // ---------------
+    // Bulk operations
+    // ---------------
+
+    private void addBulkOperationCosts(StringBuilder sb, List<BulkOperationCost> costs) {
+        Map<String, List<BulkOperationCost>> costsByMethod = costs.stream()
+            .collect(Collectors.groupingBy(BulkOperationCost::methodName, LinkedHashMap::new, Collectors.toList()));
+        List<String> argumentTypes = costs.stream()
+            .map(BulkOperationCost::argumentType)
+            .distinct()
+            .toList();
+
+        sb.append("\n\n| Method | ")
+            .append(argumentTypes.stream().map(type -> type + " argument").collect(Collectors.joining(" | ")))
+            .append(" |");
+        sb.append("\n|---|").append("---|".repeat(argumentTypes.size()));
+        costsByMethod.forEach((method, methodCosts) -> {
+            sb.append("\n| ").append(method).append(" |");
+            methodCosts.forEach(cost -> sb.append(" ").append(formatBulkOperationCost(cost)).append(" |"));
+        });
+
+        costsByMethod.forEach((method, methodCosts) -> addBulkOperationWarning(sb, method, methodCosts));
+    }
+
+    private static String formatBulkOperationCost(BulkOperationCost cost) {
+        if (cost.exception() != null) {
+            return "⛔ " + cost.exception();
+        }
+        return formatComplexity(cost.complexity(), "O(n·m)", cost.nanosBySize());
+    }
+
+    private static String formatComplexity(Complexity complexity, String quadraticNotation,
+                                           SortedMap<Integer, Long> nanosBySize) {
+        int largestSize = nanosBySize.lastKey();
+        String measurement = formatNanos(nanosBySize.get(largestSize)) + " for " + largestSize;
+        if (complexity == null) {
+            // Only measured at the smallest size, as it already exceeded the time budget
+            return "⚠\uFE0F Unknown, larger sizes too slow to measure (" + measurement + ")";
+        }
+        return switch (complexity) {
+            case CONSTANT -> "O(1) (" + measurement + ")";
+            case LINEAR -> "O(n) (" + measurement + ")";
+            case QUADRATIC -> "⚠\uFE0F " + quadraticNotation + " (" + measurement + ")";
+        };
+    }
+
+    private static void addBulkOperationWarning(StringBuilder sb, String method, List<BulkOperationCost> costs) {
+        List<BulkOperationCost> quadraticCosts = costs.stream()
+            .filter(cost -> cost.complexity() == Complexity.QUADRATIC)
+            .toList();
+        if (quadraticCosts.isEmpty()) {
+            return;
+        }
+
+        // A single slow argument type is due to the argument's contains method; if fast lookups in HashSet or
+        // TreeSet are affected as well, the list itself is the bottleneck
+        if (quadraticCosts.size() > 1) {
+            String reason = "containsAll".equals(method)
+                ? "it calls this list's `contains` method for every element"
+                : "this list removes its elements one by one";
+            sb.append("\n- ⚠\uFE0F `").append(method).append("` is O(n·m) regardless of the argument type, as ")
+                .append(reason);
+        } else {
+            String fastArgumentTypes = costs.stream()
+                .filter(cost -> cost.complexity() == Complexity.CONSTANT || cost.complexity() == Complexity.LINEAR)
+                .map(BulkOperationCost::argumentType)
+                .collect(Collectors.joining(" or "));
+            sb.append("\n- ⚠\uFE0F `").append(method).append("` is O(n·m) with a ")
+                .append(quadraticCosts.getFirst().argumentType()).append(" argument: pass a ")
+                .append(fastArgumentTypes).append(" instead");
+        }
+    }
+
+    // --------------
+    // Removal idioms
+    // --------------
+
+    private void addRemovalIdiomCosts(StringBuilder sb, List<RemovalIdiomCost> costs) {
+        sb.append("\nRemoval of the middle half of the list:");
+        sb.append("\n\n| Idiom | Cost |");
+        sb.append("\n|---|---|");
+        for (RemovalIdiomCost cost : costs) {
+            sb.append("\n| `").append(cost.idiom()).append("` | ");
+            if (cost.exception() != null) {
+                sb.append("⛔ ").append(cost.exception());
+            } else {
+                sb.append(formatComplexity(cost.complexity(), "O(n²)", cost.nanosBySize()));
+            }
+            sb.append(" |");
+        }
+
+        List<RemovalIdiomCost> supportedCosts = costs.stream()
+            .filter(cost -> cost.exception() == null)
+            .toList();
+        if (supportedCosts.size() > 1) {
+            // Quadratic idioms are not measured at all sizes: compare at the largest size all idioms have
+            int comparisonSize = supportedCosts.stream()
+                .mapToInt(cost -> cost.nanosBySize().lastKey())
+                .min().getAsInt();
+            // Idioms without complexity were too slow to be measured beyond the first size
+            Comparator<RemovalIdiomCost> byComplexity = Comparator.comparing(RemovalIdiomCost::complexity,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+            RemovalIdiomCost fastest = supportedCosts.stream()
+                .min(byComplexity.thenComparing(cost -> cost.nanosBySize().get(comparisonSize)))
+                .get();
+            sb.append("\n- \uD83D\uDCA1 Fastest way to remove a range: `").append(fastest.idiom()).append("`");
+        }
+    }
+
+    // ---------------
+    // Stream sourcing
+    // ---------------
+
+    private void addStreamSourcingCosts(StringBuilder sb, Collection<SpliteratorCharacteristic> characteristics,
+                                        List<StreamSourcingCost> costs) {
+        if (characteristics.contains(SpliteratorCharacteristic.SIZED)) {
+            sb.append("\n- 📏 The spliterator is SIZED: `toArray()` and `toList()` allocate the result with the exact "
+                + "size");
+        } else {
+            sb.append("\n- 🔁 The spliterator is not SIZED: `toArray()` and `toList()` buffer the elements first");
+        }
+
+        int size = costs.getFirst().size();
+        sb.append("\n\n| Operation | Allocated for ").append(size).append(" elements | Relative to exact array | Time |");
+        sb.append("\n|---|---|---|---|");
+        for (StreamSourcingCost cost : costs) {
+            sb.append("\n| `").append(cost.operation()).append("` | ")
+                .append(formatBytes(cost.allocatedBytes())).append(" | ")
+                .append(cost.isPreallocated() ? "✅ " : "🔁 ")
+                .append(String.format(Locale.ROOT, "%.1f×", cost.getAllocationRatio())).append(" | ")
+                .append(formatNanos(cost.nanos())).append(" |");
+        }
+    }
 }
@@ -0,0 +1,174 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.BoxingCost;
+import ch.jalu.collectionbehavior.documentation.EntryIterationCost;
+import ch.jalu.collectionbehavior.documentation.MapDocumentation;
+import ch.jalu.collectionbehavior.documentation.ProbingLookupCost;
+import ch.jalu.collectionbehavior.documentation.StaleEntryCost;
+import ch.jalu.collectionbehavior.documentation.ViewCachingBehavior;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+public class MapDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, MapDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+
+        sb.append("\n## Entry iteration");
+        if (doc.getEntryIterationCosts().isEmpty()) {
+            if (doc.getEntryClass() != null) {
+                sb.append("\nThe entry set produces entries of type `").append(doc.getEntryClass()).append("`");
+            }
+            sb.append("\n- Allocations not measured: the map cannot have enough entries for the fixed cost of the "
+                + "iteration to be negligible");
+        } else {
+            addEntryIterationCosts(sb, doc.getEntryClass(), doc.getEntryIterationCosts());
+        }
+
+        sb.append("\n\n## View caching");
+        addViewCachingBehaviors(sb, doc.getViewCachingBehaviors());
+
+        if (!doc.getBoxingCosts().isEmpty()) {
+            sb.append("\n\n## Boxing");
+            addBoxingCosts(sb, doc.getBoxingCosts());
+        }
+
+        if (doc.getProbingLookupCosts() != null) {
+            sb.append("\n\n## Linear probing");
+            addProbingLookupCosts(sb, doc.getProbingLookupCosts());
+        }
+
+        if (doc.getStaleEntryCosts() != null) {
+            sb.append("\n\n## Stale entries");
+            addStaleEntryCosts(sb, doc.getStaleEntryCosts());
+        }
+    }
+
+    // ---------------
+    // Entry iteration
+    // ---------------
+
+    private void addEntryIterationCosts(StringBuilder sb, String entryClass, List<EntryIterationCost> costs) {
+        sb.append("\nThe entry set produces entries of type `").append(entryClass).append("`");
+
+        List<EntryIterationCost> allocationFreeCosts = costs.stream()
+            .filter(EntryIterationCost::isAllocationFree)
+            .toList();
+        if (allocationFreeCosts.size() == costs.size()) {
+            sb.append("\n- ✅ All iteration styles are allocation-free");
+        } else if (allocationFreeCosts.isEmpty()) {
+            sb.append("\n- ⚠️ All iteration styles allocate per entry");
+        } else {
+            sb.append("\n- 💡 Allocation-free: ").append(allocationFreeCosts.stream()
+                .map(cost -> "`" + cost.style() + "`")
+                .collect(Collectors.joining(", ")));
+        }
+
+        sb.append("\n\n| Iteration | Allocated per entry |");
+        sb.append("\n|---|---|");
+        for (EntryIterationCost cost : costs) {
+            sb.append("\n| `").append(cost.style()).append("` | ")
+                .append(String.format(Locale.ROOT, "%.1f B", cost.bytesPerEntry()))
+                .append(" |");
+        }
+    }
+
+    // ------------
+    // View caching
+    // ------------
+
+    private void addViewCachingBehaviors(StringBuilder sb, List<ViewCachingBehavior> behaviors) {
+        List<String> allocatingViews = behaviors.stream()
+            .filter(behavior -> !behavior.isAllocationFree())
+            .map(behavior -> "`" + behavior.view() + "`")
+            .toList();
+        if (allocatingViews.isEmpty()) {
+            sb.append("\n- ✅ No view allocates when it is requested");
+        } else {
+            sb.append("\n- ⚠️ New object on each call: ").append(String.join(", ", allocatingViews))
+                .append(" — keep the view in a local variable rather than calling the method in a loop");
+        }
+
+        sb.append("\n\n| View | Same instance | Allocated per call |");
+        sb.append("\n|---|---|---|");
+        for (ViewCachingBehavior behavior : behaviors) {
+            sb.append("\n| `").append(behavior.view()).append("` | ")
+                .append(behavior.cached() ? "✅" : "❌").append(" | ")
+                .append(String.format(Locale.ROOT, "%.1f B", behavior.bytesPerCall()))
+                .append(" |");
+        }
+    }
+
+    // ------
+    // Boxing
+    // ------
+
+    private void addBoxingCosts(StringBuilder sb, List<BoxingCost> costs) {
+        sb.append("\nBytes allocated per call with values inside (-128 to 127) and outside of the Integer cache.");
+        double maxBoxingBytes = costs.stream().mapToDouble(BoxingCost::boxingBytesPerCall).max().orElse(0);
+        if (maxBoxingBytes >= 1.0) {
+            sb.append("\n- 💡 Boxing allocates up to ").append(String.format(Locale.ROOT, "%.1f B", maxBoxingBytes))
+                .append(" per call with uncached values, which a map with primitive int values would avoid");
+        }
+
+        sb.append("\n\n| Operation | Cached values | Uncached values | Boxing share |");
+        sb.append("\n|---|---|---|---|");
+        for (BoxingCost cost : costs) {
+            sb.append("\n| `").append(cost.operation()).append("` | ")
+                .append(String.format(Locale.ROOT, "%.1f B", cost.cachedValueBytesPerCall())).append(" | ")
+                .append(String.format(Locale.ROOT, "%.1f B", cost.uncachedValueBytesPerCall())).append(" | ")
+                .append(String.format(Locale.ROOT, "%.0f%%", 100 * cost.boxingShare())).append(" |");
+        }
+    }
+
+    // --------------
+    // Linear probing
+    // --------------
+
+    private void addProbingLookupCosts(StringBuilder sb, List<ProbingLookupCost> costs) {
+        sb.append("\nTime per `get` just before and just after a resize, compared with a HashMap with the same keys.");
+        sb.append("\n- 💡 Keys are compared with `==` and hashed with `System.identityHashCode`, so lookups never "
+            + "call `equals` or `hashCode` of the keys");
+        sb.append("\n- ⚠️ Lookups of absent keys step over every taken slot until they reach an empty one, and "
+            + "get slower the fuller the table is");
+
+        sb.append("\n\n| Size | Load factor | Hit | Miss | HashMap hit | HashMap miss |");
+        sb.append("\n|---|---|---|---|---|---|");
+        for (ProbingLookupCost cost : costs) {
+            sb.append("\n| ").append(String.format(Locale.ROOT, "%,d", cost.size()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.2f", cost.loadFactor()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.hitNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.missNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.hashMapHitNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.hashMapMissNanos()))
+                .append(" |");
+        }
+    }
+
+    // -------------
+    // Stale entries
+    // -------------
+
+    private void addStaleEntryCosts(StringBuilder sb, List<StaleEntryCost> costs) {
+        sb.append("\nTime of the first and the next `get` after a garbage collection that cleared the keys of "
+            + "stale entries. The map also had ")
+            .append(String.format(Locale.ROOT, "%,d", costs.getFirst().liveEntries())).append(" live entries.");
+        sb.append("\n- ⚠️ Every method of the map first removes all stale entries, so the first call after a "
+            + "garbage collection pays for all keys that were collected, even a read such as `get` or `size`");
+        sb.append("\n- 💡 As a side table for metadata, call a cheap method such as `size()` off the hot path to "
+            + "remove stale entries, or prefer a cache that evicts incrementally");
+
+        sb.append("\n\n| Stale entries | First access | Next access | First access per stale entry |");
+        sb.append("\n|---|---|---|---|");
+        for (StaleEntryCost cost : costs) {
+            sb.append("\n| ").append(String.format(Locale.ROOT, "%,d", cost.staleEntries()))
+                .append(" | ").append(formatNanos(cost.firstAccessNanos()))
+                .append(" | ").append(formatNanos(cost.nextAccessNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns",
+                    (double) cost.firstAccessNanos() / cost.staleEntries()))
+                .append(" |");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.MultiCollectionCost;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionDocumentation;
+import ch.jalu.collectionbehavior.documentation.MultiCollectionMethodBehavior;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class MultiCollectionDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, MultiCollectionDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+
+        sb.append("\n## Method calls");
+        sb.append("\nEach call is made on a new instance with the initial contents; the cells show the return value "
+            + "and the contents after the call.");
+        addMethodBehaviors(sb, doc.getInitialContentsByType(), doc.getMethodBehaviorsByType());
+
+        sb.append("\n\n## Footprint and speed");
+        sb.append("\nAn entry is a ").append(doc.getEntryDescription()).append(". The footprint is the memory the "
+            + "collection retains without its keys and values.");
+        addCosts(sb, doc);
+    }
+
+    private void addMethodBehaviors(StringBuilder sb, Map<String, String> initialContentsByType,
+                                    Map<String, List<MultiCollectionMethodBehavior>> behaviorsByType) {
+        sb.append("\n\n| Call |");
+        behaviorsByType.keySet().forEach(type -> sb.append(" ").append(type).append(" |"));
+        sb.append("\n|---|").append("---|".repeat(behaviorsByType.size()));
+
+        sb.append("\n| _Initial contents_ |");
+        initialContentsByType.values().forEach(contents -> sb.append(" `").append(contents).append("` |"));
+
+        List<MultiCollectionMethodBehavior> firstBehaviors = behaviorsByType.values().iterator().next();
+        for (int i = 0; i < firstBehaviors.size(); ++i) {
+            int index = i;
+            sb.append("\n| `").append(firstBehaviors.get(index).call()).append("` |");
+            behaviorsByType.values()
+                .forEach(behaviors -> sb.append(" ").append(formatBehavior(behaviors.get(index))).append(" |"));
+        }
+    }
+
+    private static String formatBehavior(MultiCollectionMethodBehavior behavior) {
+        if (behavior.exception() != null) {
+            return "❌ " + behavior.exception();
+        }
+        return behavior.returnValue() == null
+            ? "`" + behavior.contents() + "`"
+            : "returns `" + behavior.returnValue() + "`: `" + behavior.contents() + "`";
+    }
+
+    private void addCosts(StringBuilder sb, MultiCollectionDocumentation doc) {
+        sb.append("\n\n| Type | Class | Entries | Footprint per entry | `").append(doc.getLookupMethod())
+            .append("` | `").append(doc.getIterationMethod()).append("` per entry |");
+        sb.append("\n|---|---|---|---|---|---|");
+        for (MultiCollectionCost cost : doc.getCosts()) {
+            sb.append("\n| ").append(cost.type())
+                .append(" | ").append(cost.className())
+                .append(" | ").append(String.format(Locale.ROOT, "%,d", cost.entries()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f B", cost.getRetainedBytesPerEntry()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.lookupNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.iterationNanosPerEntry()))
+                .append(" |");
+        }
+    }
+}
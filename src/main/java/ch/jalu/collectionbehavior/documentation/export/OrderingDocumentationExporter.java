@@ -0,0 +1,17 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.OrderingDocumentation;
+
+public class OrderingDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, OrderingDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+
+        if (doc.getRangeViewCosts() != null) {
+            sb.append("\n## Range views");
+            sb.append("\n`view` and sub views cover the middle half of the collection; head and tail views cover "
+                + "three quarters of it.");
+            addOperationCosts(sb, doc.getRangeViewCosts());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.LatencyHistogram;
+import ch.jalu.collectionbehavior.documentation.ProducerConsumerDocumentation;
+import ch.jalu.collectionbehavior.documentation.ProducerConsumerMeasurement;
+
+import java.util.Locale;
+import java.util.Set;
+
+public class ProducerConsumerDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, ProducerConsumerDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nLatency is the time from producing an item to consuming it. The histogram columns show the "
+            + "share of items by latency.");
+
+        Set<Long> upperBounds = doc.getMeasurements().getFirst().latency().countByUpperBoundNanos().keySet();
+        sb.append("\n\n| Topology | Threads | Consumer | Throughput | p50 | p99 | p99.9 |");
+        upperBounds.forEach(upperBound -> sb.append(" ").append(formatUpperBound(upperBound)).append(" |"));
+        sb.append("\n|---|---|---|---|---|---|---|").append("---|".repeat(upperBounds.size()));
+
+        for (ProducerConsumerMeasurement measurement : doc.getMeasurements()) {
+            LatencyHistogram latency = measurement.latency();
+            sb.append("\n| ").append(measurement.topology().getAbbreviation())
+                .append(" (").append(measurement.topology().getProducers())
+                .append(" → ").append(measurement.topology().getConsumers()).append(")")
+                .append(" | ").append(measurement.threadKind().getDescription())
+                .append(" | `").append(measurement.consumeMode().getCode()).append("`")
+                .append(" | ").append(formatPerSecond(measurement.itemsPerSecond()))
+                .append(" | ").append(formatNanos(latency.p50Nanos()))
+                .append(" | ").append(formatNanos(latency.p99Nanos()))
+                .append(" | ").append(formatNanos(latency.p999Nanos())).append(" |");
+            long total = latency.getTotalCount();
+            latency.countByUpperBoundNanos().values()
+                .forEach(count -> sb.append(" ").append(formatShare(count, total)).append(" |"));
+        }
+    }
+
+    private static String formatUpperBound(long upperBoundNanos) {
+        return upperBoundNanos == Long.MAX_VALUE ? "slower" : "≤ " + formatNanos(upperBoundNanos);
+    }
+
+    private static String formatShare(long count, long total) {
+        if (count == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.1f%%", 100.0 * count / total);
+    }
+}
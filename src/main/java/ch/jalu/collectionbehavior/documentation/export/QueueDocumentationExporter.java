@@ -0,0 +1,69 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.Complexity;
+import ch.jalu.collectionbehavior.documentation.OperationCost;
+import ch.jalu.collectionbehavior.documentation.QueueDocumentation;
+import ch.jalu.collectionbehavior.documentation.QueueMethodBehavior;
+import ch.jalu.collectionbehavior.documentation.Support;
+
+import java.util.List;
+import java.util.Locale;
+
+public class QueueDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, QueueDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nClass: `").append(doc.getQueueClass()).append("`");
+        addNullElementBullet(sb, doc.getNullElementSupport());
+        addCapacityBullet(sb, doc.getCapacity());
+
+        sb.append("\n");
+        sb.append("\n## Method behavior");
+        addMethodBehaviors(sb, doc.getMethodBehaviors());
+
+        sb.append("\n");
+        sb.append("\n## Cost of operations");
+        addSizeTraversalBullet(sb, doc.getOperationCosts());
+        addOperationCosts(sb, doc.getOperationCosts());
+    }
+
+    private static void addNullElementBullet(StringBuilder sb, Support nullElementSupport) {
+        switch (nullElementSupport) {
+            case YES -> sb.append("\n- ✅ Can have null elements: `poll()` and `peek()` cannot tell an empty queue "
+                + "from a null element");
+            case NO -> sb.append("\n- ❌ Does not support null elements");
+            case NOT_APPLICABLE -> { /* noop */ }
+            default -> throw new IllegalStateException("Unsupported entry: " + nullElementSupport);
+        }
+    }
+
+    private static void addCapacityBullet(StringBuilder sb, Integer capacity) {
+        if (capacity == null) {
+            sb.append("\n- Unbounded");
+        } else if (capacity == Integer.MAX_VALUE) {
+            sb.append("\n- No practical capacity limit: `remainingCapacity()` is Integer.MAX_VALUE");
+        } else {
+            sb.append("\n- ⚠️ Bounded: capacity is fixed on creation (")
+                .append(String.format(Locale.ROOT, "%,d", capacity)).append(" here)");
+        }
+    }
+
+    private static void addSizeTraversalBullet(StringBuilder sb, List<OperationCost> costs) {
+        boolean sizeTraversesElements = costs.stream()
+            .anyMatch(cost -> cost.method().equals("size()") && cost.complexity() != Complexity.CONSTANT);
+        if (sizeTraversesElements) {
+            sb.append("\n- ⚠️ `size()` counts the elements on every call: use `isEmpty()` to check for elements");
+        }
+    }
+
+    private static void addMethodBehaviors(StringBuilder sb, List<QueueMethodBehavior> behaviors) {
+        sb.append("\n\n| Queue | Method | Result |");
+        sb.append("\n|---|---|---|");
+        for (QueueMethodBehavior behavior : behaviors) {
+            sb.append("\n| ").append(behavior.queueState())
+                .append(" | `").append(behavior.call()).append("` | ")
+                .append(behavior.exception() ? "⛔ " + behavior.result() : "`" + behavior.result() + "`")
+                .append(" |");
+        }
+    }
+}
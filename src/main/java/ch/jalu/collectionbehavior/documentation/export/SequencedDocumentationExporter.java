@@ -0,0 +1,11 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.SequencedDocumentation;
+
+public class SequencedDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, SequencedDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        addOperationCosts(sb, doc.getOperationCosts());
+    }
+}
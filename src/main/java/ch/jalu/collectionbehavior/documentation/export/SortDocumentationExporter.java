@@ -0,0 +1,86 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.SortCost;
+import ch.jalu.collectionbehavior.documentation.SortDocumentation;
+import ch.jalu.collectionbehavior.documentation.SortInput;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+public class SortDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, SortDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+
+        List<SortCost> costs = doc.getSortCosts();
+        String exception = costs.getFirst().exception();
+        if (exception != null) {
+            sb.append("\n- ⛔ Cannot be sorted: throws ").append(exception);
+            return;
+        }
+
+        addAllocationBullets(sb, costs);
+        sb.append("\n");
+        addSortCosts(sb, costs);
+    }
+
+    private void addAllocationBullets(StringBuilder sb, List<SortCost> costs) {
+        double presortedBytesPerElement = costs.stream()
+            .filter(cost -> cost.input() == SortInput.PRESORTED)
+            .mapToDouble(SortDocumentationExporter::getBytesPerElementAtLargestSize)
+            .max()
+            .orElseThrow();
+        if (presortedBytesPerElement < 1.0) {
+            sb.append("\n- ✅ Sorts in place: no allocation proportional to the size if the input is presorted");
+        } else {
+            sb.append("\n- ⚠️ Copies the elements on each call: ")
+                .append(String.format(Locale.ROOT, "%.1f", presortedBytesPerElement))
+                .append(" B per element even if the input is presorted");
+        }
+
+        double maxBytesPerElement = costs.stream()
+            .mapToDouble(SortDocumentationExporter::getBytesPerElementAtLargestSize)
+            .max()
+            .orElseThrow();
+        sb.append("\n- Allocates up to ").append(String.format(Locale.ROOT, "%.1f", maxBytesPerElement))
+            .append(" B per element (random input needs a merge buffer)");
+    }
+
+    private static double getBytesPerElementAtLargestSize(SortCost cost) {
+        int size = cost.allocatedBytesBySize().lastKey();
+        return (double) cost.allocatedBytesBySize().get(size) / size;
+    }
+
+    private void addSortCosts(StringBuilder sb, List<SortCost> costs) {
+        SortedSet<Integer> sizes = new TreeSet<>();
+        costs.forEach(cost -> sizes.addAll(cost.nanosBySize().keySet()));
+
+        sb.append("\n| Comparator | Input |");
+        sizes.forEach(size -> sb.append(" ").append(String.format(Locale.ROOT, "%,d", size)).append(" |"));
+        sb.append("\n|---|---|");
+        sizes.forEach(size -> sb.append("---|"));
+
+        for (SortCost cost : costs) {
+            sb.append("\n| `").append(cost.comparator()).append("` | ").append(formatInput(cost.input())).append(" |");
+            for (int size : sizes) {
+                Long nanos = cost.nanosBySize().get(size);
+                if (nanos == null) {
+                    sb.append(" - |");
+                } else {
+                    sb.append(" ").append(formatNanos(nanos))
+                        .append(", ").append(formatBytes(cost.allocatedBytesBySize().get(size))).append(" |");
+                }
+            }
+        }
+    }
+
+    private static String formatInput(SortInput input) {
+        return switch (input) {
+            case PRESORTED -> "Presorted";
+            case REVERSED -> "Reversed";
+            case RANDOM -> "Random";
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package ch.jalu.collectionbehavior.documentation.export;
+
+import ch.jalu.collectionbehavior.documentation.SortedLookupCost;
+import ch.jalu.collectionbehavior.documentation.SortedLookupDocumentation;
+
+import java.util.Locale;
+
+public class SortedLookupDocumentationExporter extends AbstrDocumentationExporter {
+
+    public void toMarkdown(StringBuilder sb, SortedLookupDocumentation doc) {
+        sb.append("# ").append(doc.getDescription());
+        sb.append("\nEach type is created from input in random order. The footprint is the memory the collection "
+            + "retains without the elements it was created from. Half of the lookups are misses.");
+
+        sb.append("\n\n| Type | Class | Entries | Creation | Footprint per entry | `")
+            .append(doc.getLookupMethod()).append("` |");
+        sb.append("\n|---|---|---|---|---|---|");
+        for (SortedLookupCost cost : doc.getCosts()) {
+            sb.append("\n| ").append(cost.type())
+                .append(" | ").append(cost.className())
+                .append(" | ").append(String.format(Locale.ROOT, "%,d", cost.size()))
+                .append(" | ").append(formatNanos(cost.creationNanos()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f B", cost.getRetainedBytesPerEntry()))
+                .append(" | ").append(String.format(Locale.ROOT, "%.1f ns", cost.lookupNanos()))
+                .append(" |");
+        }
+    }
+}
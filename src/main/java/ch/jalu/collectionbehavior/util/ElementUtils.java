@@ -0,0 +1,60 @@
+package ch.jalu.collectionbehavior.util;
+
+/**
+ * Creates elements to populate collections with for measurements.
+ */
+public final class ElementUtils {
+
+    private ElementUtils() {
+    }
+
+    /**
+     * Creates the given number of distinct elements: "e0", "e1", ...
+     *
+     * @param size the number of elements to create
+     * @return array with distinct elements
+     */
+    public static String[] createElements(int size) {
+        String[] elements = new String[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = "e" + i;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates the given number of distinct Integer elements: 0, 1, ... Using integers allows to create millions
+     * of elements with a smaller footprint than strings.
+     *
+     * @param size the number of elements to create
+     * @return array with distinct elements
+     */
+    public static Integer[] createIntegerElements(int size) {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; ++i) {
+            elements[i] = i;
+        }
+        return elements;
+    }
+
+    /**
+     * Creates the given number of distinct elements which all have the same hash code. The elements are built
+     * from the blocks "Aa" and "BB", which have the same hash code, so any combination of the same number of
+     * blocks also has the same hash code.
+     *
+     * @param size the number of elements to create
+     * @return array with distinct elements of the same hash code
+     */
+    public static String[] createCollidingElements(int size) {
+        int blocks = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+        String[] elements = new String[size];
+        for (int i = 0; i < size; ++i) {
+            StringBuilder sb = new StringBuilder(2 * blocks);
+            for (int block = 0; block < blocks; ++block) {
+                sb.append((i & (1 << block)) == 0 ? "Aa" : "BB");
+            }
+            elements[i] = sb.toString();
+        }
+        return elements;
+    }
+}
@@ -0,0 +1,72 @@
+package ch.jalu.collectionbehavior.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs a class in a new JVM, e.g. to measure properties that depend on JVM-wide state such as hash seeds or
+ * identity hash codes.
+ */
+public final class ForkedJvmRunner {
+
+    /**
+     * Prefixes of the options of the current JVM that are passed on to the new one. Other options, e.g. agents of a
+     * debugger or profiler, would distort the measurements or prevent the new JVM from starting.
+     */
+    private static final List<String> INHERITED_JVM_OPTION_PREFIXES = List.of("--enable-preview", "-Xms", "-Xmx");
+
+    private ForkedJvmRunner() {
+    }
+
+    /**
+     * Runs the main method of the given class in a new JVM with the same class path as the current one, and returns
+     * what it wrote to standard output. Of the current JVM's options, only preview features and the heap size are
+     * passed on; any other option the class needs must be given explicitly.
+     *
+     * @param mainClass the class whose main method should be run
+     * @param additionalJvmOptions JVM options the class needs
+     * @param args the arguments to pass to the main method
+     * @return the lines written to standard output
+     */
+    public static List<String> run(Class<?> mainClass, List<String> additionalJvmOptions, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+            .filter(option -> INHERITED_JVM_OPTION_PREFIXES.stream().anyMatch(option::startsWith))
+            .forEach(command::add);
+        command.addAll(additionalJvmOptions);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.addAll(List.of(args));
+
+        try {
+            Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            List<String> output;
+            try (BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                output = reader.lines().toList();
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IllegalStateException("Forked JVM running " + mainClass.getName()
+                    + " exited with code " + exitCode);
+            }
+            return output;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to run " + mainClass.getName() + " in a new JVM", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for forked JVM", e);
+        }
+    }
+}
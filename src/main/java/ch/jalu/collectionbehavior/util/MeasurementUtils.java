@@ -0,0 +1,135 @@
+package ch.jalu.collectionbehavior.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Utilities to measure the time and the memory allocation of an operation.
+ * <p>
+ * Measurements are made on the current thread with {@link System#nanoTime()} and HotSpot's per-thread allocation
+ * counter. They are meant to show orders of magnitude and differences between types, not to replace a proper
+ * benchmark harness.
+ */
+public final class MeasurementUtils {
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final MemoryMXBean MEMORY_MX_BEAN = ManagementFactory.getMemoryMXBean();
+    private static final int RETAINED_BYTES_MEASUREMENTS = 5;
+
+    /** Receives results of measured operations so that the JIT cannot eliminate them. */
+    private static volatile Object sink;
+
+    private MeasurementUtils() {
+    }
+
+    /**
+     * Measures the given action: the setup is run before each measured run and is not part of the measurement.
+     * The result of the action is consumed so that its allocations cannot be optimized away.
+     *
+     * @param setup supplies the input for each run
+     * @param action the action to measure
+     * @param runs number of measured runs (a few additional runs are made beforehand as warm-up)
+     * @param <T> the input type
+     * @return measurement with the median time and the minimum number of allocated bytes of all runs
+     */
+    public static <T> Measurement measure(Supplier<T> setup, Function<T, ?> action, int runs) {
+        for (int i = 0; i < Math.min(runs, 3); ++i) {
+            consume(action.apply(setup.get()));
+        }
+
+        long[] nanos = new long[runs];
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < runs; ++i) {
+            T input = setup.get();
+            long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            Object result = action.apply(input);
+            nanos[i] = System.nanoTime() - start;
+            long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore;
+            consume(result);
+            minAllocatedBytes = Math.min(minAllocatedBytes, allocated);
+        }
+
+        Arrays.sort(nanos);
+        return new Measurement(nanos[runs / 2], minAllocatedBytes);
+    }
+
+    /**
+     * Measures how many bytes of the heap an object occupies, i.e. how much remains allocated after garbage
+     * collection. Several instances are created and kept, and the used heap is compared before and after; objects
+     * that the instances share with each other or with the caller (e.g. their elements) are not counted.
+     * <p>
+     * Other objects that become unreachable in the meantime (e.g. softly referenced caches that are cleared)
+     * distort a single measurement, so the median of several measurements is returned.
+     *
+     * @param creation creates a new instance
+     * @param instances the number of instances to create per measurement
+     * @return the average number of bytes retained per instance
+     */
+    public static long measureRetainedBytes(Supplier<?> creation, int instances) {
+        long[] bytesPerInstance = new long[RETAINED_BYTES_MEASUREMENTS];
+        for (int i = 0; i < bytesPerInstance.length; ++i) {
+            Object[] retained = new Object[instances];
+            long usedBefore = getUsedHeapAfterGc();
+            for (int j = 0; j < instances; ++j) {
+                retained[j] = creation.get();
+            }
+            long usedAfter = getUsedHeapAfterGc();
+            Reference.reachabilityFence(retained);
+            bytesPerInstance[i] = (usedAfter - usedBefore) / instances;
+        }
+
+        Arrays.sort(bytesPerInstance);
+        return bytesPerInstance[bytesPerInstance.length / 2];
+    }
+
+    /**
+     * Returns the value at the given percentile (nearest-rank method) of the given values.
+     *
+     * @param sortedValues the values, sorted in ascending order
+     * @param percentile the percentile to get, between 0 and 100
+     * @return the smallest value that is greater than or equal to the given percentage of all values
+     */
+    public static long getPercentile(long[] sortedValues, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sortedValues.length) - 1;
+        return sortedValues[Math.max(0, index)];
+    }
+
+    private static long getUsedHeapAfterGc() {
+        System.gc();
+        return MEMORY_MX_BEAN.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Returns the total number of bytes the current thread has allocated so far. Only the difference between two
+     * calls is meaningful.
+     *
+     * @return bytes allocated by the current thread
+     */
+    public static long getCurrentThreadAllocatedBytes() {
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Consumes the given object so that the computation producing it is not optimized away.
+     *
+     * @param result the result to consume
+     */
+    public static void consume(Object result) {
+        sink = result;
+    }
+
+    /**
+     * Result of a measurement.
+     *
+     * @param nanos the time the operation took, in nanoseconds
+     * @param allocatedBytes the number of bytes allocated by the operation
+     */
+    public record Measurement(long nanos, long allocatedBytes) {
+    }
+}
@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.RandomAccess;
 import java.util.SequencedCollection;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +35,7 @@ import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifi
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableByIteratorAndListIterator;
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableByReversedList;
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableBySubList;
+import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIteratorsAreUnmodifiableSnapshots;
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyListIsMutable;
 import static ch.jalu.collectionbehavior.verification.CollectionNullBehaviorVerifier.verifyRejectsNullArgInMethods;
 import static ch.jalu.collectionbehavior.verification.CollectionNullBehaviorVerifier.verifySupportsNullArgInMethods;
@@ -78,6 +80,19 @@ class ListTest {
             .createTests();
     }
 
+    /**
+     * {@link CopyOnWriteArrayList}: thread-safe modifiable List that copies its array on every modification.
+     * Fully supports null. Its iterators iterate over a snapshot and cannot modify the list.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_CopyOnWriteArrayList() {
+        return forListType(ListCreator.forMutableType(CopyOnWriteArrayList::new))
+            .expect(NullSupport.FULL, RandomAccessType.IMPLEMENTS)
+            .mutability(ModificationBehavior.mutable())
+            .hasSnapshotIterators()
+            .createTests();
+    }
+
     /**
      * {@link List#of(Object[])} produces an immutable list that does not support null,
      * even when null is called on {@link List#contains}.
@@ -222,6 +237,19 @@ class ListTest {
             .createTests();
     }
 
+    /**
+     * {@link Collections#synchronizedList} wraps a List into a facade that synchronizes on itself for every method
+     * call. Mutable, fully supports null. Implements RandomAccess only if the underlying List implements it, as
+     * {@link ArrayList} does here.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_Collections_synchronizedList() {
+        return forListType(ListCreator.forMutableType(() -> Collections.synchronizedList(new ArrayList<>())))
+            .expect(NullSupport.FULL, RandomAccessType.IMPLEMENTS)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
     /**
      * {@link Collections#singletonList(Object)} provides a list with a single given element. Immutable. Supports null.
      */
@@ -310,6 +338,7 @@ class ListTest {
         private RandomAccessType randomAccessType;
         private NullSupport nullSupport;
         private boolean skipsWrappingForOwnClass;
+        private boolean hasSnapshotIterators;
 
         private ModificationBehavior modificationBehavior;
         private ModificationBehavior modificationBehaviorSubList;
@@ -384,6 +413,17 @@ class ListTest {
             return this;
         }
 
+        /**
+         * Only applicable for mutable list types: defines that iterators iterate over a snapshot of the list and
+         * cannot modify it, as is the case for copy-on-write lists.
+         *
+         * @return this instance, for chaining
+         */
+        TestsGenerator hasSnapshotIterators() {
+            this.hasSnapshotIterators = true;
+            return this;
+        }
+
         /**
          * Creates the tests based on the expectations that were set to this generator.
          *
@@ -449,9 +489,12 @@ class ListTest {
          */
         private List<DynamicTest> createTestsForMutableAssertions() {
             List<String> emptyList = listCreator.createList();
+            DynamicTest iteratorTest = hasSnapshotIterators
+                ? dynamicTest("snapshotIterators", () -> verifyIteratorsAreUnmodifiableSnapshots(emptyList))
+                : dynamicTest("mutable_iterators", () -> verifyIsMutableByIteratorAndListIterator(emptyList));
             return List.of(
                 dynamicTest("mutable", () -> verifyListIsMutable(emptyList)),
-                dynamicTest("mutable_iterators", () -> verifyIsMutableByIteratorAndListIterator(emptyList)),
+                iteratorTest,
                 dynamicTest("mutable_subList", () -> verifyIsMutableBySubList(emptyList)),
                 dynamicTest("mutable_reversed", () -> verifyIsMutableByReversedList(emptyList)));
         }
@@ -14,6 +14,7 @@ import ch.jalu.collectionbehavior.verification.MapMutabilityVerifier;
 import ch.jalu.collectionbehavior.verification.MapNullBehaviorVerifier;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +34,9 @@ import java.util.SequencedMap;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -96,6 +101,58 @@ class MapTest {
             .createTests();
     }
 
+    /**
+     * {@link ConcurrentHashMap}: thread-safe hash map. Does not support null as key or value, not even as method
+     * argument. Removal of entries from the key set, values set or entry set is reflected to the actual Map, and
+     * unlike most maps, entries can also be added via the entry set.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_ConcurrentHashMap() {
+        return forMapType(MapCreator.forMutableType(ConcurrentHashMap::new))
+            .expect(NullSupport.REJECT, SetOrder.UNORDERED, MapInterfaceType.NONE)
+            .mutability(ModificationBehavior.mutable())
+            .entrySetSupportsAdd()
+            .createTests();
+    }
+
+    /**
+     * {@link ConcurrentSkipListMap}: thread-safe sorted map. Does not support null as key or value, not even as
+     * method argument. The entries returned by its iterators are snapshots whose value cannot be changed.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_ConcurrentSkipListMap() {
+        return forMapType(MapCreator.forMutableType(ConcurrentSkipListMap::new))
+            .expect(NullSupport.REJECT, SetOrder.SORTED, MapInterfaceType.NAVIGABLE_MAP)
+            .mutability(ModificationBehavior.mutable())
+            .entrySetEntriesAreImmutable()
+            .createTests();
+    }
+
+    /**
+     * {@link IdentityHashMap}: mutable map that compares keys by reference instead of {@link Object#equals}. Supports
+     * null values and null as key. Removal of entries from the key set, values set or entry set is reflected to the
+     * actual Map.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_IdentityHashMap() {
+        return forMapType(MapCreator.forMutableType(IdentityHashMap::new))
+            .expect(NullSupport.FULL, SetOrder.UNORDERED, MapInterfaceType.NONE)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
+    /**
+     * {@link WeakHashMap}: mutable hash map that only holds weak references to its keys, so that entries are removed
+     * once their key is garbage collected. Supports null values and null as key.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_WeakHashMap() {
+        return forMapType(MapCreator.forMutableType(WeakHashMap::new))
+            .expect(NullSupport.FULL, SetOrder.UNORDERED, MapInterfaceType.NONE)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
     /**
      * {@link Map#of} returns an immutable Map. Does not support null as value or key; even querying with null to
      * {@link Map#containsKey} results in an exception. Also throws an exception if there are duplicate keys when
@@ -341,6 +398,19 @@ class MapTest {
             .createTests();
     }
 
+    /**
+     * {@link ImmutableSortedMap#copyOf(Map)} copies a Map into an immutable Map sorted by the keys' natural order.
+     * Does not support null as key or values but accepts null in methods such as {@link Map#containsKey}.
+     */
+    @TestFactory
+    List<DynamicTest> guava_ImmutableSortedMap_copyOf() {
+        return forMapType(MapCreator.forMapBasedType(ImmutableSortedMap::copyOf))
+            .expect(NullSupport.ARGUMENTS, SetOrder.SORTED, MapInterfaceType.NAVIGABLE_MAP)
+            .mutability(ModificationBehavior.immutable().alwaysThrows())
+            .skipsWrappingForOwnClass()
+            .createTests();
+    }
+
     /**
      * {@link Collections#unmodifiableMap} wraps the original Map and provides an unmodifiable Map facade, i.e.
      * changes to the original map are reflected. Supports null as key and as values.
@@ -355,6 +425,19 @@ class MapTest {
             .createTests();
     }
 
+    /**
+     * {@link Collections#synchronizedMap} wraps the original Map into a facade that synchronizes on itself for every
+     * method call. Mutable, supports null as key and as values. Iteration order kept from the underlying map
+     * ({@link LinkedHashMap} here).
+     */
+    @TestFactory
+    List<DynamicTest> jdk_Collections_synchronizedMap() {
+        return forMapType(MapCreator.forMutableType(() -> Collections.synchronizedMap(new LinkedHashMap<>())))
+            .expect(NullSupport.FULL, SetOrder.INSERTION_ORDER, MapInterfaceType.NONE)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
     /**
      * {@link Collections#unmodifiableSequencedMap(SequencedMap)} wraps the original SequencedMap into an unmodifiable
      * SequencedMap facade, i.e. changes to the original map are reflected. Supports null as key and as values.
@@ -483,6 +566,8 @@ class MapTest {
         private MapInterfaceType mapInterfaceType;
         private boolean acceptsDuplicatesOnCreation = true;
         private boolean skipsWrappingForOwnClass;
+        private boolean entrySetEntriesAreModifiable = true;
+        private boolean entrySetSupportsAdd;
 
         private ModificationBehavior modificationBehavior;
         private ModificationBehavior modificationBehaviorKeySet;
@@ -577,6 +662,27 @@ class MapTest {
             return this;
         }
 
+        /**
+         * Only applicable for mutable map types: defines that the entries returned by the entry set's iterator are
+         * snapshots that cannot be modified, i.e. {@link Map.Entry#setValue} throws an exception.
+         *
+         * @return this instance, for chaining
+         */
+        TestsGenerator entrySetEntriesAreImmutable() {
+            this.entrySetEntriesAreModifiable = false;
+            return this;
+        }
+
+        /**
+         * Only applicable for mutable map types: defines that entries can be added to the map via its entry set.
+         *
+         * @return this instance, for chaining
+         */
+        TestsGenerator entrySetSupportsAdd() {
+            this.entrySetSupportsAdd = true;
+            return this;
+        }
+
         public List<DynamicTest> createTests() {
             return Stream.of(
                     createTestsForNullSupport(),
@@ -667,7 +773,8 @@ class MapTest {
                 dynamicTest("mutable_values",
                     () -> MapMutabilityVerifier.verifyMapValuesIsMutable(map)),
                 dynamicTest("mutable_entrySet",
-                    () -> MapMutabilityVerifier.verifyMapEntrySetIsMutable(map))));
+                    () -> MapMutabilityVerifier.verifyMapEntrySetIsMutable(map,
+                        entrySetEntriesAreModifiable, entrySetSupportsAdd))));
 
             if (map instanceof NavigableMap<String, Integer> navigableMap) {
                 tests.add(dynamicTest("mutable_NavigableMap",
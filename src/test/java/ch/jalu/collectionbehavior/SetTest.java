@@ -13,6 +13,7 @@ import ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier;
 import ch.jalu.collectionbehavior.verification.SetModificationVerifier;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSortedSet;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
@@ -30,6 +31,9 @@ import java.util.SequencedCollection;
 import java.util.SequencedSet;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -40,6 +44,8 @@ import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifi
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableByIterator;
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableByNavigableSetMethods;
 import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIsMutableBySequencedSetMethods;
+import static ch.jalu.collectionbehavior.verification.CollectionMutabilityVerifier.verifyIteratorsAreUnmodifiableSnapshots;
+import static ch.jalu.collectionbehavior.verification.CollectionNullBehaviorVerifier.verifyRejectsNullArgInContainsButNotInContainsAll;
 import static ch.jalu.collectionbehavior.verification.CollectionNullBehaviorVerifier.verifyRejectsNullArgInMethods;
 import static ch.jalu.collectionbehavior.verification.CollectionNullBehaviorVerifier.verifySupportsNullArgInMethods;
 import static ch.jalu.collectionbehavior.verification.SetModificationVerifier.testMethods;
@@ -108,6 +114,45 @@ class SetTest {
             .createTests();
     }
 
+    /**
+     * {@link ConcurrentSkipListSet}: thread-safe sorted Set. Does not support null, not even as method argument.
+     * Like TreeSet, it implements SequencedSet with implicit ordering.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_ConcurrentSkipListSet() {
+        return forSetType(SetCreator.forMutableType(ConcurrentSkipListSet::new))
+            .expect(NullSupport.REJECT, SetOrder.SORTED, SequencedSetType.IMPLEMENTS_W_IMPLICIT_ORDERING)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
+    /**
+     * {@link CopyOnWriteArraySet}: thread-safe Set backed by a {@link java.util.concurrent.CopyOnWriteArrayList}.
+     * Keeps insertion order and fully supports null, but does not implement SequencedSet. Its iterators iterate
+     * over a snapshot and cannot remove elements.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_CopyOnWriteArraySet() {
+        return forSetType(SetCreator.forMutableType(CopyOnWriteArraySet::new))
+            .expect(NullSupport.FULL, SetOrder.INSERTION_ORDER, SequencedSetType.DOES_NOT_IMPLEMENT)
+            .mutability(ModificationBehavior.mutable())
+            .hasSnapshotIterators()
+            .createTests();
+    }
+
+    /**
+     * {@link ConcurrentHashMap#newKeySet}: thread-safe hash Set backed by a ConcurrentHashMap. Does not support
+     * null, not even as argument to {@link Set#contains}; {@link Set#containsAll} returns false for null, though.
+     */
+    @TestFactory
+    List<DynamicTest> jdk_ConcurrentHashMap_newKeySet() {
+        return forSetType(SetCreator.forMutableType(ConcurrentHashMap::newKeySet))
+            .expect(NullSupport.REJECT, SetOrder.UNORDERED, SequencedSetType.DOES_NOT_IMPLEMENT)
+            .mutability(ModificationBehavior.mutable())
+            .containsAllAcceptsNull()
+            .createTests();
+    }
+
     /**
      * {@link Set#of(Object[])} produces an immutable Set. Does not support null (not even for {@link Set#contains}
      * etc.). Throws an exception if any element is passed in twice. Random iteration order.
@@ -168,6 +213,19 @@ class SetTest {
             .createTests();
     }
 
+    /**
+     * {@link ImmutableSortedSet#copyOf(Comparable[])} produces an immutable Set sorted by the elements' natural order.
+     * Does not support null as elements but accepts null in methods such as {@link Set#contains}. Can be
+     * instantiated with duplicates.
+     */
+    @TestFactory
+    List<DynamicTest> guava_ImmutableSortedSet() {
+        return forSetType(SetCreator.forArrayBasedType(ImmutableSortedSet::copyOf))
+            .expect(NullSupport.ARGUMENTS, SetOrder.SORTED, SequencedSetType.IMPLEMENTS_W_IMPLICIT_ORDERING)
+            .mutability(ModificationBehavior.immutable().alwaysThrows())
+            .createTests();
+    }
+
     /**
      * {@link Collections#emptySet()} always returns the same instance: immutable empty Set.
      */
@@ -195,6 +253,18 @@ class SetTest {
             .createTests();
     }
 
+    /**
+     * {@link Collections#synchronizedSet} wraps a Set into a facade that synchronizes on itself for every method call.
+     * Mutable, fully supports null. Iteration order kept from underlying collection ({@link LinkedHashSet} here).
+     */
+    @TestFactory
+    List<DynamicTest> jdk_Collections_synchronizedSet() {
+        return forSetType(SetCreator.forMutableType(() -> Collections.synchronizedSet(new LinkedHashSet<>())))
+            .expect(NullSupport.FULL, SetOrder.INSERTION_ORDER, SequencedSetType.DOES_NOT_IMPLEMENT)
+            .mutability(ModificationBehavior.mutable())
+            .createTests();
+    }
+
     /**
      * {@link Collections#unmodifiableSequencedSet(SequencedSet)} wraps a sequenced set into an unmodifiable sequenced
      * set facade. Changes to the backing collection are reflected. Supports null as elements.
@@ -297,6 +367,8 @@ class SetTest {
         private SequencedSetType sequencedSetType;
         private boolean acceptsDuplicatesOnCreation = true;
         private boolean skipsWrappingForOwnClass;
+        private boolean hasSnapshotIterators;
+        private boolean containsAllAcceptsNull;
 
         private ModificationBehavior modificationBehavior;
 
@@ -356,6 +428,28 @@ class SetTest {
             return this;
         }
 
+        /**
+         * Only applicable for mutable set types: defines that iterators iterate over a snapshot of the set and
+         * cannot modify it, as is the case for copy-on-write sets.
+         *
+         * @return this instance, for chaining
+         */
+        TestsGenerator hasSnapshotIterators() {
+            this.hasSnapshotIterators = true;
+            return this;
+        }
+
+        /**
+         * Only applicable for sets that reject null arguments: defines that {@link Set#containsAll} returns false
+         * instead of throwing an exception if the given collection contains null.
+         *
+         * @return this instance, for chaining
+         */
+        TestsGenerator containsAllAcceptsNull() {
+            this.containsAllAcceptsNull = true;
+            return this;
+        }
+
         List<DynamicTest> createTests() {
             return Stream.of(
                     createTestsForNullSupport(),
@@ -381,7 +475,7 @@ class SetTest {
 
                 case REJECT -> List.of(
                     testLogic.mayNotContainNull(),
-                    testLogic.rejectsNullMethodArgs());
+                    testLogic.rejectsNullMethodArgs(containsAllAcceptsNull));
             };
 
             if (setCreator.getSizeLimit() == 0) {
@@ -448,8 +542,13 @@ class SetTest {
             List<DynamicTest> testsToRun = new ArrayList<>();
             testsToRun.add(dynamicTest("mutable",
                 () -> CollectionMutabilityVerifier.verifySetIsMutable(emptyList)));
-            testsToRun.add(dynamicTest("mutable_iterator",
-                () -> verifyIsMutableByIterator(emptyList)));
+            if (hasSnapshotIterators) {
+                testsToRun.add(dynamicTest("snapshotIterator",
+                    () -> verifyIteratorsAreUnmodifiableSnapshots(emptyList)));
+            } else {
+                testsToRun.add(dynamicTest("mutable_iterator",
+                    () -> verifyIsMutableByIterator(emptyList)));
+            }
 
             if (emptyList instanceof SequencedSet<String> seqSet) {
                 boolean removeOnly = sequencedSetType == SequencedSetType.IMPLEMENTS_W_IMPLICIT_ORDERING;
@@ -525,7 +624,11 @@ class SetTest {
                 () -> verifySupportsNullArgInMethods(setCreator.createSet()));
         }
 
-        DynamicTest rejectsNullMethodArgs() {
+        DynamicTest rejectsNullMethodArgs(boolean containsAllAcceptsNull) {
+            if (containsAllAcceptsNull) {
+                return dynamicTest("rejectsNullMethodArgs_exceptContainsAll",
+                    () -> verifyRejectsNullArgInContainsButNotInContainsAll(setCreator.createSet()));
+            }
             return dynamicTest("rejectsNullMethodArgs",
                 () -> verifyRejectsNullArgInMethods(setCreator.createSet()));
         }
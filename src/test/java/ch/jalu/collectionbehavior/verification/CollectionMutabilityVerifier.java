@@ -20,6 +20,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -132,6 +133,37 @@ public final class CollectionMutabilityVerifier {
         list.clear();
     }
 
+    /**
+     * Verifies that the iterators of the given collection iterate over a snapshot of the collection, and that
+     * they cannot modify it, as is the case for copy-on-write collections.
+     *
+     * @param collection empty collection to test, which keeps insertion order
+     */
+    public static void verifyIteratorsAreUnmodifiableSnapshots(Collection<String> collection) {
+        assertThat(collection, empty()); // Validate method contract
+
+        collection.add("north");
+        collection.add("west");
+        Iterator<String> iterator = collection.iterator();
+        collection.add("east");
+
+        assertThat(iterator.next(), equalTo("north"));
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertThat(iterator.next(), equalTo("west"));
+        assertThat(iterator.hasNext(), equalTo(false)); // "east" was added after the iterator was created
+
+        if (collection instanceof List<String> list) {
+            ListIterator<String> listIterator = list.listIterator();
+            listIterator.next();
+            assertThrows(UnsupportedOperationException.class, () -> listIterator.add("foo"));
+            assertThrows(UnsupportedOperationException.class, () -> listIterator.set("foo"));
+            assertThrows(UnsupportedOperationException.class, listIterator::remove);
+        }
+
+        assertThat(collection, contains("north", "west", "east"));
+        collection.clear();
+    }
+
     /**
      * Verifies that the given Set is mutable (incl. verification that it can be modified via iterator).
      *
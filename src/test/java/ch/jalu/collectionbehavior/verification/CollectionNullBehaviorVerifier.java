@@ -78,4 +78,18 @@ public final class CollectionNullBehaviorVerifier {
         // no exception will be thrown
         assertThat(set.containsAll(Arrays.asList("qqqq", null)), equalTo(false));
     }
+
+    /**
+     * Verifies that a NullPointerException is thrown if null is supplied to {@link Set#contains}, whereas
+     * {@link Set#containsAll} returns false for a collection with null, as is done by the key sets of
+     * ConcurrentHashMap.
+     *
+     * @param set the set to test
+     */
+    public static void verifyRejectsNullArgInContainsButNotInContainsAll(Set<String> set) {
+        assertThrows(NullPointerException.class, () -> set.contains(null));
+
+        List<String> listWithNull = Collections.singletonList(null);
+        assertThat(set.containsAll(listWithNull), equalTo(false));
+    }
 }
@@ -96,6 +96,18 @@ public final class MapMutabilityVerifier {
     }
 
     public static void verifyMapEntrySetIsMutable(Map<String, Integer> map) {
+        verifyMapEntrySetIsMutable(map, true, false);
+    }
+
+    /**
+     * Verifies that the map can be modified via its entry set.
+     *
+     * @param map empty map to test
+     * @param entriesAreModifiable whether entries returned by the entry set's iterator can change the map's values
+     * @param supportsAdd whether entries can be added to the map via the entry set
+     */
+    public static void verifyMapEntrySetIsMutable(Map<String, Integer> map, boolean entriesAreModifiable,
+                                                  boolean supportsAdd) {
         assertThat(map, anEmptyMap()); // Validate method contract
         map.putAll(Map.of("a", 1, "b", 2, "c", 3, "d", 4));
 
@@ -107,12 +119,23 @@ public final class MapMutabilityVerifier {
         assertThat(map, equalTo(Map.of("d", 4)));
 
         Map.Entry<String, Integer> entry = entrySet.iterator().next();
-        entry.setValue(7);
-        assertThat(map, equalTo(Map.of("d", 7)));
+        if (entriesAreModifiable) {
+            entry.setValue(7);
+            assertThat(map, equalTo(Map.of("d", 7)));
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> entry.setValue(7));
+            assertThat(map, equalTo(Map.of("d", 4)));
+        }
 
         entrySet.clear();
         assertThat(map, anEmptyMap());
-        assertThrows(UnsupportedOperationException.class, () -> entrySet.add(Map.entry("z", 7)));
+        if (supportsAdd) {
+            entrySet.add(Map.entry("z", 7));
+            assertThat(map, equalTo(Map.of("z", 7)));
+            entrySet.clear();
+        } else {
+            assertThrows(UnsupportedOperationException.class, () -> entrySet.add(Map.entry("z", 7)));
+        }
     }
 
     public static void verifyMapIsMutableBySortedMapValues(SortedMap<String, Integer> map) {